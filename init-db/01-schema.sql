@@ -12,11 +12,18 @@ CREATE TABLE tourist_spots
     address         VARCHAR(500),
     latitude        DECIMAL(10, 8) NOT NULL,
     longitude       DECIMAL(11, 8) NOT NULL,
+    lat_sin         DOUBLE,              -- sin(radians(latitude)), 애플리케이션에서 갱신
+    lat_cos         DOUBLE,              -- cos(radians(latitude))
+    lng_rad         DOUBLE,              -- radians(longitude)
     description     TEXT,
     image_url       VARCHAR(500),
     category        VARCHAR(100),
     phone           VARCHAR(50),
     operating_hours VARCHAR(200),
+    content_hash    VARCHAR(64),         -- 비짓제주 동기화 비교용 SHA-256
+    source          VARCHAR(20),         -- 행을 넣은 쪽 (csv / visitjeju, 기존 행은 NULL)
+    active          BOOLEAN        NOT NULL DEFAULT TRUE, -- FALSE 면 조회 제외 (CSV 에서 빠진 관광지)
+    last_imported_at TIMESTAMP NULL,     -- 마지막으로 이 행이 들어 있던 CSV 가져오기 시각 (정리 기준)
     created_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
@@ -0,0 +1,29 @@
+-- init-db/05-tourist-spot-trig-columns.sql
+-- 기존 DB용 마이그레이션: 거리 계산용 미리 계산된 컬럼 추가 및 채우기
+-- (신규 설치는 01-schema.sql 에 이미 포함되어 있으므로 컬럼이 없을 때만 추가)
+
+USE jeju_audio_guide;
+
+SET @has_trig_columns := (SELECT COUNT(*)
+                          FROM information_schema.COLUMNS
+                          WHERE TABLE_SCHEMA = DATABASE()
+                            AND TABLE_NAME = 'tourist_spots'
+                            AND COLUMN_NAME = 'lat_sin');
+
+SET @ddl := IF(@has_trig_columns = 0,
+               'ALTER TABLE tourist_spots
+                    ADD COLUMN lat_sin DOUBLE AFTER longitude,
+                    ADD COLUMN lat_cos DOUBLE AFTER lat_sin,
+                    ADD COLUMN lng_rad DOUBLE AFTER lat_cos',
+               'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+UPDATE tourist_spots
+SET lat_sin = SIN(RADIANS(latitude)),
+    lat_cos = COS(RADIANS(latitude)),
+    lng_rad = RADIANS(longitude)
+WHERE lat_sin IS NULL OR lat_cos IS NULL OR lng_rad IS NULL;
+
+SELECT 'tourist_spots 거리 계산 컬럼 추가 완료' as status;
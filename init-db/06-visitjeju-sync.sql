@@ -0,0 +1,33 @@
+-- init-db/06-visitjeju-sync.sql
+-- 비짓제주 증분 동기화: 변경 비교용 해시 컬럼 + 분류별 진행 상황(체크포인트)
+-- (신규 설치는 01-schema.sql 에 content_hash 가 이미 포함되어 있으므로 컬럼이 없을 때만 추가)
+
+USE jeju_audio_guide;
+
+SET @has_content_hash := (SELECT COUNT(*)
+                          FROM information_schema.COLUMNS
+                          WHERE TABLE_SCHEMA = DATABASE()
+                            AND TABLE_NAME = 'tourist_spots'
+                            AND COLUMN_NAME = 'content_hash');
+
+SET @ddl := IF(@has_content_hash = 0,
+               'ALTER TABLE tourist_spots ADD COLUMN content_hash VARCHAR(64) AFTER operating_hours',
+               'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+CREATE TABLE IF NOT EXISTS visitjeju_sync_checkpoint
+(
+    name          VARCHAR(50) PRIMARY KEY,  -- 예: catalogue:c1
+    status        VARCHAR(20) NOT NULL,     -- RUNNING / COMPLETED
+    last_page     INT         NOT NULL DEFAULT 0,
+    page_count    INT         NOT NULL DEFAULT 0,
+    created_count BIGINT      NOT NULL DEFAULT 0,
+    updated_count BIGINT      NOT NULL DEFAULT 0,
+    started_at    TIMESTAMP NULL,
+    updated_at    TIMESTAMP NULL,
+    completed_at  TIMESTAMP NULL
+);
+
+SELECT 'visitjeju 동기화 테이블 준비 완료' as status;
@@ -0,0 +1,23 @@
+-- init-db/07-tourist-spot-source.sql
+-- CSV 가져오기 정리용: 행 출처(source) + 활성 여부(active) 컬럼
+-- (신규 설치는 01-schema.sql 에 이미 포함되어 있으므로 컬럼이 없을 때만 추가)
+-- 기존 행은 source 가 NULL 이라 정리 대상이 아니며, 다음 CSV 가져오기에 포함되면 'csv' 로 바뀐다.
+
+USE jeju_audio_guide;
+
+SET @has_source := (SELECT COUNT(*)
+                    FROM information_schema.COLUMNS
+                    WHERE TABLE_SCHEMA = DATABASE()
+                      AND TABLE_NAME = 'tourist_spots'
+                      AND COLUMN_NAME = 'source');
+
+SET @ddl := IF(@has_source = 0,
+               'ALTER TABLE tourist_spots
+                    ADD COLUMN source VARCHAR(20) AFTER operating_hours,
+                    ADD COLUMN active BOOLEAN NOT NULL DEFAULT TRUE AFTER source',
+               'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SELECT 'tourist_spots 출처/활성 컬럼 추가 완료' as status;
@@ -0,0 +1,22 @@
+-- init-db/08-tourist-spot-last-imported.sql
+-- CSV 가져오기 정리용: 마지막으로 파일에 있던 시각(last_imported_at) 컬럼
+-- (신규 설치는 01-schema.sql 에 이미 포함되어 있으므로 컬럼이 없을 때만 추가)
+-- 기존 행은 NULL 이라 다음 가져오기에 파일에 없으면 정리 대상이 된다 (지금까지의 updated_at 기준과 같다).
+
+USE jeju_audio_guide;
+
+SET @has_last_imported := (SELECT COUNT(*)
+                           FROM information_schema.COLUMNS
+                           WHERE TABLE_SCHEMA = DATABASE()
+                             AND TABLE_NAME = 'tourist_spots'
+                             AND COLUMN_NAME = 'last_imported_at');
+
+SET @ddl := IF(@has_last_imported = 0,
+               'ALTER TABLE tourist_spots
+                    ADD COLUMN last_imported_at TIMESTAMP NULL AFTER active',
+               'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SELECT 'tourist_spots 가져오기 시각 컬럼 추가 완료' as status;
@@ -7,6 +7,7 @@ mysql.connector 사용 (시스템에 기본 설치됨)
 
 import csv
 import logging
+import math
 import os
 from datetime import datetime
 from typing import List, Dict, Any
@@ -158,6 +159,10 @@ class MinimalJejuImporter:
                     'address': address,
                     'latitude': lat,
                     'longitude': lng,
+                    # 거리 계산용 미리 계산된 값 (TouristSpot.syncTrigColumns 와 동일)
+                    'lat_sin': math.sin(math.radians(lat)),
+                    'lat_cos': math.cos(math.radians(lat)),
+                    'lng_rad': math.radians(lng),
                     'description': f"{name}은(는) 제주도의 아름다운 관광지입니다.",
                     'category': '관광지'
                 }
@@ -193,8 +198,9 @@ class MinimalJejuImporter:
 
             insert_query = """
             INSERT INTO tourist_spots 
-            (external_id, name, address, latitude, longitude, description, category, created_at, updated_at)
-            VALUES (%s, %s, %s, %s, %s, %s, %s, NOW(), NOW())
+            (external_id, name, address, latitude, longitude, lat_sin, lat_cos, lng_rad,
+             description, category, created_at, updated_at)
+            VALUES (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, NOW(), NOW())
             """
 
             success_count = 0
@@ -206,6 +212,9 @@ class MinimalJejuImporter:
                         item['address'],
                         item['latitude'],
                         item['longitude'],
+                        item['lat_sin'],
+                        item['lat_cos'],
+                        item['lng_rad'],
                         item['description'],
                         item['category']
                     ))
@@ -0,0 +1,87 @@
+package com.mycompany.goormthonserver.benchmark;
+
+import com.mycompany.goormthonserver.common.util.GeoPoint;
+import com.mycompany.goormthonserver.common.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건의 좌표 처리 비용 비교 (파싱 → 범위 검증 → 후보 거리 계산)
+ * - bigDecimal: 기존 경로 (BigDecimal 파라미터, compareTo(valueOf(..)) 검증, Double 박싱)
+ * - primitive : GeoPoint / double 경로
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 요청당 할당 바이트를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CoordinatePathBenchmark {
+
+    private static final int CANDIDATES = 64;
+
+    private String latitudeParam;
+    private String longitudeParam;
+    private BigDecimal[] candidateLatDecimals;
+    private BigDecimal[] candidateLngDecimals;
+    private double[] candidateLats;
+    private double[] candidateLngs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        latitudeParam = "33.4996213";
+        longitudeParam = "126.5311884";
+        candidateLatDecimals = new BigDecimal[CANDIDATES];
+        candidateLngDecimals = new BigDecimal[CANDIDATES];
+        candidateLats = new double[CANDIDATES];
+        candidateLngs = new double[CANDIDATES];
+        for (int i = 0; i < CANDIDATES; i++) {
+            // 제주도 범위, DECIMAL(10,8) / DECIMAL(11,8) 과 같은 자릿수
+            candidateLatDecimals[i] = BigDecimal.valueOf(33.1 + random.nextDouble() * 0.5).setScale(8, RoundingMode.HALF_UP);
+            candidateLngDecimals[i] = BigDecimal.valueOf(126.1 + random.nextDouble() * 0.9).setScale(8, RoundingMode.HALF_UP);
+            candidateLats[i] = candidateLatDecimals[i].doubleValue();
+            candidateLngs[i] = candidateLngDecimals[i].doubleValue();
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        BigDecimal latitude = new BigDecimal(latitudeParam);
+        BigDecimal longitude = new BigDecimal(longitudeParam);
+        if (latitude.compareTo(BigDecimal.valueOf(-90)) < 0 ||
+                latitude.compareTo(BigDecimal.valueOf(90)) > 0 ||
+                longitude.compareTo(BigDecimal.valueOf(-180)) < 0 ||
+                longitude.compareTo(BigDecimal.valueOf(180)) > 0) {
+            return;
+        }
+        for (int i = 0; i < CANDIDATES; i++) {
+            Double distance = GeoUtils.distanceKm(latitude.doubleValue(), longitude.doubleValue(),
+                    candidateLatDecimals[i].doubleValue(), candidateLngDecimals[i].doubleValue());
+            blackhole.consume(distance);
+        }
+    }
+
+    @Benchmark
+    public void primitive(Blackhole blackhole) {
+        double latitude = Double.parseDouble(latitudeParam);
+        double longitude = Double.parseDouble(longitudeParam);
+        if (!GeoPoint.isValid(latitude, longitude)) {
+            return;
+        }
+        GeoPoint location = new GeoPoint(latitude, longitude);
+        for (int i = 0; i < CANDIDATES; i++) {
+            double distance = location.distanceKm(candidateLats[i], candidateLngs[i]);
+            blackhole.consume(distance);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.mycompany.goormthonserver.benchmark;
+
+import com.mycompany.goormthonserver.common.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 관광지에 대한 거리 계산 (한 번의 전체 스캔)
+ * - raw        : 매번 위경도를 라디안 변환 후 sin/cos 계산
+ * - precomputed: lat_sin / lat_cos / lng_rad 를 미리 계산해 둔 경우 (DB 컬럼, 인메모리 인덱스와 동일)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoDistanceBenchmark {
+
+    // 제주시청
+    private static final double QUERY_LAT = 33.4996213;
+    private static final double QUERY_LNG = 126.5311884;
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[] sinLats;
+    private double[] cosLats;
+    private double[] radLngs;
+
+    @Setup
+    public void setUp() {
+        List<SampleData.Spot> spots = SampleData.spots();
+        int size = spots.size();
+        latitudes = new double[size];
+        longitudes = new double[size];
+        sinLats = new double[size];
+        cosLats = new double[size];
+        radLngs = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = spots.get(i).latitude();
+            longitudes[i] = spots.get(i).longitude();
+            double radLat = Math.toRadians(latitudes[i]);
+            sinLats[i] = Math.sin(radLat);
+            cosLats[i] = Math.cos(radLat);
+            radLngs[i] = Math.toRadians(longitudes[i]);
+        }
+    }
+
+    @Benchmark
+    public int raw() {
+        int within = 0;
+        for (int i = 0; i < latitudes.length; i++) {
+            if (GeoUtils.distanceKm(QUERY_LAT, QUERY_LNG, latitudes[i], longitudes[i]) <= 10.0) {
+                within++;
+            }
+        }
+        return within;
+    }
+
+    @Benchmark
+    public int precomputed() {
+        double radLat = Math.toRadians(QUERY_LAT);
+        double sinLat = Math.sin(radLat);
+        double cosLat = Math.cos(radLat);
+        double radLng = Math.toRadians(QUERY_LNG);
+        int within = 0;
+        for (int i = 0; i < sinLats.length; i++) {
+            if (GeoUtils.distanceKm(sinLat, cosLat, radLng, sinLats[i], cosLats[i], radLngs[i]) <= 10.0) {
+                within++;
+            }
+        }
+        return within;
+    }
+}
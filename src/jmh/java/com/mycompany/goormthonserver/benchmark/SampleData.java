@@ -0,0 +1,94 @@
+package com.mycompany.goormthonserver.benchmark;
+
+import com.mycompany.goormthonserver.common.util.CsvReader;
+import com.mycompany.goormthonserver.dto.TouristSpotLocationDto;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 입력 데이터 (pre-data/datasample.csv)
+ * 좌표가 있는 행만 사용하며, 소개 문구는 임포트 스크립트(jeju_data_import.py)와 같은 형식으로 만든다.
+ * 경로는 -Dbenchmark.data 로 바꿀 수 있다.
+ */
+public final class SampleData {
+
+    private static final String DATA_PATH = System.getProperty("benchmark.data", "pre-data/datasample.csv");
+
+    private static List<Spot> cached;
+
+    private SampleData() {
+    }
+
+    public record Spot(String externalId, String category, String name, String address,
+                       double latitude, double longitude, String introduction) {
+    }
+
+    public static synchronized List<Spot> spots() {
+        if (cached == null) {
+            cached = load(Path.of(DATA_PATH));
+        }
+        return cached;
+    }
+
+    public static TouristSpotLocationDto[] locationDtos() {
+        return spots().stream()
+                .map(spot -> TouristSpotLocationDto.builder()
+                        .externalId(spot.externalId())
+                        .name(spot.name())
+                        .address(spot.address())
+                        .latitude(spot.latitude())
+                        .longitude(spot.longitude())
+                        .description(spot.introduction())
+                        .category(spot.category())
+                        .tag(spot.category())
+                        .introduction(spot.introduction())
+                        .build())
+                .toArray(TouristSpotLocationDto[]::new);
+    }
+
+    private static List<Spot> load(Path path) {
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+            List<List<String>> rows = reader.readAll();
+            Map<String, Integer> header = new HashMap<>();
+            List<String> names = rows.get(0);
+            for (int i = 0; i < names.size(); i++) {
+                header.put(names.get(i).trim(), i);
+            }
+
+            List<Spot> spots = new ArrayList<>(rows.size());
+            for (List<String> row : rows.subList(1, rows.size())) {
+                String lat = field(row, header, "위도");
+                String lng = field(row, header, "경도");
+                String name = field(row, header, "제목");
+                if (lat.isEmpty() || lng.isEmpty() || name.isEmpty()) {
+                    continue;
+                }
+                String address = field(row, header, "도로명주소");
+                if (address.isEmpty()) {
+                    address = field(row, header, "지번주소");
+                }
+                spots.add(new Spot(field(row, header, "콘텐츠아이디"), field(row, header, "콘텐츠분류"), name,
+                        address, Double.parseDouble(lat), Double.parseDouble(lng),
+                        name + "은(는) 제주도의 아름다운 관광지입니다."));
+            }
+            if (spots.isEmpty()) {
+                throw new IllegalStateException("좌표가 있는 행이 없습니다: " + path);
+            }
+            return spots;
+        } catch (IOException e) {
+            throw new IllegalStateException("벤치마크 데이터를 읽을 수 없습니다: " + path.toAbsolutePath(), e);
+        }
+    }
+
+    private static String field(List<String> row, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        return index == null || index >= row.size() ? "" : row.get(index).trim();
+    }
+}
@@ -0,0 +1,83 @@
+package com.mycompany.goormthonserver.index;
+
+import com.mycompany.goormthonserver.benchmark.SampleData;
+import com.mycompany.goormthonserver.common.dto.CursorPage;
+import com.mycompany.goormthonserver.common.util.GeoPoint;
+import com.mycompany.goormthonserver.dto.TouristSpotFacetsDto;
+import com.mycompany.goormthonserver.dto.TouristSpotLocationDto;
+import com.mycompany.goormthonserver.dto.TouristSpotSuggestionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 인메모리 카탈로그 조회 (반경 검색, 최근접 k개, 분류·태그 필터/패싯, 키워드 일치, 자동완성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogQueryBenchmark {
+
+    private static final GeoPoint JEJU_CITY_HALL = new GeoPoint(33.4996213, 126.5311884);
+    private static final GeoPoint OFF_MARADO = new GeoPoint(32.9, 126.27);  // 10km 안에 관광지 없음
+    private static final SpotFilter CLIMB_WITH_KIDS = SpotFilter.of(null, "오름,부모");
+
+    // 흔한 글자 / 흔한 두 글자 / 긴 이름 일부 / 일치 없음
+    @Param({"제주", "카페", "성산일출", "없는관광지명"})
+    private String keyword;
+
+    private CatalogSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        TouristSpotLocationDto[] spots = SampleData.locationDtos();
+        snapshot = new CatalogSnapshot(1L, LongStream.rangeClosed(1, spots.length).toArray(), spots,
+                IndexSettings.DEFAULT);
+    }
+
+    @Benchmark
+    public List<TouristSpotLocationDto> nearby() {
+        return snapshot.findNearby(JEJU_CITY_HALL.latitude(), JEJU_CITY_HALL.longitude(), 10.0, 10);
+    }
+
+    @Benchmark
+    public List<TouristSpotLocationDto> nearestOffshore() {
+        return snapshot.findNearest(OFF_MARADO.latitude(), OFF_MARADO.longitude(), 10, null);
+    }
+
+    @Benchmark
+    public CursorPage<TouristSpotLocationDto> nearbyWithTags() {
+        return snapshot.findNearby(JEJU_CITY_HALL.latitude(), JEJU_CITY_HALL.longitude(), 10.0, 10, null,
+                CLIMB_WITH_KIDS);
+    }
+
+    @Benchmark
+    public TouristSpotFacetsDto nearbyFacets() {
+        return snapshot.nearbyFacets(JEJU_CITY_HALL.latitude(), JEJU_CITY_HALL.longitude(), 10.0,
+                CLIMB_WITH_KIDS, 20);
+    }
+
+    @Benchmark
+    public List<TouristSpotLocationDto> keywordByName() {
+        return snapshot.searchByKeyword(keyword, null, 10);
+    }
+
+    @Benchmark
+    public List<TouristSpotLocationDto> keywordByDistance() {
+        return snapshot.searchByKeyword(keyword, JEJU_CITY_HALL, 10);
+    }
+
+    @Benchmark
+    public List<TouristSpotSuggestionDto> suggest() {
+        return snapshot.suggest(keyword.substring(0, 1), 10);
+    }
+}
@@ -0,0 +1,155 @@
+package com.mycompany.goormthonserver.service;
+
+import com.mycompany.goormthonserver.benchmark.SampleData;
+import com.mycompany.goormthonserver.dto.TouristSpotLocationDto;
+import com.mycompany.goormthonserver.dto.VisitJejuResponseDto;
+import com.mycompany.goormthonserver.dto.visitjeju.RepPhoto;
+import com.mycompany.goormthonserver.dto.visitjeju.VisitJejuItem;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotLocationRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 결과 → 응답 DTO 변환 (50건 기준, /search 최대 limit)
+ * - touristSpotRows : TouristSpotService.convertToDto (네이티브 쿼리 projection 행)
+ * - visitJejuItems  : VisitJejuApiClient.convertToDto (비짓제주 API 응답 항목)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConvertToDtoBenchmark {
+
+    private static final int BATCH = 50;
+
+    private TouristSpotLocationRow[] rows;
+    private VisitJejuItem[] items;
+
+    @Setup
+    public void setUp() {
+        List<SampleData.Spot> spots = SampleData.spots();
+        rows = new TouristSpotLocationRow[BATCH];
+        items = new VisitJejuItem[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            SampleData.Spot spot = spots.get(i % spots.size());
+            rows[i] = new Row(spot, i * 0.1);
+            items[i] = item(spot, i);
+        }
+    }
+
+    @Benchmark
+    public void touristSpotRows(Blackhole blackhole) {
+        for (TouristSpotLocationRow row : rows) {
+            TouristSpotLocationDto dto = TouristSpotService.convertToDto(row);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    public void visitJejuItems(Blackhole blackhole) {
+        for (VisitJejuItem item : items) {
+            VisitJejuResponseDto dto = VisitJejuApiClient.convertToDto(item);
+            blackhole.consume(dto);
+        }
+    }
+
+    private static VisitJejuItem item(SampleData.Spot spot, int index) {
+        RepPhoto.PhotoId photoId = new RepPhoto.PhotoId();
+        photoId.setPhotoid(2018052306801L + index);
+        photoId.setImgpath("https://api.cdn.visitjeju.net/photomng/imgpath/201810/17/" + spot.externalId() + ".jpg");
+        RepPhoto repPhoto = new RepPhoto();
+        repPhoto.setPhotoid(photoId);
+
+        VisitJejuItem item = new VisitJejuItem();
+        item.setContentsid(spot.externalId());
+        item.setTitle(spot.name());
+        item.setIntroduction(index % 5 == 0 ? null : spot.introduction());  // 소개 없는 항목 포함
+        item.setAddress(spot.address());
+        item.setRoadaddress(index % 3 == 0 ? "" : spot.address());
+        item.setTag(index % 4 == 0 ? null : spot.category());
+        item.setAlltag(spot.category() + "," + spot.name());
+        item.setLatitude(spot.latitude());
+        item.setLongitude(spot.longitude());
+        item.setRepPhoto(repPhoto);
+        return item;
+    }
+
+    /**
+     * 네이티브 쿼리 projection 과 같은 값을 돌려주는 행
+     */
+    private record Row(SampleData.Spot spot, double distance) implements TouristSpotLocationRow {
+
+        @Override
+        public long getId() {
+            return 0L;
+        }
+
+        @Override
+        public String getExternalId() {
+            return spot.externalId();
+        }
+
+        @Override
+        public String getName() {
+            return spot.name();
+        }
+
+        @Override
+        public String getAddress() {
+            return spot.address();
+        }
+
+        @Override
+        public double getLatitude() {
+            return spot.latitude();
+        }
+
+        @Override
+        public double getLongitude() {
+            return spot.longitude();
+        }
+
+        @Override
+        public String getDescription() {
+            return spot.introduction();
+        }
+
+        @Override
+        public String getCategory() {
+            return spot.category();
+        }
+
+        @Override
+        public String getTag() {
+            return spot.category();
+        }
+
+        @Override
+        public String getIntroduction() {
+            return spot.introduction();
+        }
+
+        @Override
+        public String getImgPath() {
+            return null;
+        }
+
+        @Override
+        public double getDistance() {
+            return distance;
+        }
+
+        @Override
+        public Integer getMatchRank() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.mycompany.goormthonserver.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 스레드가 할당한 바이트를 경로별로 누적
+ * ThreadMXBean.getCurrentThreadAllocatedBytes() 차이로 재므로 요청 스레드 밖(WebClient 이벤트 루프,
+ * 비동기 응답의 후속 처리)에서 일어난 할당은 포함하지 않는다.
+ */
+class AllocationTrackingFilter extends OncePerRequestFilter {
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Map<String, Usage> usageByPath = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            Usage usage = usageByPath.computeIfAbsent(path, key -> new Usage());
+            usage.requests.increment();
+            usage.bytes.add(allocated);
+        }
+    }
+
+    /**
+     * 요청당 평균 할당 바이트 (요청이 없으면 0)
+     */
+    long bytesPerRequest(String path) {
+        Usage usage = usageByPath.get(path);
+        long requests = usage == null ? 0 : usage.requests.sum();
+        return requests == 0 ? 0 : usage.bytes.sum() / requests;
+    }
+
+    void reset() {
+        usageByPath.clear();
+    }
+
+    private static final class Usage {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+    }
+}
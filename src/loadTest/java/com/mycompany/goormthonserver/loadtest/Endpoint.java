@@ -0,0 +1,107 @@
+package com.mycompany.goormthonserver.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 대상 엔드포인트와 요청 생성 방법
+ * 좌표·검색어·콘텐츠 ID는 시드 데이터에서 무작위로 고른다.
+ */
+enum Endpoint {
+
+    LOCATION("/tour-spots/location") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, List<SeedData.Spot> spots, ThreadLocalRandom random) {
+            SeedData.Spot near = pick(spots, random);
+            // 관광지 주변 약 1km 이내 임의 지점
+            double latitude = near.latitude() + (random.nextDouble() - 0.5) * 0.02;
+            double longitude = near.longitude() + (random.nextDouble() - 0.5) * 0.02;
+            return get(baseUrl + path + "?latitude=" + latitude + "&longitude=" + longitude
+                    + "&radius=" + (1 + random.nextInt(10)));
+        }
+    },
+    SEARCH("/tour-spots/search") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, List<SeedData.Spot> spots, ThreadLocalRandom random) {
+            SeedData.Spot spot = pick(spots, random);
+            String url = baseUrl + path + "?keyword=" + encode(keyword(spot.name(), random)) + "&limit=10";
+            if (random.nextBoolean()) {
+                url += "&latitude=" + spot.latitude() + "&longitude=" + spot.longitude();
+            }
+            return get(url);
+        }
+    },
+    SUGGEST("/tour-spots/suggest") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, List<SeedData.Spot> spots, ThreadLocalRandom random) {
+            String name = pick(spots, random).name();
+            String prefix = name.substring(0, Math.min(name.length(), 1 + random.nextInt(3)));
+            return get(baseUrl + path + "?prefix=" + encode(prefix));
+        }
+    },
+    DETAIL("/tour-spots/detail") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, List<SeedData.Spot> spots, ThreadLocalRandom random) {
+            SeedData.Spot spot = pick(spots, random);
+            return get(baseUrl + path + "?contentId=" + encode(spot.externalId())
+                    + "&latitude=" + spot.latitude() + "&longitude=" + spot.longitude());
+        }
+    },
+    BATCH("/visitjeju/batch") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, List<SeedData.Spot> spots, ThreadLocalRandom random) {
+            String ids = random.ints(3, 0, spots.size())
+                    .mapToObj(i -> '"' + spots.get(i).externalId() + '"')
+                    .collect(Collectors.joining(","));
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"contentsIds\":[" + ids + "]}"));
+        }
+    };
+
+    final String path;
+
+    Endpoint(String path) {
+        this.path = path;
+    }
+
+    abstract HttpRequest.Builder request(String baseUrl, List<SeedData.Spot> spots, ThreadLocalRandom random);
+
+    static Endpoint fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 엔드포인트: " + name);
+        }
+    }
+
+    private static SeedData.Spot pick(List<SeedData.Spot> spots, ThreadLocalRandom random) {
+        return spots.get(random.nextInt(spots.size()));
+    }
+
+    /**
+     * 이름 앞부분(접두 일치) 또는 중간 두 글자(부분 일치)
+     */
+    private static String keyword(String name, ThreadLocalRandom random) {
+        if (name.length() <= 2 || random.nextBoolean()) {
+            return name.substring(0, Math.min(name.length(), 2));
+        }
+        int start = random.nextInt(name.length() - 1);
+        String middle = name.substring(start, start + 2).trim();
+        return middle.isEmpty() ? name.substring(0, 2) : middle;
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,61 @@
+package com.mycompany.goormthonserver.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 한 작업 스레드 전용 응답 시간 기록 (마이크로초, 동기화 없음)
+ * 측정이 끝나면 merge 로 합친 뒤 정렬해 백분위를 구한다.
+ */
+final class LatencyRecorder {
+
+    private long[] latenciesMicros = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long micros, boolean success) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = micros;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, Math.max(latenciesMicros.length * 2, count + other.count));
+        }
+        System.arraycopy(other.latenciesMicros, 0, latenciesMicros, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * 기록된 값을 정렬해 반환 (merge 가 끝난 뒤 한 번만 호출)
+     */
+    long[] sorted() {
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * nearest-rank 백분위 (정렬된 배열 기준)
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,124 @@
+package com.mycompany.goormthonserver.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * closed-loop 부하 생성기
+ * 가상 사용자마다 응답을 받으면 곧바로 비중(mix)에 따라 다음 요청을 보낸다.
+ * 워밍업 구간의 응답은 버리고 측정 구간만 엔드포인트별로 기록한다.
+ */
+final class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final List<SeedData.Spot> spots;
+    private final int concurrency;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final HttpClient httpClient;
+
+    LoadGenerator(String baseUrl, List<SeedData.Spot> spots, Map<Endpoint, Integer> mix, int concurrency) {
+        this.baseUrl = baseUrl;
+        this.spots = spots;
+        this.concurrency = concurrency;
+        this.endpoints = mix.keySet().toArray(new Endpoint[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += mix.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * 부하 실행
+     *
+     * @param warmup         워밍업 시간 (기록하지 않음)
+     * @param measure        측정 시간
+     * @param onMeasureStart 측정 시작 직전에 한 번 실행 (서버 측 카운터 초기화 등)
+     * @return 엔드포인트별 응답 시간 기록
+     */
+    Map<Endpoint, LatencyRecorder> run(Duration warmup, Duration measure, Runnable onMeasureStart)
+            throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + warmup.toNanos();
+        long endNanos = measureStartNanos + measure.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Map<Endpoint, LatencyRecorder>>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> drive(measureStartNanos, endNanos)));
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureStartNanos - System.nanoTime()));
+        onMeasureStart.run();
+
+        Map<Endpoint, LatencyRecorder> merged = new EnumMap<>(Endpoint.class);
+        try {
+            for (Future<Map<Endpoint, LatencyRecorder>> future : futures) {
+                future.get().forEach((endpoint, recorder) ->
+                        merged.computeIfAbsent(endpoint, key -> new LatencyRecorder()).merge(recorder));
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("부하 생성 스레드 실패", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+        return merged;
+    }
+
+    private Map<Endpoint, LatencyRecorder> drive(long measureStartNanos, long endNanos) {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < endNanos) {
+            Endpoint endpoint = nextEndpoint(random);
+            HttpRequest request = endpoint.request(baseUrl, spots, random).timeout(REQUEST_TIMEOUT).build();
+
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() < 400;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                success = false;
+            }
+
+            if (now >= measureStartNanos) {
+                long micros = (System.nanoTime() - now) / 1_000;
+                recorders.computeIfAbsent(endpoint, key -> new LatencyRecorder()).record(micros, success);
+            }
+        }
+        return recorders;
+    }
+
+    private Endpoint nextEndpoint(ThreadLocalRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+}
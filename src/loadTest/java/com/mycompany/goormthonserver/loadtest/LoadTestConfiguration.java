@@ -0,0 +1,27 @@
+package com.mycompany.goormthonserver.loadtest;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+/**
+ * 부하 테스트 때만 추가하는 빈
+ * 컴포넌트 스캔에 걸리지 않도록 @Configuration 없이 LoadTestMain 에서 직접 소스로 등록한다.
+ */
+class LoadTestConfiguration {
+
+    @Bean
+    AllocationTrackingFilter allocationTrackingFilter() {
+        return new AllocationTrackingFilter();
+    }
+
+    @Bean
+    FilterRegistrationBean<AllocationTrackingFilter> allocationTrackingFilterRegistration(
+            AllocationTrackingFilter allocationTrackingFilter) {
+        FilterRegistrationBean<AllocationTrackingFilter> registration =
+                new FilterRegistrationBean<>(allocationTrackingFilter);
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
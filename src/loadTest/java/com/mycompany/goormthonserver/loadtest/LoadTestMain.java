@@ -0,0 +1,186 @@
+package com.mycompany.goormthonserver.loadtest;
+
+import com.mycompany.goormthonserver.GoormthonServerApplication;
+import com.mycompany.goormthonserver.index.TouristSpotCatalog;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import redis.embedded.RedisServer;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관광지 API 부하 테스트 (./gradlew loadTest)
+ *
+ * 1. 비짓제주 스텁 서버와 임베디드 Redis 를 띄우고
+ * 2. test 프로필(H2, MySQL 모드) 또는 Testcontainers MySQL 로 애플리케이션을 같은 JVM 에서 기동한 뒤
+ * 3. pre-data/datasample.csv 를 tourist_spots 에 넣고 인메모리 인덱스를 다시 만든 다음
+ * 4. 엔드포인트 비중에 맞춰 부하를 주고 처리량 / 응답 시간 백분위 / 할당량을 보고한다.
+ *
+ * 외부 네트워크 없이 한 대의 리눅스 머신에서 실행된다 (mysql 모드는 로컬에 mysql 이미지가 있어야 함).
+ */
+public final class LoadTestMain {
+
+    private static final String MYSQL_IMAGE = "mysql:8.0";
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<SeedData.Spot> spots = SeedData.load(settings.dataFile());
+        System.out.printf("🌱 시드 데이터 %d건 (%s)%n", spots.size(), settings.dataFile());
+
+        MySQLContainer<?> mysql = null;
+        RedisServer redis = startRedis(settings.redisPort());
+        try (VisitJejuStubServer stub = new VisitJejuStubServer(spots,
+                settings.stubLatencyMs(), settings.stubJitterMs(), settings.stubErrorRate())) {
+            stub.start();
+
+            List<String> appArgs = new ArrayList<>(applicationArguments(settings, stub.baseUrl()));
+            if ("mysql".equalsIgnoreCase(settings.database())) {
+                mysql = new MySQLContainer<>(DockerImageName.parse(MYSQL_IMAGE));
+                mysql.start();
+                appArgs.addAll(mysqlArguments(mysql));
+            }
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                    GoormthonServerApplication.class, LoadTestConfiguration.class)
+                    .run(appArgs.toArray(String[]::new))) {
+                seed(context, spots);
+                run(settings, context, stub, spots);
+            }
+        } finally {
+            if (mysql != null) {
+                mysql.stop();
+            }
+            if (redis != null) {
+                redis.stop();
+            }
+        }
+    }
+
+    private static void run(LoadTestSettings settings, ConfigurableApplicationContext context,
+                            VisitJejuStubServer stub, List<SeedData.Spot> spots) throws Exception {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String baseUrl = "http://127.0.0.1:" + port + "/api";
+        AllocationTrackingFilter allocationFilter = context.getBean(AllocationTrackingFilter.class);
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long[] allocatedAtStart = new long[1];
+        long[] gcAtStart = new long[2];
+        Runnable onMeasureStart = () -> {
+            allocationFilter.reset();
+            stub.resetCounters();
+            allocatedAtStart[0] = threadMXBean.getTotalThreadAllocatedBytes();
+            gcAtStart[0] = gcCount();
+            gcAtStart[1] = gcTimeMs();
+            System.out.println("⏱️ 워밍업 종료, 측정 시작");
+        };
+
+        System.out.printf("🚀 부하 시작 - %s, 동시 사용자 %d, 워밍업 %ds + 측정 %ds, mix %s%n",
+                baseUrl, settings.concurrency(), settings.warmupSeconds(), settings.durationSeconds(), settings.mix());
+        LoadGenerator generator = new LoadGenerator(baseUrl, spots, settings.mix(), settings.concurrency());
+        Map<Endpoint, LatencyRecorder> recorders = generator.run(
+                Duration.ofSeconds(settings.warmupSeconds()), Duration.ofSeconds(settings.durationSeconds()),
+                onMeasureStart);
+
+        long allocated = threadMXBean.getTotalThreadAllocatedBytes() - allocatedAtStart[0];
+        List<LoadTestReport.EndpointResult> results = new ArrayList<>();
+        long totalRequests = 0;
+        for (Map.Entry<Endpoint, LatencyRecorder> entry : recorders.entrySet()) {
+            Endpoint endpoint = entry.getKey();
+            results.add(LoadTestReport.EndpointResult.of(endpoint, entry.getValue(), settings.durationSeconds(),
+                    allocationFilter.bytesPerRequest(endpoint.path)));
+            totalRequests += entry.getValue().count();
+        }
+
+        LoadTestReport report = new LoadTestReport(settings.database(), settings.concurrency(),
+                settings.durationSeconds(), (double) totalRequests / settings.durationSeconds(),
+                allocated / 1024.0 / 1024.0 / settings.durationSeconds(),
+                gcCount() - gcAtStart[0], gcTimeMs() - gcAtStart[1],
+                stub.requestCount(), stub.errorCount(), results);
+        report.print();
+        report.write(settings.reportFile());
+    }
+
+    /**
+     * test 프로필 위에 덮어쓰는 실행 인자 (명령행 인자라 yml 보다 우선)
+     */
+    private static List<String> applicationArguments(LoadTestSettings settings, String stubBaseUrl) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", "test");
+        properties.put("server.port", "0");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.h2.console.enabled", "false");
+        properties.put("spring.data.redis.port", String.valueOf(settings.redisPort()));
+        properties.put("external-api.jeju-visit.base-url", stubBaseUrl);
+        properties.put("JEJU_VISIT_API_KEY", "loadtest");
+        properties.put("logging.level.com.mycompany.goormthonserver", "WARN");
+        properties.put("logging.level.request", "WARN");
+
+        List<String> args = new ArrayList<>();
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        return args;
+    }
+
+    private static List<String> mysqlArguments(MySQLContainer<?> mysql) {
+        return List.of(
+                "--spring.datasource.url=" + mysql.getJdbcUrl() + "?rewriteBatchedStatements=true",
+                "--spring.datasource.username=" + mysql.getUsername(),
+                "--spring.datasource.password=" + mysql.getPassword(),
+                "--spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect");
+    }
+
+    /**
+     * 시드 데이터 저장 후 인메모리 인덱스 재생성 (기동 시에는 빈 테이블로 만들어져 있음)
+     */
+    private static void seed(ConfigurableApplicationContext context, List<SeedData.Spot> spots) {
+        long startTime = System.currentTimeMillis();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM visitjeju_cache");
+        jdbcTemplate.update("DELETE FROM tourist_spots");
+        SeedData.insert(jdbcTemplate, spots);
+        context.getBean(TouristSpotCatalog.class).refresh();
+        System.out.printf("✅ tourist_spots 시드 완료 - %d건 (%dms)%n", spots.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private static RedisServer startRedis(int port) {
+        try {
+            RedisServer redis = RedisServer.builder().port(port).setting("maxmemory 128M").build();
+            redis.start();
+            return redis;
+        } catch (Exception e) {
+            // Redis 없이도 비짓제주 캐시는 MySQL/API 계층으로 동작
+            System.err.println("⚠️ 임베디드 Redis 시작 실패 (Redis 없이 진행): " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTimeMs() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+}
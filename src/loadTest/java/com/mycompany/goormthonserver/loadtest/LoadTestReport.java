@@ -0,0 +1,67 @@
+package com.mycompany.goormthonserver.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 부하 테스트 결과 (콘솔 표 + JSON 파일)
+ *
+ * @param allocationMbPerSec 측정 구간 동안 JVM 전체 할당 속도
+ */
+record LoadTestReport(String database, int concurrency, int durationSeconds,
+                      double throughputPerSec, double allocationMbPerSec, long gcCount, long gcTimeMs,
+                      long stubRequests, long stubErrors, List<EndpointResult> endpoints) {
+
+    /**
+     * 엔드포인트별 결과 (응답 시간 ms, 요청 스레드 기준 요청당 할당 바이트)
+     */
+    record EndpointResult(String path, long requests, long errors, double throughputPerSec,
+                          double meanMs, double p50Ms, double p90Ms, double p99Ms, double maxMs,
+                          long allocatedBytesPerRequest) {
+
+        static EndpointResult of(Endpoint endpoint, LatencyRecorder recorder, int durationSeconds,
+                                 long allocatedBytesPerRequest) {
+            long[] sorted = recorder.sorted();
+            double sum = 0;
+            for (long micros : sorted) {
+                sum += micros;
+            }
+            return new EndpointResult(endpoint.path, sorted.length, recorder.errors(),
+                    (double) sorted.length / durationSeconds,
+                    sorted.length == 0 ? 0 : sum / sorted.length / 1_000.0,
+                    LatencyRecorder.percentile(sorted, 50) / 1_000.0,
+                    LatencyRecorder.percentile(sorted, 90) / 1_000.0,
+                    LatencyRecorder.percentile(sorted, 99) / 1_000.0,
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000.0,
+                    allocatedBytesPerRequest);
+        }
+    }
+
+    void print() {
+        System.out.printf(Locale.ROOT, "%n📊 부하 테스트 결과 - db: %s, 동시 사용자: %d, 측정: %ds%n",
+                database, concurrency, durationSeconds);
+        System.out.printf(Locale.ROOT, "%-22s %9s %7s %9s %8s %8s %8s %8s %12s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "alloc(B/req)");
+        for (EndpointResult result : endpoints) {
+            System.out.printf(Locale.ROOT, "%-22s %9d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %12d%n",
+                    result.path(), result.requests(), result.errors(), result.throughputPerSec(),
+                    result.p50Ms(), result.p90Ms(), result.p99Ms(), result.maxMs(), result.allocatedBytesPerRequest());
+        }
+        System.out.printf(Locale.ROOT, "전체 %.1f req/s, 할당 %.1f MB/s, GC %d회 (%dms), 비짓제주 스텁 호출 %d건 (오류 %d건)%n",
+                throughputPerSec, allocationMbPerSec, gcCount, gcTimeMs, stubRequests, stubErrors);
+    }
+
+    void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+        System.out.println("📝 결과 저장: " + file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,65 @@
+package com.mycompany.goormthonserver.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.* 시스템 속성)
+ *
+ * @param database        h2 (test 프로필, MySQL 모드) 또는 mysql (Testcontainers)
+ * @param dataFile        시드 데이터 CSV
+ * @param concurrency     동시 가상 사용자 수 (응답을 받으면 바로 다음 요청을 보내는 closed loop)
+ * @param warmupSeconds   집계에서 제외하는 워밍업 시간
+ * @param durationSeconds 측정 시간
+ * @param stubLatencyMs   비짓제주 스텁 기본 지연
+ * @param stubJitterMs    비짓제주 스텁 추가 지연 (0 ~ jitter 균등 분포)
+ * @param stubErrorRate   비짓제주 스텁 503 응답 비율
+ * @param redisPort       임베디드 Redis 포트 (test 프로필과 같은 6370)
+ * @param mix             엔드포인트별 요청 비중
+ * @param reportFile      JSON 결과 파일
+ */
+record LoadTestSettings(String database, Path dataFile, int concurrency, int warmupSeconds, int durationSeconds,
+                        int stubLatencyMs, int stubJitterMs, double stubErrorRate, int redisPort,
+                        Map<Endpoint, Integer> mix, Path reportFile) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                property("database", "h2"),
+                Path.of(property("data", "pre-data/datasample.csv")),
+                Integer.parseInt(property("concurrency", "32")),
+                Integer.parseInt(property("warmup-seconds", "15")),
+                Integer.parseInt(property("duration-seconds", "60")),
+                Integer.parseInt(property("stub.latency-ms", "80")),
+                Integer.parseInt(property("stub.jitter-ms", "40")),
+                Double.parseDouble(property("stub.error-rate", "0.02")),
+                Integer.parseInt(property("redis-port", "6370")),
+                parseMix(property("mix", "location=40,search=30,suggest=10,detail=15,batch=5")),
+                Path.of(property("report", "build/reports/loadtest/report.json")));
+    }
+
+    /**
+     * "location=40,search=30" → {LOCATION=40, SEARCH=30}
+     */
+    static Map<Endpoint, Integer> parseMix(String text) {
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        for (String part : text.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식 오류: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.fromName(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 요청할 엔드포인트가 없습니다.");
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,102 @@
+package com.mycompany.goormthonserver.loadtest;
+
+import com.mycompany.goormthonserver.common.util.CsvReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 시드 데이터 (pre-data/datasample.csv 의 좌표가 있는 행)
+ */
+final class SeedData {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tourist_spots
+                (external_id, name, address, latitude, longitude, lat_sin, lat_cos, lng_rad,
+                 category, tag, description, introduction, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private SeedData() {
+    }
+
+    record Spot(String externalId, String category, String name, String address,
+                double latitude, double longitude) {
+
+        String introduction() {
+            return name + "은(는) 제주도의 아름다운 관광지입니다.";
+        }
+    }
+
+    static List<Spot> load(Path path) throws IOException {
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+            List<String> names = reader.readRow();
+            if (names == null) {
+                throw new IllegalStateException("빈 CSV 파일입니다: " + path);
+            }
+            Map<String, Integer> header = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                header.put(names.get(i).trim(), i);
+            }
+
+            List<Spot> spots = new ArrayList<>();
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                String lat = field(row, header, "위도");
+                String lng = field(row, header, "경도");
+                String name = field(row, header, "제목");
+                if (lat.isEmpty() || lng.isEmpty() || name.isEmpty()) {
+                    continue;
+                }
+                String address = field(row, header, "도로명주소");
+                if (address.isEmpty()) {
+                    address = field(row, header, "지번주소");
+                }
+                spots.add(new Spot(field(row, header, "콘텐츠아이디"), field(row, header, "콘텐츠분류"), name,
+                        address, Double.parseDouble(lat), Double.parseDouble(lng)));
+            }
+            if (spots.isEmpty()) {
+                throw new IllegalStateException("좌표가 있는 행이 없습니다: " + path);
+            }
+            return spots;
+        }
+    }
+
+    /**
+     * tourist_spots 에 일괄 저장 (거리 계산용 lat_sin / lat_cos / lng_rad 포함)
+     */
+    static void insert(JdbcTemplate jdbcTemplate, List<Spot> spots) {
+        for (int from = 0; from < spots.size(); from += BATCH_SIZE) {
+            List<Spot> chunk = spots.subList(from, Math.min(spots.size(), from + BATCH_SIZE));
+            jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, spot) -> {
+                double radLat = Math.toRadians(spot.latitude());
+                ps.setString(1, spot.externalId());
+                ps.setString(2, spot.name());
+                ps.setString(3, spot.address());
+                ps.setDouble(4, spot.latitude());
+                ps.setDouble(5, spot.longitude());
+                ps.setDouble(6, Math.sin(radLat));
+                ps.setDouble(7, Math.cos(radLat));
+                ps.setDouble(8, Math.toRadians(spot.longitude()));
+                ps.setString(9, spot.category());
+                ps.setString(10, spot.category());
+                ps.setString(11, spot.introduction());
+                ps.setString(12, spot.introduction());
+            });
+        }
+    }
+
+    private static String field(List<String> row, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        return index == null || index >= row.size() ? "" : row.get(index).trim();
+    }
+}
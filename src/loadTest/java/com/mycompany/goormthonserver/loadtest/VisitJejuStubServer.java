@@ -0,0 +1,163 @@
+package com.mycompany.goormthonserver.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * api.visitjeju.net 대신 응답하는 로컬 스텁 (/vsjApi/contents/searchList)
+ * cid 로 시드 데이터의 관광지를 찾아 실제 API 와 같은 형식으로 돌려주고,
+ * 요청마다 지연(latency + 0~jitter ms)을 주며 errorRate 비율로 503 을 반환한다.
+ */
+final class VisitJejuStubServer implements AutoCloseable {
+
+    private static final String SEARCH_LIST_PATH = "/vsjApi/contents/searchList";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, SeedData.Spot> spotsById = new HashMap<>();
+    private final int latencyMs;
+    private final int jitterMs;
+    private final double errorRate;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    VisitJejuStubServer(List<SeedData.Spot> spots, int latencyMs, int jitterMs, double errorRate) throws IOException {
+        for (SeedData.Spot spot : spots) {
+            spotsById.put(spot.externalId(), spot);
+        }
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+
+        // 지연 중인 요청이 스레드를 붙잡고 있으므로 가상 스레드로 처리
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext(SEARCH_LIST_PATH, this::handle);
+    }
+
+    void start() {
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long requestCount() {
+        return requests.sum();
+    }
+
+    long errorCount() {
+        return errors.sum();
+    }
+
+    void resetCounters() {
+        requests.reset();
+        errors.reset();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            sleep(latencyMs + (jitterMs > 0 ? random.nextInt(jitterMs + 1) : 0));
+
+            if (random.nextDouble() < errorRate) {
+                errors.increment();
+                send(exchange, 503, "{\"result\":\"99\",\"resultMessage\":\"stub error\"}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            SeedData.Spot spot = spotsById.get(query.getOrDefault("cid", ""));
+            List<Map<String, Object>> items = spot == null ? List.of() : List.of(item(spot));
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("result", "00");
+            body.put("resultMessage", "SUCCESS");
+            body.put("totalCount", items.size());
+            body.put("resultCount", items.size());
+            body.put("pageSize", 10);
+            body.put("pageCount", 1);
+            body.put("currentPage", 1);
+            body.put("items", items);
+            send(exchange, 200, objectMapper.writeValueAsBytes(body));
+        }
+    }
+
+    private static Map<String, Object> item(SeedData.Spot spot) {
+        Map<String, Object> photoId = new LinkedHashMap<>();
+        photoId.put("photoid", Math.abs((long) spot.externalId().hashCode()));
+        photoId.put("imgpath", "https://api.cdn.visitjeju.net/stub/" + spot.externalId() + ".jpg");
+        photoId.put("thumbnailpath", "https://api.cdn.visitjeju.net/stub/" + spot.externalId() + "_thumb.jpg");
+
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("contentsid", spot.externalId());
+        item.put("title", spot.name());
+        item.put("introduction", spot.introduction());
+        item.put("address", spot.address());
+        item.put("roadaddress", spot.address());
+        item.put("tag", spot.category());
+        item.put("alltag", spot.category() + "," + spot.name());
+        item.put("latitude", spot.latitude());
+        item.put("longitude", spot.longitude());
+        item.put("repPhoto", Map.of("descseo", spot.name(), "photoid", photoId));
+        return item;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sleep(int millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,19 @@
+package com.mycompany.goormthonserver.common.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 한 페이지
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.mycompany.goormthonserver.common.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 1건당 한 줄 로그 (key=value 형식)
+ * sampleRate 비율만 기록하되, 5xx 와 느린 요청(slowThresholdMs 이상)은 항상 기록한다.
+ * 로거 이름은 "request" 로 고정해 logback 에서 별도 비동기 appender 로 보낼 수 있게 한다.
+ */
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private static final Logger requestLog = LoggerFactory.getLogger("request");
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final double sampleRate;
+    private final long slowThresholdMs;
+
+    public RequestLoggingFilter(double sampleRate, long slowThresholdMs) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long startTime = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            long durationMs = (System.nanoTime() - startTime) / 1_000_000;
+            if (shouldLog(status, durationMs) && requestLog.isInfoEnabled()) {
+                requestLog.info("method={} path={} query=\"{}\" status={} durationMs={}",
+                        request.getMethod(), request.getRequestURI(), truncate(request.getQueryString()),
+                        status, durationMs);
+            }
+        }
+    }
+
+    private boolean shouldLog(int status, long durationMs) {
+        if (status >= 500 || durationMs >= slowThresholdMs) {
+            return true;
+        }
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static String truncate(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.length() <= MAX_QUERY_LENGTH ? query : query.substring(0, MAX_QUERY_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,91 @@
+package com.mycompany.goormthonserver.common.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 관측된 지연 시간 기반 시간 제한
+ * 최근 호출 지연의 p99 × multiplier 를 [min, max] 범위로 제한해 쓴다.
+ * 시간 초과된 호출은 그때의 제한 값을 표본으로 넣어, 상류가 느려지면 제한도 다시 늘어나게 한다.
+ * 표본이 부족하면 max 를 그대로 쓴다.
+ */
+public final class AdaptiveTimeout {
+
+    private final long minMillis;
+    private final long maxMillis;
+    private final double multiplier;
+    private final int minSamples;
+    private final int recomputeEvery;
+
+    // 최근 지연 시간 (원형 버퍼, ms)
+    private final long[] samples;
+    private int position;
+    private int count;
+    private int sinceRecompute;
+
+    private volatile long currentMillis;
+
+    /**
+     * @param windowSize 보관할 최근 표본 수
+     * @param minSamples 적응을 시작하는 최소 표본 수
+     */
+    public AdaptiveTimeout(Duration min, Duration max, double multiplier, int windowSize, int minSamples) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize 는 0보다 커야 합니다.");
+        }
+        this.minMillis = min.toMillis();
+        this.maxMillis = Math.max(minMillis, max.toMillis());
+        this.multiplier = multiplier;
+        this.samples = new long[windowSize];
+        this.minSamples = Math.min(minSamples, windowSize);
+        this.recomputeEvery = Math.max(1, windowSize / 20);
+        this.currentMillis = maxMillis;
+    }
+
+    public Duration current() {
+        return Duration.ofMillis(currentMillis);
+    }
+
+    public long currentMillis() {
+        return currentMillis;
+    }
+
+    public synchronized void record(long latencyMillis) {
+        samples[position] = latencyMillis;
+        position = (position + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (count >= minSamples && ++sinceRecompute >= recomputeEvery) {
+            sinceRecompute = 0;
+            currentMillis = compute();
+        }
+    }
+
+    /**
+     * 시간 제한에 걸린 호출 (실제 지연은 적어도 timeoutMillis 이상)
+     * 성공 호출만 기록하면 p99 가 제한보다 커질 수 없어, 한 번 낮아진 제한이 다시 늘어나지 못한다.
+     */
+    public void recordTimeout(long timeoutMillis) {
+        record(timeoutMillis);
+    }
+
+    /**
+     * 현재 표본의 p99 (ms, 표본이 없으면 -1)
+     */
+    public synchronized long p99Millis() {
+        return count == 0 ? -1 : percentile(0.99);
+    }
+
+    private long compute() {
+        long timeout = (long) Math.ceil(percentile(0.99) * multiplier);
+        return Math.max(minMillis, Math.min(maxMillis, timeout));
+    }
+
+    private long percentile(double quantile) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+}
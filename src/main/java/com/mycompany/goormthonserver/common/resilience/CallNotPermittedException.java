@@ -0,0 +1,11 @@
+package com.mycompany.goormthonserver.common.resilience;
+
+/**
+ * 회로 차단기가 OPEN 이라 호출하지 않고 바로 실패한 경우
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(String name) {
+        super("회로 차단 중: " + name, null, false, false);
+    }
+}
@@ -0,0 +1,161 @@
+package com.mycompany.goormthonserver.common.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 회로 차단기 (circuit breaker)
+ * 최근 N회 호출의 실패율이 기준을 넘으면 OPEN 으로 전환해 호출을 즉시 거절하고,
+ * 대기 시간이 지나면 HALF_OPEN 에서 제한된 수의 시험 호출로 회복 여부를 판단한다.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,     // 정상 - 모든 호출 허용
+        OPEN,       // 차단 - 모든 호출 거절
+        HALF_OPEN   // 시험 - 제한된 호출만 허용
+    }
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 (원형 버퍼, true = 실패)
+    private final boolean[] window;
+    private int windowPosition;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    /**
+     * @param failureRateThreshold 차단 기준 실패율 (0~1)
+     * @param windowSize           실패율 계산에 쓰는 최근 호출 수
+     * @param minimumCalls         실패율을 판단하기 위한 최소 호출 수
+     * @param openDuration         OPEN 유지 시간
+     * @param halfOpenCalls        HALF_OPEN 에서 허용하는 시험 호출 수
+     */
+    public CircuitBreaker(String name, double failureRateThreshold, int windowSize, int minimumCalls,
+                          Duration openDuration, int halfOpenCalls) {
+        this(name, failureRateThreshold, windowSize, minimumCalls, openDuration, halfOpenCalls, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, double failureRateThreshold, int windowSize, int minimumCalls,
+                   Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+        if (windowSize <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("windowSize, halfOpenCalls 는 0보다 커야 합니다.");
+        }
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 허용 여부 (허용되면 반드시 onSuccess / onFailure / onIgnored 중 하나로 결과를 알려야 한다)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && failureRate() >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 결과를 판단에 쓰지 않는 호출 (취소, 4xx 등) - HALF_OPEN 허용 수만 돌려준다
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized State getState() {
+        // 대기 시간이 지난 OPEN 은 다음 호출에서 HALF_OPEN 이 된다
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return windowCount == 0 ? 0.0 : (double) windowFailures / windowCount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowPosition]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowPosition] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowPosition = (windowPosition + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowPosition = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.mycompany.goormthonserver.common.resilience;
+
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 회로 차단기 + 재시도 예산 + 적응형 시간 제한을 하나의 Mono 호출에 적용
+ * 재시도는 멱등 호출(GET)에만 사용할 것.
+ */
+public final class ResilienceGuard {
+
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final AdaptiveTimeout timeout;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final double retryJitter;
+
+    public ResilienceGuard(CircuitBreaker circuitBreaker, RetryBudget retryBudget, AdaptiveTimeout timeout,
+                           int maxRetries, Duration retryBackoff, double retryJitter) {
+        this.circuitBreaker = circuitBreaker;
+        this.retryBudget = retryBudget;
+        this.timeout = timeout;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.retryJitter = retryJitter;
+    }
+
+    /**
+     * @param call      실제 호출 (시도마다 새로 구독)
+     * @param isTransient 일시적 장애 여부 - true 면 차단기 실패로 집계하고 재시도 대상, false 면 무시
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call, Predicate<Throwable> isTransient) {
+        // 예산 적립은 요청당 한 번 (retryWhen 이 다시 구독하는 attempt 밖에서)
+        return Mono.defer(() -> {
+            retryBudget.onRequest();
+            return attempt(call, isTransient)
+                    .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                            .jitter(retryJitter)
+                            .filter(e -> !(e instanceof CallNotPermittedException)
+                                    && isTransient.test(e)
+                                    && retryBudget.tryAcquire())
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        });
+    }
+
+    private <T> Mono<T> attempt(Supplier<Mono<T>> call, Predicate<Throwable> isTransient) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(new CallNotPermittedException(circuitBreaker.getName()));
+            }
+            long startTime = System.nanoTime();
+            Duration limit = timeout.current();
+            AtomicBoolean recorded = new AtomicBoolean();
+
+            return call.get()
+                    .timeout(limit)
+                    .doOnSuccess(value -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.onSuccess();
+                            timeout.record((System.nanoTime() - startTime) / 1_000_000);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            if (e instanceof TimeoutException) {
+                                timeout.recordTimeout(limit.toMillis());
+                            }
+                            if (isTransient.test(e)) {
+                                circuitBreaker.onFailure();
+                            } else {
+                                circuitBreaker.onIgnored();
+                            }
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.onIgnored();
+                        }
+                    });
+        });
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    public AdaptiveTimeout getTimeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,39 @@
+package com.mycompany.goormthonserver.common.resilience;
+
+/**
+ * 재시도 예산 (token bucket)
+ * 요청마다 ratio 만큼 토큰을 적립하고 재시도마다 1개를 쓴다.
+ * 상류 장애 시 재시도가 전체 요청의 ratio 비율을 넘지 않아 부하를 키우지 않는다.
+ */
+public final class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    /**
+     * @param ratio     요청 1건당 적립되는 토큰 (예: 0.1 → 요청 10건당 재시도 1회)
+     * @param maxTokens 최대 적립 토큰 (시작 시 가득 찬 상태)
+     */
+    public RetryBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    public synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    public synchronized double availableTokens() {
+        return tokens;
+    }
+}
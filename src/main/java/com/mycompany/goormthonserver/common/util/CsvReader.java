@@ -0,0 +1,101 @@
+package com.mycompany.goormthonserver.common.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 행 단위 리더
+ * 따옴표 안의 쉼표/줄바꿈과 "" 이스케이프를 처리하고, 파일 맨 앞의 BOM 은 버린다.
+ * 관광지 CSV(pre-data/datasample.csv)처럼 소개 문구에 줄바꿈이 들어간 파일도 한 행으로 읽는다.
+ */
+public final class CsvReader implements Closeable {
+
+    private static final char BOM = '﻿';
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private boolean started;
+    private long rowNumber;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * 다음 행 (끝이면 null)
+     */
+    public List<String> readRow() throws IOException {
+        if (!started) {
+            started = true;
+            reader.mark(1);
+            if (reader.read() != BOM) {
+                reader.reset();
+            }
+        }
+
+        List<String> row = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    reader.reset();
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        row.add(field.toString());
+        rowNumber++;
+        return row;
+    }
+
+    /**
+     * 마지막으로 읽은 행 번호 (1부터, 헤더 포함)
+     */
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * 남은 행 전체
+     */
+    public List<List<String>> readAll() throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row;
+        while ((row = readRow()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,9 @@
+package com.mycompany.goormthonserver.common.util;
+
+/**
+ * 반경 검색용 위경도 사각형
+ * idx_location (latitude, longitude) 범위 조건과 공간 인덱스 셀 범위 계산에 사용
+ */
+public record GeoBoundingBox(double minLatitude, double maxLatitude,
+                             double minLongitude, double maxLongitude) {
+}
@@ -0,0 +1,26 @@
+package com.mycompany.goormthonserver.common.util;
+
+/**
+ * 위경도 좌표 (기본형 double)
+ * 조회 경로에서는 BigDecimal 대신 이 타입을 쓰고, BigDecimal 은 엔티티(TouristSpot)에만 남긴다.
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    public GeoPoint {
+        if (!isValid(latitude, longitude)) {
+            throw new IllegalArgumentException("위경도 범위를 벗어났습니다: " + latitude + ", " + longitude);
+        }
+    }
+
+    /**
+     * 위도 -90~90, 경도 -180~180 범위 여부 (NaN 은 false)
+     */
+    public static boolean isValid(double latitude, double longitude) {
+        return latitude >= -90.0 && latitude <= 90.0
+                && longitude >= -180.0 && longitude <= 180.0;
+    }
+
+    public double distanceKm(double otherLatitude, double otherLongitude) {
+        return GeoUtils.distanceKm(latitude, longitude, otherLatitude, otherLongitude);
+    }
+}
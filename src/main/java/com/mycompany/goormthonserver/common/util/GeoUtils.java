@@ -0,0 +1,64 @@
+package com.mycompany.goormthonserver.common.util;
+
+/**
+ * 위경도 거리 계산 유틸리티
+ * 네이티브 쿼리와 동일한 구면 코사인 법칙(6371km)을 사용해 결과 순서를 맞춘다
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    /** 위도 1도당 거리(km) */
+    public static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180.0;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 두 지점 사이의 거리(km)
+     * SQL: 6371 * acos(cos(radians(lat1)) * cos(radians(lat2)) * cos(radians(lng2) - radians(lng1)) + sin(radians(lat1)) * sin(radians(lat2)))
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double radLat1 = Math.toRadians(lat1);
+        double radLat2 = Math.toRadians(lat2);
+        return distanceKm(Math.sin(radLat1), Math.cos(radLat1), Math.toRadians(lng1),
+                Math.sin(radLat2), Math.cos(radLat2), Math.toRadians(lng2));
+    }
+
+    /**
+     * 미리 계산된 sin/cos(위도), radians(경도)로 거리(km) 계산
+     */
+    public static double distanceKm(double sinLat1, double cosLat1, double radLng1,
+                                    double sinLat2, double cosLat2, double radLng2) {
+        double cosine = cosLat1 * cosLat2 * Math.cos(radLng2 - radLng1) + sinLat1 * sinLat2;
+        // 부동소수 오차로 1을 살짝 넘으면 acos가 NaN이 되므로 보정
+        if (cosine > 1.0) {
+            cosine = 1.0;
+        } else if (cosine < -1.0) {
+            cosine = -1.0;
+        }
+        return EARTH_RADIUS_KM * Math.acos(cosine);
+    }
+
+    /**
+     * 중심점에서 radiusKm 안의 모든 지점을 포함하는 위경도 사각형
+     * 극지방이나 날짜변경선에 걸리면 경도 범위를 전체(-180~180)로 넓힌다
+     */
+    public static GeoBoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+        double deltaLat = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(latitude - deltaLat, -90.0);
+        double maxLat = Math.min(latitude + deltaLat, 90.0);
+
+        double minLng = -180.0;
+        double maxLng = 180.0;
+        double maxAbsLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        if (maxAbsLat < 89.0) {
+            double deltaLng = deltaLat / Math.cos(Math.toRadians(maxAbsLat));
+            if (longitude - deltaLng >= -180.0 && longitude + deltaLng <= 180.0) {
+                minLng = longitude - deltaLng;
+                maxLng = longitude + deltaLng;
+            }
+        }
+        return new GeoBoundingBox(minLat, maxLat, minLng, maxLng);
+    }
+}
@@ -0,0 +1,81 @@
+package com.mycompany.goormthonserver.common.util;
+
+/**
+ * 한글 자모 분해 유틸리티
+ * 입력 중인 음절("성ㅅ")이나 초성("ㅅㅅ")으로도 접두 검색이 되도록
+ * 완성형 음절과 호환 자모를 기본 자모열로 풀어준다.
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 겹모음/겹받침 → 기본 자모 (키보드로 한 글자씩 입력하는 순서)
+    private static final String COMPOUND = "ㅘㅙㅚㅝㅞㅟㅢㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+    private static final String[] COMPOUND_PARTS = {
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ",
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"
+    };
+
+    private HangulUtils() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    /**
+     * 완성형 음절과 겹자모를 기본 자모열로 분해 (그 외 문자는 그대로)
+     * 예: "성산" → "ㅅㅓㅇㅅㅏㄴ", "과" → "ㄱㅗㅏ"
+     */
+    public static String decompose(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                appendJamo(out, CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)));
+                appendJamo(out, JUNG.charAt((index / JONG_COUNT) % JUNG_COUNT));
+                int jong = index % JONG_COUNT;
+                if (jong > 0) {
+                    appendJamo(out, JONG.charAt(jong));
+                }
+            } else {
+                appendJamo(out, c);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * 완성형 음절을 초성으로 치환 (그 외 문자는 그대로)
+     * 예: "성산일출봉" → "ㅅㅅㅇㅊㅂ"
+     */
+    public static String choseong(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                out.append(CHO.charAt((c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)));
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static void appendJamo(StringBuilder out, char jamo) {
+        int compound = COMPOUND.indexOf(jamo);
+        if (compound >= 0) {
+            out.append(COMPOUND_PARTS[compound]);
+        } else {
+            out.append(jamo);
+        }
+    }
+}
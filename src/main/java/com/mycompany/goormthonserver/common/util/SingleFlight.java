@@ -0,0 +1,120 @@
+package com.mycompany.goormthonserver.common.util;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나로 합친다 (single-flight)
+ * 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 공유하며,
+ * 호출이 끝나면(성공·오류) 키를 비워 다음 요청은 다시 호출한다.
+ * 합류한 구독자가 모두 취소하면 상류 호출도 취소하고 키를 비운다.
+ *
+ * @param <K> 호출 키
+ * @param <V> 결과 타입 (모든 구독자가 같은 인스턴스를 받으므로 변경 전에 복사할 것)
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder sharedCalls = new LongAdder();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            while (true) {
+                Flight existing = inFlight.get(key);
+                if (existing != null) {
+                    if (existing.join()) {
+                        sharedCalls.increment();
+                        return existing.result();
+                    }
+                    // 모두 취소되어 닫힌 호출 - 치우고 새로 시작
+                    inFlight.remove(key, existing);
+                    continue;
+                }
+                Flight flight = new Flight(key);
+                if (inFlight.putIfAbsent(key, flight) == null) {
+                    flight.join();
+                    flight.start(call);
+                    return flight.result();
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 진행 중인 호출 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 진행 중인 호출에 합류한 누적 횟수 (절약된 호출 수)
+     */
+    public long sharedCallCount() {
+        return sharedCalls.sum();
+    }
+
+    /**
+     * 키 하나의 진행 중인 호출 (결과는 Sinks.One 에 보관해 늦게 합류한 구독자도 받는다)
+     */
+    private final class Flight {
+
+        private final K key;
+        private final Sinks.One<V> sink = Sinks.one();
+        private int subscribers;
+        private boolean closed;
+        private Disposable upstream;
+
+        Flight(K key) {
+            this.key = key;
+        }
+
+        synchronized boolean join() {
+            if (closed) {
+                return false;
+            }
+            subscribers++;
+            return true;
+        }
+
+        void start(Supplier<Mono<V>> call) {
+            Disposable subscription = Mono.defer(call)
+                    .doFinally(signal -> inFlight.remove(key, this))
+                    .subscribe(sink::tryEmitValue, sink::tryEmitError, sink::tryEmitEmpty);
+            boolean cancelled;
+            synchronized (this) {
+                upstream = subscription;
+                cancelled = closed;
+            }
+            // 상류 구독 중에 모든 구독자가 취소한 경우
+            if (cancelled) {
+                subscription.dispose();
+            }
+        }
+
+        Mono<V> result() {
+            return sink.asMono().doOnCancel(this::leave);
+        }
+
+        private void leave() {
+            Disposable toCancel;
+            synchronized (this) {
+                if (closed || --subscribers > 0) {
+                    return;
+                }
+                closed = true;
+                toCancel = upstream;
+            }
+            inFlight.remove(key, this);
+            if (toCancel != null) {
+                toCancel.dispose();
+            }
+        }
+    }
+}
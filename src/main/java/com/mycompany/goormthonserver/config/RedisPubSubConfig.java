@@ -0,0 +1,27 @@
+package com.mycompany.goormthonserver.config;
+
+import com.mycompany.goormthonserver.service.TouristSpotDetailCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 구독 (인스턴스 간 near-cache 무효화)
+ */
+@Configuration
+@ConditionalOnProperty(name = "tour-spots.detail-cache.pubsub-enabled", havingValue = "true", matchIfMissing = true)
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TouristSpotDetailCache touristSpotDetailCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(touristSpotDetailCache,
+                new ChannelTopic(TouristSpotDetailCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
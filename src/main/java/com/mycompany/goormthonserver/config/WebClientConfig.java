@@ -1,5 +1,7 @@
 package com.mycompany.goormthonserver.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -8,6 +10,7 @@ import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
@@ -17,18 +20,47 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class WebClientConfig {
 
+    @Value("${external-api.jeju-visit.base-url:http://api.visitjeju.net}")
+    private String visitJejuBaseUrl;
+
+    @Value("${external-api.jeju-visit.connect-timeout:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${external-api.jeju-visit.timeout:10000}")
+    private int timeoutMs;
+
+    // 비짓제주 전용 커넥션 풀
+    @Value("${external-api.jeju-visit.pool.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${external-api.jeju-visit.pool.pending-acquire-max-count:200}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${external-api.jeju-visit.pool.pending-acquire-timeout-ms:2000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${external-api.jeju-visit.pool.max-idle-time-ms:20000}")
+    private long maxIdleTimeMs;
+
+    @Value("${external-api.jeju-visit.pool.max-life-time-ms:300000}")
+    private long maxLifeTimeMs;
+
+    @Value("${external-api.jeju-visit.pool.evict-interval-ms:30000}")
+    private long evictIntervalMs;
+
     /**
      * 기본 WebClient 빈 등록
      */
     @Bean
     public WebClient webClient() {
-        // HTTP 클라이언트 설정
+        // HTTP 클라이언트 설정 (기본 공유 풀)
         HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
-                .responseTimeout(Duration.ofMillis(10000))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(timeoutMs))
+                .compress(true)
                 .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(10000, TimeUnit.MILLISECONDS))
-                                .addHandlerLast(new WriteTimeoutHandler(10000, TimeUnit.MILLISECONDS)));
+                        conn.addHandlerLast(new ReadTimeoutHandler(timeoutMs, TimeUnit.MILLISECONDS))
+                                .addHandlerLast(new WriteTimeoutHandler(timeoutMs, TimeUnit.MILLISECONDS)));
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
@@ -37,20 +69,48 @@ public class WebClientConfig {
     }
 
     /**
-     * 비짓제주 API 전용 WebClient (옵션)
+     * 비짓제주 API 전용 커넥션 풀
+     * 연결 재사용(keep-alive)을 위해 풀 크기와 대기열을 제한하고,
+     * 서버 측에서 먼저 끊은 유휴 연결을 쓰지 않도록 유휴/수명 기준으로 정리한다.
+     * 풀 지표는 actuator(reactor.netty.connection.provider.*)로 노출된다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider visitJejuConnectionProvider() {
+        return ConnectionProvider.builder("visitjeju")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictIntervalMs))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 비짓제주 API 전용 WebClient
      */
     @Bean("visitJejuWebClient")
-    public WebClient visitJejuWebClient() {
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 15000)
-                .responseTimeout(Duration.ofMillis(15000))
+    public WebClient visitJejuWebClient(@Qualifier("visitJejuConnectionProvider") ConnectionProvider connectionProvider) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .compress(true)  // Accept-Encoding: gzip
+                .responseTimeout(Duration.ofMillis(timeoutMs))
+                // 경로별 지표 (쿼리스트링 제외해 태그 수 제한)
+                .metrics(true, uri -> {
+                    int query = uri.indexOf('?');
+                    return query >= 0 ? uri.substring(0, query) : uri;
+                })
                 .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(15000, TimeUnit.MILLISECONDS))
-                                .addHandlerLast(new WriteTimeoutHandler(15000, TimeUnit.MILLISECONDS)));
+                        conn.addHandlerLast(new ReadTimeoutHandler(timeoutMs, TimeUnit.MILLISECONDS))
+                                .addHandlerLast(new WriteTimeoutHandler(timeoutMs, TimeUnit.MILLISECONDS)));
 
         return WebClient.builder()
+                .baseUrl(visitJejuBaseUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024)) // 2MB
                 .build();
     }
-}
\ No newline at end of file
+}
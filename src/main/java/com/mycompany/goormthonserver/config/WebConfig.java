@@ -1,5 +1,9 @@
 package com.mycompany.goormthonserver.config;
 
+import com.mycompany.goormthonserver.common.logging.RequestLoggingFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -7,6 +11,24 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Value("${logging.request.sample-rate:1.0}")
+    private double requestLogSampleRate;
+
+    @Value("${logging.request.slow-threshold-ms:500}")
+    private long requestLogSlowThresholdMs;
+
+    /**
+     * 관광지 API 요청 로그 (요청당 한 줄, 샘플링)
+     */
+    @Bean
+    public FilterRegistrationBean<RequestLoggingFilter> requestLoggingFilter() {
+        FilterRegistrationBean<RequestLoggingFilter> registration = new FilterRegistrationBean<>(
+                new RequestLoggingFilter(requestLogSampleRate, requestLogSlowThresholdMs));
+        registration.addUrlPatterns("/tour-spots/*");
+        registration.setName("requestLoggingFilter");
+        return registration;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -18,6 +40,7 @@ public class WebConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("X-Next-Cursor")  // 목록 다음 페이지 커서
                 .allowCredentials(true);
     }
 }
\ No newline at end of file
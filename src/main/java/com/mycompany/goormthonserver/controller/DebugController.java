@@ -2,11 +2,14 @@ package com.mycompany.goormthonserver.controller;
 
 import com.mycompany.goormthonserver.dto.VisitJejuResponseDto;
 import com.mycompany.goormthonserver.service.VisitJejuApiClient;
+import com.mycompany.goormthonserver.service.VisitJejuCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,30 +24,60 @@ import java.util.Optional;
 @Slf4j
 public class DebugController {
     private final VisitJejuApiClient visitJejuApiClient;
+    private final VisitJejuCacheService visitJejuCacheService;
+
+    // Mono 를 반환하면 서블릿 스레드는 바로 반환되고 응답은 비동기로 완료된다
 
     @GetMapping("/status")
-    public Map<String, Object> getApiStatus() {
-        Map<String, Object> result = new HashMap<>();
-        result.put("timestamp", System.currentTimeMillis());
-        result.put("status", visitJejuApiClient.getApiStatus());
-        return result;
+    public Mono<Map<String, Object>> getApiStatus() {
+        return visitJejuApiClient.getApiStatusAsync()
+                .map(status -> {
+                    Map<String, Object> result = new HashMap<>();
+                    result.put("timestamp", System.currentTimeMillis());
+                    result.put("status", status);
+                    return result;
+                });
     }
 
     @GetMapping("/connection")
-    public Map<String, Object> testConnection() {
-        Map<String, Object> result = new HashMap<>();
-        result.put("timestamp", System.currentTimeMillis());
-        result.put("connected", visitJejuApiClient.testConnection());
-        result.put("apiKeyValid", visitJejuApiClient.validateApiKey());
-        return result;
+    public Mono<Map<String, Object>> testConnection() {
+        return Mono.zip(visitJejuApiClient.testConnectionAsync(), visitJejuApiClient.validateApiKeyAsync())
+                .map(checks -> {
+                    Map<String, Object> result = new HashMap<>();
+                    result.put("timestamp", System.currentTimeMillis());
+                    result.put("connected", checks.getT1());
+                    result.put("apiKeyValid", checks.getT2());
+                    return result;
+                });
     }
 
     @GetMapping("/content/{contentId}")
-    public Map<String, Object> getContent(@PathVariable String contentId) {
+    public Mono<Map<String, Object>> getContent(@PathVariable String contentId) {
+        return visitJejuCacheService.getContentAsync(contentId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .map(data -> {
+                    Map<String, Object> result = new HashMap<>();
+                    result.put("timestamp", System.currentTimeMillis());
+                    result.put("contentId", contentId);
+                    result.put("data", data);
+                    return result;
+                });
+    }
+
+    @GetMapping("/search")
+    public Flux<VisitJejuResponseDto> searchContents(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return visitJejuApiClient.searchContentsAsync(keyword, page, size);
+    }
+
+    @GetMapping("/cache/stats")
+    public Map<String, Object> getCacheStats() {
         Map<String, Object> result = new HashMap<>();
         result.put("timestamp", System.currentTimeMillis());
-        result.put("contentId", contentId);
-        result.put("data", visitJejuApiClient.getContentById(contentId));
+        result.put("tiers", visitJejuCacheService.getStats());
         return result;
     }
 }
\ No newline at end of file
@@ -1,15 +1,34 @@
 package com.mycompany.goormthonserver.controller;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.goormthonserver.common.dto.CursorPage;
+import com.mycompany.goormthonserver.common.util.GeoBoundingBox;
+import com.mycompany.goormthonserver.common.util.GeoPoint;
+import com.mycompany.goormthonserver.dto.RouteRequestDto;
+import com.mycompany.goormthonserver.dto.RouteResponseDto;
+import com.mycompany.goormthonserver.dto.TouristSpotClusterDto;
 import com.mycompany.goormthonserver.dto.TouristSpotDetailDto;
+import com.mycompany.goormthonserver.dto.TouristSpotFacetsDto;
 import com.mycompany.goormthonserver.dto.TouristSpotLocationDto;
+import com.mycompany.goormthonserver.dto.TouristSpotSuggestionDto;
+import com.mycompany.goormthonserver.index.SpotCursor;
+import com.mycompany.goormthonserver.index.SpotFilter;
+import com.mycompany.goormthonserver.service.TouristSpotRouteService;
 import com.mycompany.goormthonserver.service.TouristSpotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 
 @RestController
@@ -18,24 +37,34 @@ import java.util.Optional;
 @Slf4j
 public class TouristSpotController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TouristSpotService touristSpotService;
+    private final TouristSpotRouteService touristSpotRouteService;
+    private final ObjectMapper objectMapper;
+
+    // 목록 응답을 nginx/클라이언트가 재사용할 시간 (0 이면 no-cache)
+    @Value("${tour-spots.http-cache.list-max-age-seconds:60}")
+    private long listMaxAgeSeconds;
+
+    @Value("${tour-spots.export.max-rows:10000}")
+    private long exportMaxRows;
+
+    @Value("${tour-spots.export.page-size:500}")
+    private int exportPageSize;
 
     @GetMapping("/location")
     public ResponseEntity<List<TouristSpotLocationDto>> findNearbyTouristSpots(
-            @RequestParam BigDecimal latitude,
-            @RequestParam BigDecimal longitude,
-            @RequestParam(defaultValue = "10") double radius) {
-
-        // 입력 유효성 검증
-        if (latitude == null || longitude == null) {
-            return ResponseEntity.badRequest().build();
-        }
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") double radius,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tags) {
 
         // 위경도 범위 검증
-        if (latitude.compareTo(BigDecimal.valueOf(-90)) < 0 ||
-                latitude.compareTo(BigDecimal.valueOf(90)) > 0 ||
-                longitude.compareTo(BigDecimal.valueOf(-180)) < 0 ||
-                longitude.compareTo(BigDecimal.valueOf(180)) > 0) {
+        if (!GeoPoint.isValid(latitude, longitude)) {
             return ResponseEntity.badRequest().build();
         }
 
@@ -44,21 +73,76 @@ public class TouristSpotController {
             radius = 10;
         }
 
-        List<TouristSpotLocationDto> nearbySpots = touristSpotService.findNearbyTouristSpots(
-                latitude, longitude, radius, 10);
+        // limit 범위 검증
+        if (limit <= 0 || limit > 50) {
+            limit = 10;
+        }
+
+        CursorPage<TouristSpotLocationDto> page = touristSpotService.findNearbyTouristSpots(
+                new GeoPoint(latitude, longitude), radius, limit, SpotCursor.decode(cursor),
+                SpotFilter.of(category, tags));
+
+        log.debug("반경 {}km 내 관광지 {}개 조회 완료", radius, page.items().size());
+
+        return pageResponse(page);
+    }
+
+    // 반경 제한 없이 가장 가까운 k개 (근처에 관광지가 없는 섬/해상에서도 결과 보장)
+    @GetMapping("/nearest")
+    public ResponseEntity<List<TouristSpotLocationDto>> findNearestTouristSpots(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) String category) {
+
+        // 위경도 범위 검증
+        if (!GeoPoint.isValid(latitude, longitude)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // k 범위 검증
+        if (k <= 0 || k > 50) {
+            k = 10;
+        }
+
+        List<TouristSpotLocationDto> results = touristSpotService.nearest(new GeoPoint(latitude, longitude), k, category);
 
-        log.info("반경 {}km 내 관광지 {}개 조회 완료", radius, nearbySpots.size());
+        log.debug("최근접 관광지 {}개 조회 완료", results.size());
 
-        return ResponseEntity.ok(nearbySpots);
+        return ResponseEntity.ok().cacheControl(listCacheControl()).body(results);
+    }
+
+    // 반경 내 전체를 거리순 NDJSON 으로 내보내기 (한 줄에 관광지 하나)
+    @GetMapping(value = "/location", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamNearbyTouristSpots(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") double radius,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tags) {
+
+        if (!GeoPoint.isValid(latitude, longitude)) {
+            return ResponseEntity.badRequest().build();
+        }
+        double searchRadius = radius <= 0 || radius > 10 ? 10 : radius;
+        GeoPoint location = new GeoPoint(latitude, longitude);
+        SpotFilter filter = SpotFilter.of(category, tags);
+
+        return ndjsonResponse(SpotCursor.decode(cursor), (after, pageSize) ->
+                touristSpotService.findNearbyTouristSpots(location, searchRadius, pageSize, after, filter));
     }
 
     // 키워드 검색 (거리 포함)
     @GetMapping("/search")
     public ResponseEntity<List<TouristSpotLocationDto>> searchByKeyword(
             @RequestParam String keyword,
-            @RequestParam(required = false) BigDecimal latitude,
-            @RequestParam(required = false) BigDecimal longitude,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tags) {
 
         // 입력 유효성 검증
         if (keyword == null || keyword.trim().isEmpty()) {
@@ -76,33 +160,177 @@ public class TouristSpotController {
         }
 
         // 위경도가 제공되었을 때 범위 검증
+        GeoPoint userLocation = null;
         if (latitude != null && longitude != null) {
-            if (latitude.compareTo(BigDecimal.valueOf(-90)) < 0 ||
-                    latitude.compareTo(BigDecimal.valueOf(90)) > 0 ||
-                    longitude.compareTo(BigDecimal.valueOf(-180)) < 0 ||
-                    longitude.compareTo(BigDecimal.valueOf(180)) > 0) {
+            if (!GeoPoint.isValid(latitude, longitude)) {
                 return ResponseEntity.badRequest().build();
             }
+            userLocation = new GeoPoint(latitude, longitude);
         }
 
-        List<TouristSpotLocationDto> searchResults = touristSpotService.searchByKeyword(
-                keyword, latitude, longitude, limit);
+        CursorPage<TouristSpotLocationDto> searchResults = touristSpotService.searchByKeyword(
+                keyword, userLocation, limit, SpotCursor.decode(cursor), SpotFilter.of(category, tags));
 
-        if (latitude != null && longitude != null) {
-            log.info("키워드 '{}' 검색 결과 {}개 반환 (거리순 정렬)", keyword, searchResults.size());
+        if (userLocation != null) {
+            log.debug("키워드 '{}' 검색 결과 {}개 반환 (거리순 정렬)", keyword, searchResults.items().size());
         } else {
-            log.info("키워드 '{}' 검색 결과 {}개 반환 (이름순 정렬)", keyword, searchResults.size());
+            log.debug("키워드 '{}' 검색 결과 {}개 반환 (이름순 정렬)", keyword, searchResults.items().size());
         }
 
-        return ResponseEntity.ok(searchResults);
+        return pageResponse(searchResults);
+    }
+
+    // 키워드 검색 전체를 NDJSON 으로 내보내기
+    @GetMapping(value = "/search", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamSearchByKeyword(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tags) {
+
+        if (keyword == null || keyword.trim().isEmpty() || keyword.length() > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        GeoPoint userLocation = null;
+        if (latitude != null && longitude != null) {
+            if (!GeoPoint.isValid(latitude, longitude)) {
+                return ResponseEntity.badRequest().build();
+            }
+            userLocation = new GeoPoint(latitude, longitude);
+        }
+        GeoPoint location = userLocation;
+        SpotFilter filter = SpotFilter.of(category, tags);
+
+        return ndjsonResponse(SpotCursor.decode(cursor), (after, pageSize) ->
+                touristSpotService.searchByKeyword(keyword, location, pageSize, after, filter));
+    }
+
+    // 분류·태그별 개수 (keyword 가 있으면 검색 결과, 없으면 반경 내 관광지 기준)
+    @GetMapping("/facets")
+    public ResponseEntity<TouristSpotFacetsDto> getFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(defaultValue = "10") double radius,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tags,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        boolean byKeyword = keyword != null && !keyword.trim().isEmpty();
+
+        // 검색어 길이 제한
+        if (byKeyword && keyword.length() > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 키워드가 없으면 위치 필수
+        GeoPoint location = null;
+        if (latitude != null && longitude != null) {
+            if (!GeoPoint.isValid(latitude, longitude)) {
+                return ResponseEntity.badRequest().build();
+            }
+            location = new GeoPoint(latitude, longitude);
+        }
+        if (!byKeyword && location == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 반경 검증 (최대 10km)
+        if (radius <= 0 || radius > 10) {
+            radius = 10;
+        }
+
+        // limit 범위 검증
+        if (limit <= 0 || limit > 100) {
+            limit = 20;
+        }
+
+        TouristSpotFacetsDto facets = touristSpotService.facets(
+                byKeyword ? keyword : null, location, radius, SpotFilter.of(category, tags), limit);
+
+        return ResponseEntity.ok().cacheControl(listCacheControl()).body(facets);
+    }
+
+    // 이름 자동완성 (초성 / 입력 중인 음절 지원)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TouristSpotSuggestionDto>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        // 입력 유효성 검증
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 접두어 길이 제한
+        if (prefix.length() > 50) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // limit 범위 검증
+        if (limit <= 0 || limit > 20) {
+            limit = 10;
+        }
+
+        return ResponseEntity.ok(touristSpotService.suggest(prefix, limit));
+    }
+
+    // 지도 화면 클러스터 (bbox = 서쪽 경도,남쪽 위도,동쪽 경도,북쪽 위도)
+    @GetMapping("/clusters")
+    public ResponseEntity<List<TouristSpotClusterDto>> findClusters(
+            @RequestParam String bbox,
+            @RequestParam int zoom) {
+
+        GeoBoundingBox box = parseBoundingBox(bbox);
+        if (box == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 줌 범위 검증 (타일 줌 0~20)
+        if (zoom < 0 || zoom > 20) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<TouristSpotClusterDto> clusters = touristSpotService.findClusters(box, zoom);
+
+        log.debug("줌 {} 클러스터 {}개 반환", zoom, clusters.size());
+
+        return ResponseEntity.ok().cacheControl(listCacheControl()).body(clusters);
+    }
+
+    // 담아 둔 관광지 방문 순서 계산 (출발지 기준 직선 거리 최소화)
+    @PostMapping("/route")
+    public ResponseEntity<RouteResponseDto> planRoute(@RequestBody RouteRequestDto request) {
+
+        // 관광지 수 검증
+        List<String> externalIds = request.getExternalIds();
+        if (externalIds == null || externalIds.isEmpty() || externalIds.size() > touristSpotRouteService.getMaxStops()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 출발지 위경도 검증
+        Double latitude = request.getLatitude();
+        Double longitude = request.getLongitude();
+        if (latitude == null || longitude == null || !GeoPoint.isValid(latitude, longitude)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        RouteResponseDto route = touristSpotRouteService.planRoute(
+                new GeoPoint(latitude, longitude), externalIds, request.isRoundTrip());
+
+        log.debug("방문 순서 {}곳 계산 완료 ({}ms)", route.getStops().size(), route.getElapsedMs());
+
+        return ResponseEntity.ok(route);
     }
 
     // contentId 기반 상세 정보 조회
     @GetMapping("/detail")
     public ResponseEntity<TouristSpotDetailDto> getDetailByContentId(
             @RequestParam String contentId,
-            @RequestParam(required = false) BigDecimal latitude,
-            @RequestParam(required = false) BigDecimal longitude) {
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude) {
 
         // 입력 유효성 검증
         if (contentId == null || contentId.trim().isEmpty()) {
@@ -116,15 +344,108 @@ public class TouristSpotController {
             return ResponseEntity.badRequest().build();
         }
 
-        Optional<TouristSpotDetailDto> detail = touristSpotService.findDetailByContentId(contentId, latitude, longitude);
+        // 위경도가 제공되었을 때만 거리 계산
+        GeoPoint userLocation = null;
+        if (latitude != null && longitude != null) {
+            if (!GeoPoint.isValid(latitude, longitude)) {
+                return ResponseEntity.badRequest().build();
+            }
+            userLocation = new GeoPoint(latitude, longitude);
+        }
+
+        Optional<TouristSpotDetailDto> detail = touristSpotService.findDetailByContentId(contentId, userLocation);
 
         if (detail.isEmpty()) {
-            log.info("contentId '{}'에 해당하는 데이터를 찾을 수 없음", contentId);
+            log.debug("contentId '{}'에 해당하는 데이터를 찾을 수 없음", contentId);
             return ResponseEntity.notFound().build();
         }
 
-        log.info("contentId '{}' 상세 정보 반환 완료", contentId);
-        return ResponseEntity.ok(detail.get());
+        // ETag / Last-Modified 가 있으면 If-None-Match / If-Modified-Since 일치 시
+        // 스프링이 본문을 직렬화하지 않고 304 로 응답한다 (HttpEntityMethodProcessor)
+        TouristSpotDetailDto body = detail.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (body.getUpdatedAt() != null) {
+            ZonedDateTime lastModified = body.getUpdatedAt().atZone(ZoneId.systemDefault());
+            response.eTag(detailETag(body.getExternal_id(), lastModified))
+                    .lastModified(lastModified);
+        }
+
+        log.debug("contentId '{}' 상세 정보 반환 완료", contentId);
+        return response.body(body);
+    }
+
+    // 목록 본문은 그대로 배열로 두고 다음 페이지 커서는 헤더로 전달 (기존 클라이언트 호환)
+    private ResponseEntity<List<TouristSpotLocationDto>> pageResponse(CursorPage<TouristSpotLocationDto> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(listCacheControl());
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    /**
+     * 커서로 페이지를 넘기며 NDJSON 으로 쓴다.
+     * 한 번에 한 페이지만 메모리에 두고, 페이지마다 서비스(트랜잭션)를 따로 호출하므로
+     * 느린 클라이언트에 쓰는 동안 DB 연결을 붙잡지 않는다.
+     */
+    private ResponseEntity<StreamingResponseBody> ndjsonResponse(
+            SpotCursor start, BiFunction<SpotCursor, Integer, CursorPage<TouristSpotLocationDto>> fetch) {
+        StreamingResponseBody body = out -> {
+            long written = 0;
+            SpotCursor after = start;
+            while (written < exportMaxRows) {
+                int pageSize = (int) Math.min(exportPageSize, exportMaxRows - written);
+                CursorPage<TouristSpotLocationDto> page = fetch.apply(after, pageSize);
+                for (TouristSpotLocationDto spot : page.items()) {
+                    out.write(objectMapper.writeValueAsBytes(spot));
+                    out.write('\n');
+                }
+                out.flush();
+                written += page.items().size();
+                if (!page.hasNext()) {
+                    break;
+                }
+                after = SpotCursor.decode(page.nextCursor());
+            }
+            log.debug("관광지 NDJSON 내보내기 {}건", written);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")  // nginx 버퍼링 없이 바로 전달
+                .body(body);
+    }
+
+    // "minLng,minLat,maxLng,maxLat" → 사각형 (형식이나 범위가 잘못되면 null)
+    private static GeoBoundingBox parseBoundingBox(String bbox) {
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            double minLng = Double.parseDouble(parts[0].trim());
+            double minLat = Double.parseDouble(parts[1].trim());
+            double maxLng = Double.parseDouble(parts[2].trim());
+            double maxLat = Double.parseDouble(parts[3].trim());
+            if (!GeoPoint.isValid(minLat, minLng) || !GeoPoint.isValid(maxLat, maxLng)
+                    || minLat > maxLat || minLng > maxLng) {
+                return null;
+            }
+            return new GeoBoundingBox(minLat, maxLat, minLng, maxLng);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private CacheControl listCacheControl() {
+        return listMaxAgeSeconds > 0
+                ? CacheControl.maxAge(Duration.ofSeconds(listMaxAgeSeconds)).cachePublic()
+                : CacheControl.noCache();
+    }
+
+    // 같은 URL(좌표 포함)이면 updated_at 이 같을 때 본문도 같다. 압축 프록시를 거쳐도 유지되도록 약한 ETag 사용
+    private static String detailETag(String externalId, ZonedDateTime lastModified) {
+        return "W/\"" + externalId + "-" + Long.toHexString(lastModified.toInstant().toEpochMilli()) + "\"";
     }
 
 }
\ No newline at end of file
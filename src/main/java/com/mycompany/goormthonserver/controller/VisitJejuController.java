@@ -0,0 +1,43 @@
+package com.mycompany.goormthonserver.controller;
+
+import com.mycompany.goormthonserver.dto.VisitJejuBatchRequestDto;
+import com.mycompany.goormthonserver.dto.VisitJejuBatchResponseDto;
+import com.mycompany.goormthonserver.service.VisitJejuBatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/visitjeju")
+@RequiredArgsConstructor
+@Slf4j
+public class VisitJejuController {
+
+    private final VisitJejuBatchService visitJejuBatchService;
+
+    // 지도에 표시된 관광지들의 비짓제주 정보(사진, 소개, 태그)를 한 번에 조회
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<VisitJejuBatchResponseDto>> getContents(
+            @RequestBody VisitJejuBatchRequestDto request) {
+
+        List<String> contentsIds = request.getContentsIds();
+
+        // 입력 유효성 검증
+        if (contentsIds == null || contentsIds.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        // 요청 개수 제한
+        if (contentsIds.size() > visitJejuBatchService.getMaxSize()) {
+            log.warn("비짓제주 일괄 조회 요청 초과: {}개", contentsIds.size());
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        return visitJejuBatchService.getContents(contentsIds)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mycompany.goormthonserver.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 방문 순서 계산 요청
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "방문 순서 계산 요청")
+public class RouteRequestDto {
+
+    @Schema(description = "방문할 관광지 external_id 목록", example = "[\"CONT_000000000500349\", \"CONT_000000000500477\"]")
+    private List<String> externalIds;
+
+    @Schema(description = "출발지 위도", example = "33.4996213")
+    private Double latitude;
+
+    @Schema(description = "출발지 경도", example = "126.5311884")
+    private Double longitude;
+
+    @Schema(description = "마지막 관광지에서 출발지로 돌아오는지 (기본 false)", example = "false")
+    private boolean roundTrip;
+}
@@ -0,0 +1,36 @@
+package com.mycompany.goormthonserver.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 방문 순서 계산 응답
+ * 찾지 못한 관광지는 제외하고 나머지로 순서를 계산한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "방문 순서 계산 응답")
+public class RouteResponseDto {
+
+    @Schema(description = "방문 순서대로 정렬한 관광지 (distance = 직전 지점에서의 직선 거리 km)")
+    private List<TouristSpotLocationDto> stops;
+
+    @Schema(description = "전체 직선 거리 (km, 왕복이면 출발지로 돌아오는 구간 포함)", example = "84.2")
+    private double totalDistance;
+
+    @Schema(description = "좌표가 없거나 존재하지 않는 external_id")
+    private List<String> notFound;
+
+    @Schema(description = "시간 예산 안에 더 줄일 수 없는 순서까지 도달했는지 (false 면 예산 내 최선)")
+    private boolean converged;
+
+    @Schema(description = "전체 처리 시간 (ms)", example = "12")
+    private long elapsedMs;
+}
@@ -0,0 +1,17 @@
+package com.mycompany.goormthonserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TouristSpotClusterDto {
+    private int count;                              // 클러스터에 속한 관광지 수
+    private double latitude;                        // 무게중심
+    private double longitude;
+    private TouristSpotLocationDto representative;  // 무게중심에 가장 가까운 관광지 (distance 는 0)
+}
@@ -1,11 +1,12 @@
 package com.mycompany.goormthonserver.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Getter
 @Builder
@@ -18,11 +19,14 @@ public class TouristSpotDetailDto {
     private String name;      // 관광지 제목
     private String external_id;
     private String address;
-    private BigDecimal latitude;
-    private BigDecimal longitude;
+    private double latitude;
+    private double longitude;
     private String description;
     private String category;
     private String tag;
     private String introduction;
-    private Double distance; // km 단위
+    private double distance; // km 단위
+
+    @JsonIgnore
+    private LocalDateTime updatedAt; // 조건부 요청 검증용 (응답 본문에는 포함하지 않음)
 }
\ No newline at end of file
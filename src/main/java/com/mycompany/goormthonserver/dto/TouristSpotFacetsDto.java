@@ -0,0 +1,18 @@
+package com.mycompany.goormthonserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TouristSpotFacetsDto {
+    private int total;                       // 모든 조건에 맞는 관광지 수
+    private Map<String, Integer> categories; // 분류별 개수 (분류 조건 제외, 많은 순)
+    private Map<String, Integer> tags;       // 태그별 개수 (많은 순)
+}
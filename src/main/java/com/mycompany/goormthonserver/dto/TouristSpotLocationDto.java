@@ -5,22 +5,20 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class TouristSpotLocationDto {
     private String externalId;
     private String name;
     private String address;
-    private BigDecimal latitude;
-    private BigDecimal longitude;
+    private double latitude;
+    private double longitude;
     private String description;
     private String category;
     private String tag;
     private String introduction;
     private String imgPath;
-    private Double distance; // km 단위
+    private double distance; // km 단위
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.mycompany.goormthonserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TouristSpotSuggestionDto {
+    private String externalId;
+    private String name;
+    private String category;
+}
@@ -0,0 +1,21 @@
+package com.mycompany.goormthonserver.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 비짓제주 일괄 조회 요청
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "비짓제주 일괄 조회 요청")
+public class VisitJejuBatchRequestDto {
+
+    @Schema(description = "조회할 콘텐츠 ID 목록", example = "[\"CONT_000000000500349\", \"CONT_000000000500477\"]")
+    private List<String> contentsIds;
+}
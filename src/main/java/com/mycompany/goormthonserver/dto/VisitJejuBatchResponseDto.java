@@ -0,0 +1,34 @@
+package com.mycompany.goormthonserver.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비짓제주 일괄 조회 응답
+ * 일부 항목이 실패해도 나머지 결과는 그대로 반환한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "비짓제주 일괄 조회 응답")
+public class VisitJejuBatchResponseDto {
+
+    @Schema(description = "콘텐츠 ID별 조회 결과 (요청 순서)")
+    private Map<String, VisitJejuResponseDto> results;
+
+    @Schema(description = "어느 계층에도 없는 콘텐츠 ID")
+    private List<String> notFound;
+
+    @Schema(description = "시간 초과 또는 오류로 조회하지 못한 콘텐츠 ID")
+    private List<String> failed;
+
+    @Schema(description = "전체 처리 시간 (ms)", example = "320")
+    private long elapsedMs;
+}
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
  * 7개 핵심 필드만 포함
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "비짓제주 관광지 정보")
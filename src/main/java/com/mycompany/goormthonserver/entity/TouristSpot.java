@@ -14,11 +14,16 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tourist_spots")
+@EntityListeners(TouristSpotEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TouristSpot {
 
+    // 행을 넣은 쪽 (CSV 가져오기는 자기 행만 정리한다)
+    public static final String SOURCE_CSV = "csv";
+    public static final String SOURCE_VISITJEJU = "visitjeju";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -38,6 +43,16 @@ public class TouristSpot {
     @Column(name = "longitude", precision = 11, scale = 8, nullable = false)
     private BigDecimal longitude;
 
+    // 거리 계산용 미리 계산된 값 (latitude/longitude 변경 시 함께 갱신)
+    @Column(name = "lat_sin")
+    private Double latSin;
+
+    @Column(name = "lat_cos")
+    private Double latCos;
+
+    @Column(name = "lng_rad")
+    private Double lngRad;
+
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
@@ -59,6 +74,21 @@ public class TouristSpot {
     @Column(name = "audioUrl", length = 500)
     private String audioUrl;
 
+    // 비짓제주 동기화 시 원본 콘텐츠 해시 (바뀐 행만 갱신하기 위함)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "source", length = 20)
+    private String source;
+
+    // false 면 조회에서 제외 (CSV 에서 빠진 관광지, 하위 테이블 데이터는 유지)
+    @Column(name = "active", nullable = false, columnDefinition = "BOOLEAN NOT NULL DEFAULT TRUE")
+    private boolean active = true;
+
+    // 마지막으로 이 행이 들어 있던 CSV 가져오기 시각 (TouristSpotImporter 가 JDBC 로만 쓴다)
+    @Column(name = "last_imported_at", insertable = false, updatable = false)
+    private LocalDateTime lastImportedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -75,6 +105,7 @@ public class TouristSpot {
         this.address = address;
         this.latitude = latitude;
         this.longitude = longitude;
+        syncTrigColumns();
     }
 
     // Builder 패턴을 위한 정적 메서드
@@ -93,6 +124,7 @@ public class TouristSpot {
     public void updateLocation(BigDecimal latitude, BigDecimal longitude) {
         this.latitude = latitude;
         this.longitude = longitude;
+        syncTrigColumns();
     }
 
     public void updateContent(String introduction, String script, String audioUrl) {
@@ -110,6 +142,30 @@ public class TouristSpot {
         this.imgPath = imgPath;
     }
 
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public void updateSource(String source) {
+        this.source = source;
+    }
+
+    // setter로 좌표만 바뀐 경우에도 저장 직전에 맞춰준다
+    @PrePersist
+    @PreUpdate
+    void syncTrigColumns() {
+        if (latitude == null || longitude == null) {
+            this.latSin = null;
+            this.latCos = null;
+            this.lngRad = null;
+            return;
+        }
+        double radLat = Math.toRadians(latitude.doubleValue());
+        this.latSin = Math.sin(radLat);
+        this.latCos = Math.cos(radLat);
+        this.lngRad = Math.toRadians(longitude.doubleValue());
+    }
+
     // 유틸리티 메서드
     public boolean hasAudioContent() {
         return audioUrl != null && !audioUrl.trim().isEmpty();
@@ -0,0 +1,10 @@
+package com.mycompany.goormthonserver.entity;
+
+/**
+ * 관광지 데이터 변경 이벤트 (생성/수정/삭제)
+ * 인메모리 인덱스와 캐시 무효화에 사용
+ *
+ * @param externalId 변경된 관광지 (null 이면 일괄 변경 - 전체 무효화)
+ */
+public record TouristSpotChangedEvent(String externalId) {
+}
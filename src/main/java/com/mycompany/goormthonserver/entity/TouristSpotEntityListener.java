@@ -0,0 +1,25 @@
+package com.mycompany.goormthonserver.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * TouristSpot 변경 시 TouristSpotChangedEvent 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class TouristSpotEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(TouristSpot touristSpot) {
+        eventPublisher.publishEvent(new TouristSpotChangedEvent(touristSpot.getExternalId()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.mycompany.goormthonserver.entity;
+
+import com.mycompany.goormthonserver.dto.VisitJejuResponseDto;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비짓제주 API 응답 MySQL 캐시 (init-db/04-visitjeju-cache.sql)
+ */
+@Entity
+@Table(name = "visitjeju_cache")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VisitJejuCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tourist_spot_id", nullable = false)
+    private Long touristSpotId;
+
+    @Column(name = "external_id", length = 100, nullable = false, unique = true)
+    private String externalId;
+
+    @Column(name = "title", length = 500, nullable = false)
+    private String title;
+
+    @Column(name = "introduction", columnDefinition = "TEXT")
+    private String introduction;
+
+    @Column(name = "tag", columnDefinition = "TEXT")
+    private String tag;
+
+    @Column(name = "address", length = 500)
+    private String address;
+
+    @Column(name = "photo_id")
+    private Long photoId;
+
+    @Column(name = "img_path", length = 1000)
+    private String imgPath;
+
+    @Column(name = "cached_at")
+    private LocalDateTime cachedAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    // 생성자
+    public VisitJejuCache(Long touristSpotId, String externalId) {
+        this.touristSpotId = touristSpotId;
+        this.externalId = externalId;
+        this.isActive = true;
+    }
+
+    public static VisitJejuCache create(Long touristSpotId, String externalId) {
+        return new VisitJejuCache(touristSpotId, externalId);
+    }
+
+    // 비즈니스 로직 메서드
+    public void refresh(VisitJejuResponseDto dto, LocalDateTime cachedAt, LocalDateTime expiresAt) {
+        this.title = dto.getTitle();
+        this.introduction = dto.getIntroduction();
+        this.tag = dto.getTag();
+        this.address = dto.getAddress();
+        this.photoId = dto.getPhotoId();
+        this.imgPath = dto.getImgPath();
+        this.cachedAt = cachedAt;
+        this.expiresAt = expiresAt;
+        this.isActive = true;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+
+    public VisitJejuResponseDto toDto() {
+        return VisitJejuResponseDto.builder()
+                .contentsId(externalId)
+                .title(title)
+                .introduction(introduction)
+                .tag(tag)
+                .address(address)
+                .photoId(photoId)
+                .imgPath(imgPath)
+                .source(VisitJejuResponseDto.CacheSource.MYSQL.name())
+                .build();
+    }
+}
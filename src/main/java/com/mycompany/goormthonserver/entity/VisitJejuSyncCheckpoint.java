@@ -0,0 +1,108 @@
+package com.mycompany.goormthonserver.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 비짓제주 동기화 진행 상황 (분류별 한 행)
+ * 페이지 단위로 반영이 끝날 때마다 갱신해 중단된 동기화를 이어서 실행할 수 있게 한다.
+ */
+@Entity
+@Table(name = "visitjeju_sync_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VisitJejuSyncCheckpoint {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED
+    }
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status;
+
+    @Column(name = "last_page", nullable = false)
+    private int lastPage;
+
+    @Column(name = "page_count", nullable = false)
+    private int pageCount;
+
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    @Column(name = "updated_count", nullable = false)
+    private long updatedCount;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public VisitJejuSyncCheckpoint(String name) {
+        this.name = name;
+        this.status = Status.COMPLETED;
+    }
+
+    /**
+     * 이어서 시작할 페이지
+     * 진행 중(RUNNING)으로 남은 기록이 resumeWindow 안에 갱신됐으면 다음 페이지, 아니면 1
+     */
+    public int resumePage(LocalDateTime now, Duration resumeWindow) {
+        boolean resumable = status == Status.RUNNING
+                && updatedAt != null
+                && !updatedAt.plus(resumeWindow).isBefore(now)
+                && lastPage < pageCount;
+        return resumable ? lastPage + 1 : 1;
+    }
+
+    /**
+     * 동기화 시작 (처음부터면 누적 건수 초기화)
+     */
+    public void start(int firstPage, int pageCount, LocalDateTime now) {
+        if (firstPage == 1) {
+            this.lastPage = 0;
+            this.createdCount = 0;
+            this.updatedCount = 0;
+            this.startedAt = now;
+        }
+        this.status = Status.RUNNING;
+        this.pageCount = pageCount;
+        this.updatedAt = now;
+        this.completedAt = null;
+    }
+
+    /**
+     * 한 페이지 반영 완료
+     */
+    public void advance(int page, long created, long updated, LocalDateTime now) {
+        this.lastPage = page;
+        this.createdCount += created;
+        this.updatedCount += updated;
+        this.updatedAt = now;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = Status.COMPLETED;
+        this.updatedAt = now;
+        this.completedAt = now;
+    }
+}
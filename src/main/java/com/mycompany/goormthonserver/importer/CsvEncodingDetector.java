@@ -0,0 +1,64 @@
+package com.mycompany.goormthonserver.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 인코딩 판별 (UTF-8 / MS949)
+ * 공공데이터 CSV 는 UTF-8(BOM 포함 여부 제각각) 아니면 MS949(CP949, EUC-KR 상위 집합)라
+ * 앞부분을 UTF-8 로 엄격하게 디코딩해 보고 실패하면 MS949 로 본다.
+ * 파일 전체를 인코딩마다 다시 읽지 않고 앞부분만 한 번 확인한다.
+ */
+final class CsvEncodingDetector {
+
+    static final Charset MS949 = Charset.forName("MS949");
+
+    private static final int SAMPLE_BYTES = 64 * 1024;
+
+    private CsvEncodingDetector() {
+    }
+
+    /**
+     * 스트림 앞부분으로 인코딩 판별 (mark/reset 지원 스트림이면 위치를 되돌린다)
+     */
+    static Charset detect(InputStream in) throws IOException {
+        if (in.markSupported()) {
+            in.mark(SAMPLE_BYTES);
+        }
+        byte[] sample = in.readNBytes(SAMPLE_BYTES);
+        if (in.markSupported()) {
+            in.reset();
+        }
+        return detect(sample, sample.length < SAMPLE_BYTES);
+    }
+
+    /**
+     * @param sample     파일 앞부분
+     * @param endOfInput sample 이 파일 전체인지 (아니면 끝에서 잘린 멀티바이트 문자는 오류로 보지 않음)
+     */
+    static Charset detect(byte[] sample, boolean endOfInput) {
+        if (sample.length >= 3 && (sample[0] & 0xFF) == 0xEF && (sample[1] & 0xFF) == 0xBB && (sample[2] & 0xFF) == 0xBF) {
+            return StandardCharsets.UTF_8;
+        }
+        return isValidUtf8(sample, endOfInput) ? StandardCharsets.UTF_8 : MS949;
+    }
+
+    private static boolean isValidUtf8(byte[] sample, boolean endOfInput) {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer out = CharBuffer.allocate(sample.length);
+        CoderResult result = decoder.decode(ByteBuffer.wrap(sample), out, endOfInput);
+        if (result.isError()) {
+            return false;
+        }
+        return !endOfInput || !decoder.flush(out).isError();
+    }
+}
@@ -0,0 +1,83 @@
+package com.mycompany.goormthonserver.importer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관광지 CSV 한 행 (정제 후)
+ * 컬럼: 콘텐츠아이디, 콘텐츠분류, 제목, 지번주소, 도로명주소, 위도, 경도
+ */
+record TouristSpotCsvRow(String externalId, String name, String address,
+                         double latitude, double longitude, String category) {
+
+    static final String COL_ID = "콘텐츠아이디";
+    static final String COL_CATEGORY = "콘텐츠분류";
+    static final String COL_NAME = "제목";
+    static final String COL_JIBUN_ADDRESS = "지번주소";
+    static final String COL_ROAD_ADDRESS = "도로명주소";
+    static final String COL_LATITUDE = "위도";
+    static final String COL_LONGITUDE = "경도";
+
+    String description() {
+        return name + "은(는) 제주도의 아름다운 관광지입니다.";
+    }
+
+    /**
+     * 헤더 이름 → 열 위치
+     */
+    static Map<String, Integer> headerIndex(List<String> header) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            index.put(header.get(i).trim(), i);
+        }
+        for (String required : List.of(COL_ID, COL_CATEGORY, COL_NAME, COL_LATITUDE, COL_LONGITUDE)) {
+            if (!index.containsKey(required)) {
+                throw new IllegalArgumentException("CSV 헤더에 '" + required + "' 컬럼이 없습니다: " + header);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * CSV 행 정제 (기존 jeju_data_import.py 와 같은 규칙)
+     * 대상 분류가 아니거나, 콘텐츠 ID/이름이 비었거나, 좌표가 없거나 0이면 null
+     *
+     * @param categories 가져올 콘텐츠분류 (비어 있으면 전체)
+     */
+    static TouristSpotCsvRow parse(List<String> row, Map<String, Integer> header, Set<String> categories) {
+        String category = field(row, header, COL_CATEGORY);
+        if (!categories.isEmpty() && !categories.contains(category)) {
+            return null;
+        }
+        String externalId = field(row, header, COL_ID);
+        String name = field(row, header, COL_NAME);
+        if (externalId.isEmpty() || name.isEmpty()) {
+            return null;
+        }
+
+        double latitude;
+        double longitude;
+        try {
+            latitude = Double.parseDouble(field(row, header, COL_LATITUDE));
+            longitude = Double.parseDouble(field(row, header, COL_LONGITUDE));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (latitude == 0 || longitude == 0) {
+            return null;
+        }
+
+        String address = field(row, header, COL_ROAD_ADDRESS);
+        if (address.isEmpty()) {
+            address = field(row, header, COL_JIBUN_ADDRESS);
+        }
+        return new TouristSpotCsvRow(externalId, name, address, latitude, longitude, category);
+    }
+
+    private static String field(List<String> row, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        return index == null || index >= row.size() ? "" : row.get(index).trim();
+    }
+}
@@ -0,0 +1,17 @@
+package com.mycompany.goormthonserver.importer;
+
+import java.nio.charset.Charset;
+
+/**
+ * 관광지 CSV 가져오기 결과
+ *
+ * @param charset     판별한 파일 인코딩
+ * @param rowsRead    읽은 데이터 행 수 (헤더 제외)
+ * @param rowsSkipped 정제 규칙으로 제외한 행 수
+ * @param upserted    INSERT 또는 UPDATE 한 행 수
+ * @param changed     그중 새로 들어오거나 값이 바뀐 행 수 (updated_at 이 올라간 행)
+ * @param pruned      이번 파일에 없어 비활성으로 바꾼 기존 행 수 (CSV 로 들어온 행만)
+ */
+public record TouristSpotImportResult(Charset charset, long rowsRead, long rowsSkipped,
+                                      long upserted, long changed, long pruned, long elapsedMs) {
+}
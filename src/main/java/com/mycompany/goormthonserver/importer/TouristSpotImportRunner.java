@@ -0,0 +1,37 @@
+package com.mycompany.goormthonserver.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 기동 시 관광지 CSV 가져오기
+ * tour-spots.import.file 을 지정했을 때만 실행된다.
+ * 예: java -jar app.jar --tour-spots.import.file=pre-data/datasample.csv
+ */
+@Component
+@ConditionalOnProperty(name = "tour-spots.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class TouristSpotImportRunner implements CommandLineRunner {
+
+    private final TouristSpotImporter touristSpotImporter;
+
+    @Value("${tour-spots.import.file}")
+    private String file;
+
+    @Override
+    public void run(String... args) {
+        try {
+            touristSpotImporter.importCsv(Path.of(file));
+        } catch (Exception e) {
+            // 가져오기에 실패해도 기존 데이터로 계속 서비스
+            log.error("❌ 관광지 CSV 가져오기 실패: {} - {}", file, e.getMessage(), e);
+        }
+    }
+}
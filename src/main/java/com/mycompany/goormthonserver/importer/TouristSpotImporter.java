@@ -0,0 +1,237 @@
+package com.mycompany.goormthonserver.importer;
+
+import com.mycompany.goormthonserver.common.util.CsvReader;
+import com.mycompany.goormthonserver.entity.TouristSpotChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 관광지 CSV 일괄 가져오기 (pre-data/jeju_data_import.py 대체)
+ *
+ * - 인코딩은 파일 앞부분으로 한 번만 판별하고, 파일은 행 단위로 스트리밍한다.
+ * - external_id 기준 INSERT ... ON DUPLICATE KEY UPDATE 를 JDBC 배치로 보낸다
+ *   (MySQL URL 에 rewriteBatchedStatements=true 가 있으면 다중 VALUES 한 문장으로 전송).
+ * - 기존 행을 먼저 지우지 않으므로 가져오는 동안에도 조회가 끊기지 않는다.
+ * - prune 을 켜면 끝난 뒤 CSV 로 들어온(source = 'csv') 행 중 이번 파일에 없던 행을
+ *   비활성(active = FALSE)으로 바꾼다. 삭제하지 않으므로 오디오·QR·컬렉션 등 하위 데이터는 남고,
+ *   다음 가져오기에 다시 나오면 활성으로 돌아온다. 비짓제주 동기화로 들어온 행은 건드리지 않는다.
+ * - 파일에 있던 행은 last_imported_at 에 이번 시각을 찍고, updated_at 은 값이 바뀐 행만 올린다.
+ *   같은 파일을 다시 가져와도 상세 ETag·카탈로그 지문·캐시가 그대로 유지된다.
+ *
+ * 비짓제주에서 채운 소개/태그/사진/오디오 컬럼은 덮어쓰지 않고, 비짓제주 동기화로 들어온 행은
+ * 이름·주소·좌표·설명·분류도 그대로 둔다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TouristSpotImporter {
+
+    // 비짓제주 동기화로 들어온 행(source = 'visitjeju')은 CSV 의 이름·좌표·자리표시 설명으로 덮어쓰지 않는다.
+    // 그 밖의 행은 값이 바뀌면 content_hash 를 비워 다음 동기화가 비짓제주 값으로 다시 맞추게 한다.
+    // updated_at 은 실제로 바뀐 행만 올리고, 그대로인 행은 자기 값으로 다시 써서 ON UPDATE CURRENT_TIMESTAMP 도 막는다.
+    // MySQL 은 SET 을 왼쪽부터 반영하므로, 기존 값과 비교하는 updated_at·content_hash 를 값 컬럼보다 먼저 둔다.
+    private static final String UPSERT_SQL = """
+            INSERT INTO tourist_spots
+                (external_id, name, address, latitude, longitude, lat_sin, lat_cos, lng_rad,
+                 description, category, source, active, created_at, updated_at, last_imported_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'csv', TRUE, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                updated_at = CASE
+                    WHEN source = 'visitjeju'
+                        OR (source IS NOT NULL AND active = TRUE
+                            AND name = VALUES(name) AND address = VALUES(address)
+                            AND latitude = VALUES(latitude) AND longitude = VALUES(longitude)
+                            AND description = VALUES(description) AND category = VALUES(category))
+                    THEN updated_at
+                    ELSE VALUES(updated_at)
+                END,
+                content_hash = CASE
+                    WHEN source = 'visitjeju'
+                        OR (name = VALUES(name) AND address = VALUES(address)
+                            AND latitude = VALUES(latitude) AND longitude = VALUES(longitude)
+                            AND description = VALUES(description) AND category = VALUES(category))
+                    THEN content_hash
+                    ELSE NULL
+                END,
+                name = CASE WHEN source = 'visitjeju' THEN name ELSE VALUES(name) END,
+                address = CASE WHEN source = 'visitjeju' THEN address ELSE VALUES(address) END,
+                latitude = CASE WHEN source = 'visitjeju' THEN latitude ELSE VALUES(latitude) END,
+                longitude = CASE WHEN source = 'visitjeju' THEN longitude ELSE VALUES(longitude) END,
+                lat_sin = CASE WHEN source = 'visitjeju' THEN lat_sin ELSE VALUES(lat_sin) END,
+                lat_cos = CASE WHEN source = 'visitjeju' THEN lat_cos ELSE VALUES(lat_cos) END,
+                lng_rad = CASE WHEN source = 'visitjeju' THEN lng_rad ELSE VALUES(lng_rad) END,
+                description = CASE WHEN source = 'visitjeju' THEN description ELSE VALUES(description) END,
+                category = CASE WHEN source = 'visitjeju' THEN category ELSE VALUES(category) END,
+                active = CASE WHEN source = 'visitjeju' THEN active ELSE TRUE END,
+                source = COALESCE(source, 'csv'),
+                last_imported_at = VALUES(last_imported_at)
+            """;
+
+    // CSV 로 들어온 활성 행 중 이번 파일에 없던 행 → 비활성
+    // (분류 필터가 있으면 그 분류 안에서만, 분류 조건은 prune() 에서 덧붙인다)
+    private static final String PRUNE_SQL = """
+            UPDATE tourist_spots
+            SET active = FALSE, updated_at = CURRENT_TIMESTAMP
+            WHERE source = 'csv'
+              AND active = TRUE
+              AND (last_imported_at IS NULL OR last_imported_at <> ?)
+            """;
+
+    // 이번 가져오기로 새로 들어오거나 값이 바뀐 행
+    private static final String CHANGED_SQL = """
+            SELECT COUNT(*)
+            FROM tourist_spots
+            WHERE last_imported_at = ?
+              AND updated_at = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${tour-spots.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${tour-spots.import.categories:관광지}")
+    private String categories;
+
+    @Value("${tour-spots.import.prune:false}")
+    private boolean prune;
+
+    /**
+     * CSV 파일 가져오기
+     */
+    public TouristSpotImportResult importCsv(Path path) throws IOException {
+        long startTime = System.currentTimeMillis();
+        // init-db 스키마의 updated_at·last_imported_at 이 초 단위 TIMESTAMP 라 초 단위로 맞춘다 (정리·변경 집계가 같은 값으로 비교)
+        Timestamp importedAt = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        Set<String> targetCategories = parseCategories(categories);
+
+        log.info("🚀 관광지 CSV 가져오기 시작: {} (분류: {})", path,
+                targetCategories.isEmpty() ? "전체" : targetCategories);
+
+        Charset charset;
+        long rowsRead = 0;
+        long rowsSkipped = 0;
+        long upserted = 0;
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            charset = CsvEncodingDetector.detect(in);
+            log.info("🔤 CSV 인코딩: {}", charset.name());
+
+            try (CsvReader reader = new CsvReader(new InputStreamReader(in, charset))) {
+                List<String> header = reader.readRow();
+                if (header == null) {
+                    throw new IllegalArgumentException("빈 CSV 파일입니다: " + path);
+                }
+                Map<String, Integer> headerIndex = TouristSpotCsvRow.headerIndex(header);
+
+                List<TouristSpotCsvRow> chunk = new ArrayList<>(batchSize);
+                List<String> row;
+                while ((row = reader.readRow()) != null) {
+                    rowsRead++;
+                    TouristSpotCsvRow parsed = TouristSpotCsvRow.parse(row, headerIndex, targetCategories);
+                    if (parsed == null) {
+                        rowsSkipped++;
+                        continue;
+                    }
+                    chunk.add(parsed);
+                    if (chunk.size() >= batchSize) {
+                        upserted += flush(chunk, importedAt);
+                        log.debug("관광지 CSV {}행까지 반영", reader.getRowNumber());
+                    }
+                }
+                upserted += flush(chunk, importedAt);
+            }
+        }
+
+        long pruned = 0;
+        if (prune && upserted > 0) {
+            pruned = prune(importedAt, targetCategories);
+        } else if (prune) {
+            log.warn("⚠️ 가져온 행이 없어 기존 데이터 정리를 건너뜁니다: {}", path);
+        }
+
+        Long changed = jdbcTemplate.queryForObject(CHANGED_SQL, Long.class, importedAt, importedAt);
+        if (changed == null) {
+            changed = 0L;
+        }
+
+        // JDBC 로 직접 쓰므로 엔티티 이벤트가 없다 → 바뀐 행이 있을 때만 전체 변경으로 알림 (상세 캐시, 인메모리 인덱스)
+        if (changed > 0 || pruned > 0) {
+            eventPublisher.publishEvent(new TouristSpotChangedEvent(null));
+        }
+
+        TouristSpotImportResult result = new TouristSpotImportResult(charset, rowsRead, rowsSkipped,
+                upserted, changed, pruned, System.currentTimeMillis() - startTime);
+        log.info("✅ 관광지 CSV 가져오기 완료 - 읽음: {}, 제외: {}, 반영: {}, 변경: {}, 비활성: {} ({}ms)",
+                result.rowsRead(), result.rowsSkipped(), result.upserted(), result.changed(), result.pruned(),
+                result.elapsedMs());
+        return result;
+    }
+
+    private int prune(Timestamp importedAt, Set<String> targetCategories) {
+        if (targetCategories.isEmpty()) {
+            return jdbcTemplate.update(PRUNE_SQL, importedAt);
+        }
+        // 이번에 가져오지 않은 분류의 행은 파일에 없어도 그대로 둔다
+        String placeholders = String.join(", ", targetCategories.stream().map(category -> "?").toList());
+        List<Object> args = new ArrayList<>(targetCategories.size() + 1);
+        args.add(importedAt);
+        args.addAll(targetCategories);
+        return jdbcTemplate.update(PRUNE_SQL + " AND category IN (" + placeholders + ")", args.toArray());
+    }
+
+    private int flush(List<TouristSpotCsvRow> chunk, Timestamp importedAt) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, chunk, chunk.size(), (ps, spot) -> {
+            double radLat = Math.toRadians(spot.latitude());
+            ps.setString(1, spot.externalId());
+            ps.setString(2, spot.name());
+            ps.setString(3, spot.address());
+            ps.setDouble(4, spot.latitude());
+            ps.setDouble(5, spot.longitude());
+            // TouristSpot.syncTrigColumns 와 같은 값
+            ps.setDouble(6, Math.sin(radLat));
+            ps.setDouble(7, Math.cos(radLat));
+            ps.setDouble(8, Math.toRadians(spot.longitude()));
+            ps.setString(9, spot.description());
+            ps.setString(10, spot.category());
+            ps.setTimestamp(11, importedAt);
+            ps.setTimestamp(12, importedAt);
+            ps.setTimestamp(13, importedAt);
+        });
+        int size = chunk.size();
+        chunk.clear();
+        return size;
+    }
+
+    private static Set<String> parseCategories(String text) {
+        return Arrays.stream(text.split(","))
+                .map(String::trim)
+                .filter(category -> !category.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,373 @@
+package com.mycompany.goormthonserver.index;
+
+import com.mycompany.goormthonserver.common.dto.CursorPage;
+import com.mycompany.goormthonserver.common.util.GeoBoundingBox;
+import com.mycompany.goormthonserver.common.util.GeoPoint;
+import com.mycompany.goormthonserver.dto.TouristSpotClusterDto;
+import com.mycompany.goormthonserver.dto.TouristSpotFacetsDto;
+import com.mycompany.goormthonserver.dto.TouristSpotLocationDto;
+import com.mycompany.goormthonserver.dto.TouristSpotSuggestionDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+
+/**
+ * 관광지 카탈로그의 불변 스냅샷
+ * 순번(ordinal)은 id 오름차순이며 모든 인메모리 인덱스가 같은 순번을 공유한다.
+ * 따라서 순번 비교는 id 비교와 같고, 커서에는 스냅샷이 바뀌어도 유효한 id 를 담는다.
+ * 갱신 시에는 새 스냅샷을 만들어 통째로 교체한다.
+ */
+public final class CatalogSnapshot {
+
+    static final CatalogSnapshot EMPTY = new CatalogSnapshot(0L, new long[0], new TouristSpotLocationDto[0],
+            IndexSettings.DEFAULT);
+
+    private final long version;
+    private final long[] ids;
+    private final TouristSpotLocationDto[] spots;
+    private final GeoGridIndex geoIndex;
+    private final KeywordIndex keywordIndex;
+    private final SuggestTrie suggestTrie;
+    private final TileClusterer tileClusterer;
+    private final FacetIndex facetIndex;
+    private final Map<String, Integer> ordinalsByExternalId;
+
+    /**
+     * @param ids   순번별 tourist_spots.id (오름차순)
+     * @param spots 순번별 관광지
+     */
+    CatalogSnapshot(long version, long[] ids, TouristSpotLocationDto[] spots, IndexSettings settings) {
+        if (ids.length != spots.length) {
+            throw new IllegalArgumentException("id/관광지 배열 길이가 다릅니다.");
+        }
+        this.version = version;
+        this.ids = ids;
+        this.spots = spots;
+
+        double[] latitudes = new double[spots.length];
+        double[] longitudes = new double[spots.length];
+        String[] names = new String[spots.length];
+        String[] tags = new String[spots.length];
+        String[] introductions = new String[spots.length];
+        String[] categories = new String[spots.length];
+        Map<String, Integer> ordinalsByExternalId = new HashMap<>();
+        for (int i = 0; i < spots.length; i++) {
+            latitudes[i] = spots[i].getLatitude();
+            longitudes[i] = spots[i].getLongitude();
+            names[i] = spots[i].getName();
+            tags[i] = spots[i].getTag();
+            introductions[i] = spots[i].getIntroduction();
+            categories[i] = spots[i].getCategory();
+            ordinalsByExternalId.put(spots[i].getExternalId(), i);
+        }
+        this.geoIndex = GeoGridIndex.build(latitudes, longitudes, settings.cellSizeDeg());
+        this.keywordIndex = new KeywordIndex(names, tags, introductions);
+        this.suggestTrie = new SuggestTrie(names, settings.maxSuggestions());
+        this.tileClusterer = new TileClusterer(latitudes, longitudes, geoIndex, settings.maxClusterTiles());
+        this.facetIndex = new FacetIndex(categories, tags);
+        this.ordinalsByExternalId = ordinalsByExternalId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return spots.length;
+    }
+
+    /**
+     * 반경 내 관광지를 거리순으로 조회 (네이티브 쿼리 findNearbyTouristSpots와 동일한 결과)
+     */
+    public List<TouristSpotLocationDto> findNearby(double latitude, double longitude, double radiusKm, int limit) {
+        TopK.Hits hits = geoIndex.findWithinRadius(latitude, longitude, radiusKm, limit);
+        return toDtos(hits, hits.size());
+    }
+
+    /**
+     * external_id 로 관광지 조회 (좌표가 있는 관광지만)
+     */
+    public Optional<TouristSpotLocationDto> findByExternalId(String externalId) {
+        Integer ordinal = ordinalsByExternalId.get(externalId);
+        return ordinal == null ? Optional.empty() : Optional.of(spots[ordinal]);
+    }
+
+    /**
+     * 반경 제한 없이 가장 가까운 k개 (거리순, 같은 거리면 id 순)
+     *
+     * @param category 분류 필터 (null 이면 전체)
+     */
+    public List<TouristSpotLocationDto> findNearest(double latitude, double longitude, int k, String category) {
+        IntPredicate filter = null;
+        int available = spots.length;
+        if (category != null) {
+            OrdinalBitmap inCategory = facetIndex.category(category);
+            filter = inCategory::contains;
+            available = inCategory.cardinality();
+        }
+        // 맞는 항목 수 이하로 줄여야 고리 확장이 지구 전체까지 가지 않는다
+        TopK.Hits hits = geoIndex.findNearest(latitude, longitude, Math.min(k, available), filter);
+        return toDtos(hits, hits.size());
+    }
+
+    /**
+     * 반경 내 관광지를 거리순으로 커서 다음부터 한 페이지 조회
+     *
+     * @param after 이전 페이지 커서 (첫 페이지면 null)
+     */
+    public CursorPage<TouristSpotLocationDto> findNearby(double latitude, double longitude, double radiusKm,
+                                                         int limit, SpotCursor after) {
+        return findNearby(latitude, longitude, radiusKm, limit, after, SpotFilter.NONE);
+    }
+
+    /**
+     * 분류·태그 필터를 적용한 반경 검색 한 페이지 (필터 비트맵에 있는 순번만 후보로 둠)
+     */
+    public CursorPage<TouristSpotLocationDto> findNearby(double latitude, double longitude, double radiusKm,
+                                                         int limit, SpotCursor after, SpotFilter filter) {
+        SpotCursor.requireSource(after, SpotCursor.Source.INDEX);
+        if (limit <= 0) {
+            return CursorPage.empty();
+        }
+        OrdinalBitmap allowed = facetIndex.filter(filter);
+        TopK.Hits hits = geoIndex.findWithinRadius(latitude, longitude, radiusKm, limit + 1,
+                after == null ? Double.NEGATIVE_INFINITY : after.distance(),
+                after == null ? 0 : firstOrdinalAfter(after.id()),
+                allowed == null ? null : allowed::contains);
+
+        // limit + 1 개를 찾아 다음 페이지 존재 여부를 판단
+        int count = Math.min(limit, hits.size());
+        String nextCursor = null;
+        if (hits.size() > limit) {
+            int last = count - 1;
+            nextCursor = SpotCursor.ofDistance(SpotCursor.Source.INDEX, hits.distances()[last],
+                    ids[hits.ordinals()[last]]).encode();
+        }
+        return new CursorPage<>(toDtos(hits, count), nextCursor);
+    }
+
+    /**
+     * 키워드 검색 (이름 → 태그/소개 순으로 일치 등급 부여)
+     * 위치가 없으면 등급(이름 접두 일치 우선) → 이름 순,
+     * 위치가 있으면 이름 일치 여부 → 거리 → 이름 순으로 정렬한다.
+     */
+    public List<TouristSpotLocationDto> searchByKeyword(String keyword, GeoPoint userLocation, int limit) {
+        return searchByKeyword(keyword, userLocation, limit, null).items();
+    }
+
+    /**
+     * 키워드 검색 결과를 커서 다음부터 한 페이지 조회 (정렬은 searchByKeyword 와 동일)
+     *
+     * @param after 이전 페이지 커서 (첫 페이지면 null)
+     */
+    public CursorPage<TouristSpotLocationDto> searchByKeyword(String keyword, GeoPoint userLocation, int limit,
+                                                              SpotCursor after) {
+        return searchByKeyword(keyword, userLocation, limit, after, SpotFilter.NONE);
+    }
+
+    /**
+     * 분류·태그 필터를 적용한 키워드 검색 한 페이지
+     * 일치 항목 전체를 정렬하지 않고 정렬 키 상위 limit + 1 개만 TopK 로 유지한다.
+     * TopK 의 키는 거리(위치 있음) 또는 등급(위치 없음), 값은 이름순 위치라 (키, 이름, id) 순서가 된다.
+     * 위치가 있으면 이름 일치와 태그·소개 일치를 따로 모아 이름 일치 뒤에 이어 붙인다.
+     */
+    public CursorPage<TouristSpotLocationDto> searchByKeyword(String keyword, GeoPoint userLocation, int limit,
+                                                              SpotCursor after, SpotFilter filter) {
+        SpotCursor.requireSource(after, SpotCursor.Source.INDEX);
+        OrdinalBitmap allowed = facetIndex.filter(filter);
+        KeywordIndex.Matches matches = keywordIndex.search(keyword);
+        if (matches.size() == 0 || limit <= 0) {
+            return CursorPage.empty();
+        }
+
+        boolean withDistance = userLocation != null;
+        TopK nameHits = new TopK(limit + 1);
+        TopK otherHits = withDistance ? new TopK(limit + 1) : nameHits;
+        for (int i = 0; i < matches.size(); i++) {
+            int ordinal = matches.ordinals()[i];
+            if (allowed != null && !allowed.contains(ordinal)) {
+                continue;
+            }
+            int tier = cursorTier(matches.tiers()[i], withDistance);
+            double distance = withDistance
+                    ? userLocation.distanceKm(spots[ordinal].getLatitude(), spots[ordinal].getLongitude())
+                    : 0.0;
+            // 커서 이전(이미 반환한) 항목 제외
+            if (after != null && !isAfter(tier, distance, ordinal, after)) {
+                continue;
+            }
+            if (withDistance) {
+                (tier == 0 ? nameHits : otherHits).offer(distance, keywordIndex.nameRank(ordinal));
+            } else {
+                nameHits.offer(tier, keywordIndex.nameRank(ordinal));
+            }
+        }
+
+        TopK.Hits first = nameHits.drainSorted();
+        TopK.Hits second = withDistance ? otherHits.drainSorted() : TopK.Hits.EMPTY;
+        int size = Math.min(limit + 1, first.size() + second.size());
+        if (size == 0) {
+            return CursorPage.empty();
+        }
+
+        int count = Math.min(limit, size);
+        List<TouristSpotLocationDto> results = new ArrayList<>(count);
+        SpotCursor last = null;
+        for (int i = 0; i < count; i++) {
+            boolean fromFirst = i < first.size();
+            TopK.Hits hits = fromFirst ? first : second;
+            int index = fromFirst ? i : i - first.size();
+            int ordinal = keywordIndex.ordinalAtNameRank(hits.ordinals()[index]);
+            double key = hits.distances()[index];
+            double distance = withDistance ? key : 0.0;
+            results.add(spots[ordinal].toBuilder()
+                    .distance(distance)
+                    .build());
+            if (i == count - 1) {
+                int tier = withDistance ? (fromFirst ? 0 : 1) : (int) key;
+                last = new SpotCursor(SpotCursor.Source.INDEX, tier, distance, keywordIndex.name(ordinal),
+                        ids[ordinal]);
+            }
+        }
+        String nextCursor = size > limit ? last.encode() : null;
+        return new CursorPage<>(results, nextCursor);
+    }
+
+    // 커서 등급: 위치 있음 → 이름 일치 0 / 태그·소개 일치 1, 위치 없음 → 일치 등급 그대로
+    private static int cursorTier(int tier, boolean withDistance) {
+        return withDistance ? (tier == KeywordIndex.TIER_OTHER_FIELD ? 1 : 0) : tier;
+    }
+
+    // (등급, 거리, 이름, id) 가 커서보다 뒤인지 (SpotCursor 순서와 동일, 객체 생성 없이 비교)
+    private boolean isAfter(int tier, double distance, int ordinal, SpotCursor after) {
+        if (tier != after.tier()) {
+            return tier > after.tier();
+        }
+        int byDistance = Double.compare(distance, after.distance());
+        if (byDistance != 0) {
+            return byDistance > 0;
+        }
+        int byName = keywordIndex.name(ordinal).compareTo(after.name());
+        if (byName != 0) {
+            return byName > 0;
+        }
+        return ids[ordinal] > after.id();
+    }
+
+    /**
+     * id 가 주어진 값보다 큰 첫 순번 (ids 오름차순)
+     */
+    private int firstOrdinalAfter(long id) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ids[mid] <= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 반경 내 관광지의 분류·태그별 개수
+     */
+    public TouristSpotFacetsDto nearbyFacets(double latitude, double longitude, double radiusKm,
+                                             SpotFilter filter, int limit) {
+        return facets(geoIndex.withinRadius(latitude, longitude, radiusKm), filter, limit);
+    }
+
+    /**
+     * 키워드 검색 결과의 분류·태그별 개수
+     */
+    public TouristSpotFacetsDto keywordFacets(String keyword, SpotFilter filter, int limit) {
+        return facets(OrdinalBitmap.of(spots.length, keywordIndex.search(keyword).ordinals()), filter, limit);
+    }
+
+    // 분류는 하나만 고르므로 분류 조건을 뺀 후보로 세고 (다른 분류를 골랐을 때의 개수),
+    // 태그는 조건을 더해 좁혀 가므로 모든 조건을 적용한 후보로 센다
+    private TouristSpotFacetsDto facets(OrdinalBitmap base, SpotFilter filter, int limit) {
+        SpotFilter current = filter == null ? SpotFilter.NONE : filter;
+        OrdinalBitmap tagMatched = current.tags().isEmpty()
+                ? base
+                : base.and(facetIndex.filter(new SpotFilter(null, current.tags())));
+        OrdinalBitmap matched = current.category() == null
+                ? tagMatched
+                : tagMatched.and(facetIndex.category(current.category()));
+        return TouristSpotFacetsDto.builder()
+                .total(matched.cardinality())
+                .categories(facetIndex.countCategories(tagMatched, limit))
+                .tags(facetIndex.countTags(matched, limit))
+                .build();
+    }
+
+    /**
+     * 이름 자동완성 (완성형 / 입력 중인 음절 / 초성 접두어)
+     */
+    public List<TouristSpotSuggestionDto> suggest(String prefix, int limit) {
+        int[] ordinals = suggestTrie.suggest(prefix, limit);
+        List<TouristSpotSuggestionDto> results = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            TouristSpotLocationDto spot = spots[ordinal];
+            results.add(TouristSpotSuggestionDto.builder()
+                    .externalId(spot.getExternalId())
+                    .name(spot.getName())
+                    .category(spot.getCategory())
+                    .build());
+        }
+        return results;
+    }
+
+    /**
+     * 지도 화면(bbox)의 클러스터 (줌별 타일 격자, 타일 결과는 스냅샷에 보관)
+     * 화면을 덮는 타일들의 클러스터 중 무게중심이 화면 안에 있는 것만 반환한다.
+     *
+     * @throws IllegalArgumentException 줌에 비해 화면이 너무 넓을 때 (타일 MAX_TILES_PER_QUERY 개 초과)
+     */
+    public List<TouristSpotClusterDto> clusters(GeoBoundingBox box, int zoom) {
+        int z = Math.max(0, Math.min(zoom, TileClusterer.MAX_ZOOM));
+        int minX = TileClusterer.tileX(box.minLongitude(), z);
+        int maxX = TileClusterer.tileX(box.maxLongitude(), z);
+        int minY = TileClusterer.tileY(box.maxLatitude(), z);  // 타일 y 는 북쪽이 0
+        int maxY = TileClusterer.tileY(box.minLatitude(), z);
+        long tileCount = (long) (maxX - minX + 1) * (maxY - minY + 1);
+        if (tileCount > TileClusterer.MAX_TILES_PER_QUERY) {
+            throw new IllegalArgumentException("줌 " + z + "에서 조회 범위가 너무 넓습니다 (타일 " + tileCount + "개)");
+        }
+
+        List<TouristSpotClusterDto> results = new ArrayList<>();
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                for (TileClusterer.Cluster cluster : tileClusterer.tile(z, x, y)) {
+                    if (cluster.latitude() < box.minLatitude() || cluster.latitude() > box.maxLatitude()
+                            || cluster.longitude() < box.minLongitude() || cluster.longitude() > box.maxLongitude()) {
+                        continue;
+                    }
+                    results.add(TouristSpotClusterDto.builder()
+                            .count(cluster.count())
+                            .latitude(cluster.latitude())
+                            .longitude(cluster.longitude())
+                            .representative(spots[cluster.representative()])
+                            .build());
+                }
+            }
+        }
+        return results;
+    }
+
+    private List<TouristSpotLocationDto> toDtos(TopK.Hits hits, int count) {
+        List<TouristSpotLocationDto> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(spots[hits.ordinals()[i]].toBuilder()
+                    .distance(hits.distances()[i])
+                    .build());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,89 @@
+package com.mycompany.goormthonserver.index;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분류·태그별 순번 비트맵
+ * 태그 문자열을 사전(태그 → 비트맵)으로 풀어 두고, 필터는 비트맵 교집합으로,
+ * 패싯 개수는 후보 비트맵과의 교집합 크기로 계산한다 (LIKE '%태그%' 스캔 없음).
+ */
+final class FacetIndex {
+
+    private final int size;
+    private final OrdinalBitmap all;
+    private final Map<String, OrdinalBitmap> categories = new HashMap<>();
+    private final Map<String, OrdinalBitmap> tags = new HashMap<>();
+
+    /**
+     * @param categories 순번별 분류 (null 허용)
+     * @param tags       순번별 태그 문자열 (쉼표 구분, null 허용)
+     */
+    FacetIndex(String[] categories, String[] tags) {
+        this.size = categories.length;
+        this.all = OrdinalBitmap.full(size);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (categories[ordinal] != null && !categories[ordinal].isBlank()) {
+                this.categories.computeIfAbsent(categories[ordinal].trim(), key -> OrdinalBitmap.empty(size))
+                        .set(ordinal);
+            }
+            for (String tag : SpotFilter.parseTags(tags[ordinal])) {
+                this.tags.computeIfAbsent(tag, key -> OrdinalBitmap.empty(size)).set(ordinal);
+            }
+        }
+    }
+
+    OrdinalBitmap all() {
+        return all;
+    }
+
+    /**
+     * 필터에 맞는 순번 (필터가 비어 있으면 null = 전체)
+     * 없는 분류/태그가 하나라도 있으면 빈 비트맵
+     */
+    OrdinalBitmap filter(SpotFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return null;
+        }
+        OrdinalBitmap result = filter.category() == null ? all : category(filter.category());
+        for (String tag : filter.tags()) {
+            result = result.and(tags.getOrDefault(tag, OrdinalBitmap.empty(size)));
+        }
+        return result;
+    }
+
+    OrdinalBitmap category(String category) {
+        return categories.getOrDefault(category, OrdinalBitmap.empty(size));
+    }
+
+    /**
+     * 후보 중 분류별 개수 (많은 순, 최대 limit개)
+     */
+    Map<String, Integer> countCategories(OrdinalBitmap candidates, int limit) {
+        return count(categories, candidates, limit);
+    }
+
+    /**
+     * 후보 중 태그별 개수 (많은 순, 최대 limit개)
+     */
+    Map<String, Integer> countTags(OrdinalBitmap candidates, int limit) {
+        return count(tags, candidates, limit);
+    }
+
+    private static Map<String, Integer> count(Map<String, OrdinalBitmap> facets, OrdinalBitmap candidates,
+                                              int limit) {
+        List<Map.Entry<String, Integer>> counts = facets.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().andCardinality(candidates)))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .toList();
+        Map<String, Integer> result = new LinkedHashMap<>();
+        counts.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+}
@@ -0,0 +1,295 @@
+package com.mycompany.goormthonserver.index;
+
+import com.mycompany.goormthonserver.common.util.GeoBoundingBox;
+import com.mycompany.goormthonserver.common.util.GeoUtils;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 위경도 격자(grid) 공간 인덱스
+ * 좌표를 고정 크기 셀로 나누고 셀 번호 순으로 정렬한 기본형 배열에 보관한다.
+ * 반경 검색은 반경을 감싸는 셀만 훑으므로 전체 테이블을 스캔하지 않는다.
+ */
+final class GeoGridIndex {
+
+    // 지구 반 바퀴 (이 반경이면 모든 지점을 포함)
+    private static final double MAX_DISTANCE_KM = Math.PI * GeoUtils.EARTH_RADIUS_KM;
+
+    private final double cellDeg;
+    private final long lngCells;
+
+    // 셀 번호 순으로 정렬된 좌표 (sin/cos(위도), radians(경도) 미리 계산)
+    private final double[] sinLats;
+    private final double[] cosLats;
+    private final double[] radLngs;
+    private final int[] ordinals;
+
+    // 고유 셀 번호와 각 셀의 시작 위치 (CSR 형식)
+    private final long[] cellKeys;
+    private final int[] cellStarts;
+
+    private GeoGridIndex(double cellDeg, double[] sinLats, double[] cosLats, double[] radLngs,
+                         int[] ordinals, long[] cellKeys, int[] cellStarts) {
+        this.cellDeg = cellDeg;
+        this.lngCells = lngCellCount(cellDeg);
+        this.sinLats = sinLats;
+        this.cosLats = cosLats;
+        this.radLngs = radLngs;
+        this.ordinals = ordinals;
+        this.cellKeys = cellKeys;
+        this.cellStarts = cellStarts;
+    }
+
+    /**
+     * 인덱스 생성
+     *
+     * @param latitudes  순번별 위도
+     * @param longitudes 순번별 경도
+     * @param cellDeg    셀 한 변의 크기 (도 단위)
+     */
+    static GeoGridIndex build(double[] latitudes, double[] longitudes, double cellDeg) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("위도/경도 배열 길이가 다릅니다.");
+        }
+        if (!(cellDeg > 0)) {
+            throw new IllegalArgumentException("셀 크기는 0보다 커야 합니다: " + cellDeg);
+        }
+
+        int size = latitudes.length;
+        long lngCells = lngCellCount(cellDeg);
+
+        // (셀 번호, 순번) 쌍을 정렬
+        long[] keys = new long[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = cellKey(latitudes[i], longitudes[i], cellDeg, lngCells);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int byKey = Long.compare(keys[a], keys[b]);
+            return byKey != 0 ? byKey : Integer.compare(a, b);
+        });
+
+        double[] sinLats = new double[size];
+        double[] cosLats = new double[size];
+        double[] radLngs = new double[size];
+        int[] ordinals = new int[size];
+        long[] uniqueKeys = new long[size];
+        int[] starts = new int[size + 1];
+        int cellCount = 0;
+
+        for (int pos = 0; pos < size; pos++) {
+            int ordinal = order[pos];
+            double radLat = Math.toRadians(latitudes[ordinal]);
+            sinLats[pos] = Math.sin(radLat);
+            cosLats[pos] = Math.cos(radLat);
+            radLngs[pos] = Math.toRadians(longitudes[ordinal]);
+            ordinals[pos] = ordinal;
+
+            long key = keys[ordinal];
+            if (cellCount == 0 || uniqueKeys[cellCount - 1] != key) {
+                uniqueKeys[cellCount] = key;
+                starts[cellCount] = pos;
+                cellCount++;
+            }
+        }
+        starts[cellCount] = size;
+
+        return new GeoGridIndex(cellDeg, sinLats, cosLats, radLngs, ordinals,
+                Arrays.copyOf(uniqueKeys, cellCount), Arrays.copyOf(starts, cellCount + 1));
+    }
+
+    int size() {
+        return ordinals.length;
+    }
+
+    /**
+     * 반경 내 가까운 순 상위 limit개 검색
+     * 정렬 기준: 거리 오름차순, 같은 거리면 순번 오름차순
+     */
+    TopK.Hits findWithinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        return findWithinRadius(latitude, longitude, radiusKm, limit, Double.NEGATIVE_INFINITY, 0);
+    }
+
+    /**
+     * 커서 다음부터 반경 내 가까운 순 상위 limit개 검색 (keyset)
+     * (거리, 순번) 이 (afterDistance, minOrdinal - 1) 보다 뒤인 항목만 포함한다.
+     * 페이지가 깊어져도 반경 안의 셀만 훑고 힙은 limit 크기라 비용이 일정하다.
+     *
+     * @param afterDistance 이전 페이지 마지막 거리
+     * @param minOrdinal    afterDistance 와 거리가 같을 때 포함할 최소 순번
+     */
+    TopK.Hits findWithinRadius(double latitude, double longitude, double radiusKm, int limit,
+                               double afterDistance, int minOrdinal) {
+        return findWithinRadius(latitude, longitude, radiusKm, limit, afterDistance, minOrdinal, null);
+    }
+
+    /**
+     * 반경 제한 없이 가장 가까운 k개 검색 (점점 넓어지는 고리)
+     * 셀 한 칸 크기 반경에서 시작해 k개가 찰 때까지 반경을 두 배씩 넓힌다.
+     * 반경 안에서 찾은 k개는 반경 밖 어떤 항목보다 가까우므로 전체 상위 k개와 같다.
+     * 훑는 면적이 단계마다 4배라 앞 단계에서 다시 읽는 셀은 최종 면적의 1/3 정도다.
+     *
+     * @param filter 포함할 순번 조건 (null 이면 전체). 조건에 맞는 항목이 k개보다 적으면
+     *               지구 전체를 훑게 되므로 호출 측에서 k를 맞는 항목 수 이하로 줄여 넘긴다.
+     */
+    TopK.Hits findNearest(double latitude, double longitude, int k, IntPredicate filter) {
+        if (k <= 0 || ordinals.length == 0) {
+            return TopK.Hits.EMPTY;
+        }
+        double radiusKm = cellDeg * GeoUtils.KM_PER_DEGREE;
+        while (true) {
+            TopK.Hits hits = findWithinRadius(latitude, longitude, radiusKm, k, Double.NEGATIVE_INFINITY, 0, filter);
+            if (hits.size() >= k || radiusKm >= MAX_DISTANCE_KM) {
+                return hits;
+            }
+            radiusKm = Math.min(radiusKm * 2, MAX_DISTANCE_KM);
+        }
+    }
+
+    /**
+     * 조건에 맞는 항목만 대상으로 하는 keyset 반경 검색
+     *
+     * @param filter 포함할 순번 조건 (null 이면 전체)
+     */
+    TopK.Hits findWithinRadius(double latitude, double longitude, double radiusKm, int limit,
+                               double afterDistance, int minOrdinal, IntPredicate filter) {
+        if (limit <= 0 || radiusKm < 0 || ordinals.length == 0) {
+            return TopK.Hits.EMPTY;
+        }
+
+        double radLat = Math.toRadians(latitude);
+        double sinLat = Math.sin(radLat);
+        double cosLat = Math.cos(radLat);
+        double radLng = Math.toRadians(longitude);
+
+        // 반경을 감싸는 위경도 사각형 → 셀 범위
+        GeoBoundingBox box = GeoUtils.boundingBox(latitude, longitude, radiusKm);
+        long minLatCell = latCell(box.minLatitude(), cellDeg);
+        long maxLatCell = latCell(box.maxLatitude(), cellDeg);
+        long minLngCell = lngCell(box.minLongitude(), cellDeg);
+        long maxLngCell = Math.min(lngCell(box.maxLongitude(), cellDeg), lngCells - 1);
+
+        TopK topK = new TopK(limit);
+        for (long row = minLatCell; row <= maxLatCell; row++) {
+            long fromKey = row * lngCells + minLngCell;
+            long toKey = row * lngCells + maxLngCell;
+            int cell = lowerBound(fromKey);
+            while (cell < cellKeys.length && cellKeys[cell] <= toKey) {
+                for (int pos = cellStarts[cell]; pos < cellStarts[cell + 1]; pos++) {
+                    double distance = GeoUtils.distanceKm(sinLat, cosLat, radLng,
+                            sinLats[pos], cosLats[pos], radLngs[pos]);
+                    if (distance <= radiusKm && (distance > afterDistance
+                            || (distance == afterDistance && ordinals[pos] >= minOrdinal))
+                            && (filter == null || filter.test(ordinals[pos]))) {
+                        topK.offer(distance, ordinals[pos]);
+                    }
+                }
+                cell++;
+            }
+        }
+        return topK.drainSorted();
+    }
+
+    /**
+     * 반경 내 모든 순번 (패싯 집계용)
+     */
+    OrdinalBitmap withinRadius(double latitude, double longitude, double radiusKm) {
+        OrdinalBitmap result = OrdinalBitmap.empty(ordinals.length);
+        if (radiusKm < 0 || ordinals.length == 0) {
+            return result;
+        }
+
+        double radLat = Math.toRadians(latitude);
+        double sinLat = Math.sin(radLat);
+        double cosLat = Math.cos(radLat);
+        double radLng = Math.toRadians(longitude);
+
+        GeoBoundingBox box = GeoUtils.boundingBox(latitude, longitude, radiusKm);
+        long minLatCell = latCell(box.minLatitude(), cellDeg);
+        long maxLatCell = latCell(box.maxLatitude(), cellDeg);
+        long minLngCell = lngCell(box.minLongitude(), cellDeg);
+        long maxLngCell = Math.min(lngCell(box.maxLongitude(), cellDeg), lngCells - 1);
+
+        for (long row = minLatCell; row <= maxLatCell; row++) {
+            long toKey = row * lngCells + maxLngCell;
+            int cell = lowerBound(row * lngCells + minLngCell);
+            while (cell < cellKeys.length && cellKeys[cell] <= toKey) {
+                for (int pos = cellStarts[cell]; pos < cellStarts[cell + 1]; pos++) {
+                    if (GeoUtils.distanceKm(sinLat, cosLat, radLng, sinLats[pos], cosLats[pos], radLngs[pos])
+                            <= radiusKm) {
+                        result.set(ordinals[pos]);
+                    }
+                }
+                cell++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 위경도 사각형과 겹치는 셀의 순번 (셀 순서)
+     * 셀 단위로 고르므로 사각형 바깥 항목도 섞여 있어, 정확한 경계 판정은 호출 측에서 한다.
+     */
+    int[] ordinalsInBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        if (ordinals.length == 0 || minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            return new int[0];
+        }
+        long minLatCell = latCell(Math.max(minLatitude, -90.0), cellDeg);
+        long maxLatCell = latCell(Math.min(maxLatitude, 90.0), cellDeg);
+        long minLngCell = lngCell(Math.max(minLongitude, -180.0), cellDeg);
+        long maxLngCell = Math.min(lngCell(Math.min(maxLongitude, 180.0), cellDeg), lngCells - 1);
+
+        // 데이터가 있는 셀 행만 훑도록 첫/마지막 셀 행으로 범위를 좁힘
+        minLatCell = Math.max(minLatCell, cellKeys[0] / lngCells);
+        maxLatCell = Math.min(maxLatCell, cellKeys[cellKeys.length - 1] / lngCells);
+        int[] found = new int[16];
+        int size = 0;
+        for (long row = minLatCell; row <= maxLatCell; row++) {
+            long toKey = row * lngCells + maxLngCell;
+            int cell = lowerBound(row * lngCells + minLngCell);
+            while (cell < cellKeys.length && cellKeys[cell] <= toKey) {
+                int from = cellStarts[cell];
+                int count = cellStarts[cell + 1] - from;
+                if (size + count > found.length) {
+                    found = Arrays.copyOf(found, Math.max(found.length * 2, size + count));
+                }
+                System.arraycopy(ordinals, from, found, size, count);
+                size += count;
+                cell++;
+            }
+        }
+        return Arrays.copyOf(found, size);
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = cellKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cellKeys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long lngCellCount(double cellDeg) {
+        return (long) Math.ceil(360.0 / cellDeg) + 1;
+    }
+
+    private static long cellKey(double latitude, double longitude, double cellDeg, long lngCells) {
+        return latCell(latitude, cellDeg) * lngCells + lngCell(longitude, cellDeg);
+    }
+
+    private static long latCell(double latitude, double cellDeg) {
+        return (long) Math.floor((latitude + 90.0) / cellDeg);
+    }
+
+    private static long lngCell(double longitude, double cellDeg) {
+        return (long) Math.floor((longitude + 180.0) / cellDeg);
+    }
+}
@@ -0,0 +1,13 @@
+package com.mycompany.goormthonserver.index;
+
+/**
+ * 인메모리 인덱스 생성 설정
+ *
+ * @param cellSizeDeg     공간 인덱스 셀 크기 (도)
+ * @param maxSuggestions  자동완성 노드별 최대 후보 수
+ * @param maxClusterTiles 스냅샷별로 보관할 최대 클러스터 타일 수
+ */
+record IndexSettings(double cellSizeDeg, int maxSuggestions, int maxClusterTiles) {
+
+    static final IndexSettings DEFAULT = new IndexSettings(0.01, 20, 4096);
+}
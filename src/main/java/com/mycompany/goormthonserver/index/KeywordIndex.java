@@ -0,0 +1,264 @@
+package com.mycompany.goormthonserver.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 문자 n-gram 역색인 (한 글자 + 두 글자)
+ * 이름과 태그/소개를 따로 색인해 LIKE '%keyword%' 와 같은 부분 일치를 색인으로 찾는다.
+ * 후보는 n-gram 교집합으로 좁히고 실제 포함 여부는 원문으로 다시 확인한다.
+ */
+final class KeywordIndex {
+
+    /** 이름이 키워드로 시작 */
+    static final int TIER_NAME_PREFIX = 1;
+    /** 이름에 키워드 포함 */
+    static final int TIER_NAME_CONTAINS = 2;
+    /** 태그 또는 소개에만 포함 */
+    static final int TIER_OTHER_FIELD = 3;
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final String[] names;
+    private final String[] others;
+    // (정규화된 이름, 순번) 오름차순 위치 ↔ 순번 - 검색 시 문자열 비교 없이 이름순 정렬
+    private final int[] nameRanks;
+    private final int[] ordinalsByNameRank;
+    private final FieldIndex nameIndex;
+    private final FieldIndex otherIndex;
+
+    /**
+     * @param names         순번별 이름
+     * @param tags          순번별 태그 (null 허용)
+     * @param introductions 순번별 소개 (null 허용)
+     */
+    KeywordIndex(String[] names, String[] tags, String[] introductions) {
+        int size = names.length;
+        this.names = new String[size];
+        this.others = new String[size];
+        for (int i = 0; i < size; i++) {
+            this.names[i] = normalize(names[i]);
+            this.others[i] = normalize(tags[i]) + '\n' + normalize(introductions[i]);
+        }
+        this.nameIndex = new FieldIndex(this.names);
+        this.otherIndex = new FieldIndex(this.others);
+
+        this.ordinalsByNameRank = IntStream.range(0, size).boxed()
+                .sorted(Comparator.<Integer, String>comparing(ordinal -> this.names[ordinal])
+                        .thenComparingInt(ordinal -> ordinal))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.nameRanks = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            nameRanks[ordinalsByNameRank[rank]] = rank;
+        }
+    }
+
+    /**
+     * 키워드와 일치하는 순번과 등급(tier)
+     * 순번 오름차순, 각 순번은 가장 높은 등급으로 한 번만 포함된다.
+     */
+    Matches search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return Matches.EMPTY;
+        }
+
+        int[] nameCandidates = nameIndex.candidates(query);
+        int[] otherCandidates = otherIndex.candidates(query);
+
+        int[] ordinals = new int[nameCandidates.length + otherCandidates.length];
+        int[] tiers = new int[ordinals.length];
+        int count = 0;
+
+        // 두 후보 목록 모두 순번 오름차순이므로 병합하며 확인
+        int i = 0;
+        int j = 0;
+        while (i < nameCandidates.length || j < otherCandidates.length) {
+            int ordinal;
+            if (j >= otherCandidates.length
+                    || (i < nameCandidates.length && nameCandidates[i] <= otherCandidates[j])) {
+                ordinal = nameCandidates[i++];
+                if (j < otherCandidates.length && otherCandidates[j] == ordinal) {
+                    j++;
+                }
+            } else {
+                ordinal = otherCandidates[j++];
+            }
+
+            int tier = tierOf(ordinal, query);
+            if (tier > 0) {
+                ordinals[count] = ordinal;
+                tiers[count] = tier;
+                count++;
+            }
+        }
+        return new Matches(Arrays.copyOf(ordinals, count), Arrays.copyOf(tiers, count));
+    }
+
+    /**
+     * 이름순 위치 (같은 이름은 순번 = id 순)
+     */
+    int nameRank(int ordinal) {
+        return nameRanks[ordinal];
+    }
+
+    int ordinalAtNameRank(int rank) {
+        return ordinalsByNameRank[rank];
+    }
+
+    /**
+     * 정규화된 이름 (커서 정렬 키)
+     */
+    String name(int ordinal) {
+        return names[ordinal];
+    }
+
+    private int tierOf(int ordinal, String query) {
+        String name = names[ordinal];
+        if (name.startsWith(query)) {
+            return TIER_NAME_PREFIX;
+        }
+        if (name.contains(query)) {
+            return TIER_NAME_CONTAINS;
+        }
+        if (others[ordinal].contains(query)) {
+            return TIER_OTHER_FIELD;
+        }
+        return 0;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색 결과 (순번 오름차순)
+     */
+    record Matches(int[] ordinals, int[] tiers) {
+
+        static final Matches EMPTY = new Matches(new int[0], new int[0]);
+
+        int size() {
+            return ordinals.length;
+        }
+    }
+
+    /**
+     * 한 필드에 대한 unigram / bigram 역색인
+     */
+    private static final class FieldIndex {
+
+        private final Map<Integer, int[]> unigrams;
+        private final Map<Integer, int[]> bigrams;
+
+        FieldIndex(String[] texts) {
+            Map<Integer, IntList> unigramLists = new HashMap<>();
+            Map<Integer, IntList> bigramLists = new HashMap<>();
+            Set<Integer> seenUnigrams = new HashSet<>();
+            Set<Integer> seenBigrams = new HashSet<>();
+
+            for (int ordinal = 0; ordinal < texts.length; ordinal++) {
+                String text = texts[ordinal];
+                seenUnigrams.clear();
+                seenBigrams.clear();
+                for (int k = 0; k < text.length(); k++) {
+                    int unigram = text.charAt(k);
+                    if (seenUnigrams.add(unigram)) {
+                        unigramLists.computeIfAbsent(unigram, key -> new IntList()).add(ordinal);
+                    }
+                    if (k + 1 < text.length()) {
+                        int bigram = bigram(text.charAt(k), text.charAt(k + 1));
+                        if (seenBigrams.add(bigram)) {
+                            bigramLists.computeIfAbsent(bigram, key -> new IntList()).add(ordinal);
+                        }
+                    }
+                }
+            }
+            this.unigrams = freeze(unigramLists);
+            this.bigrams = freeze(bigramLists);
+        }
+
+        /**
+         * 키워드의 모든 n-gram을 포함하는 순번 (실제 포함 여부는 호출 측에서 확인)
+         */
+        int[] candidates(String query) {
+            if (query.length() == 1) {
+                return unigrams.getOrDefault((int) query.charAt(0), NO_POSTINGS);
+            }
+
+            List<int[]> postings = new ArrayList<>(query.length() - 1);
+            for (int k = 0; k + 1 < query.length(); k++) {
+                int[] list = bigrams.get(bigram(query.charAt(k), query.charAt(k + 1)));
+                if (list == null) {
+                    return NO_POSTINGS;
+                }
+                postings.add(list);
+            }
+            // 짧은 목록부터 교집합
+            postings.sort(Comparator.comparingInt(list -> list.length));
+            int[] result = postings.get(0);
+            for (int k = 1; k < postings.size() && result.length > 0; k++) {
+                result = intersect(result, postings.get(k));
+            }
+            return result;
+        }
+
+        private static int bigram(char first, char second) {
+            return (first << 16) | second;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    out[count++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, count);
+        }
+
+        private static Map<Integer, int[]> freeze(Map<Integer, IntList> lists) {
+            Map<Integer, int[]> frozen = new HashMap<>(lists.size() * 2);
+            lists.forEach((key, list) -> frozen.put(key, list.toArray()));
+            return frozen;
+        }
+    }
+
+    /**
+     * 박싱 없는 int 가변 배열
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mycompany.goormthonserver.index;
+
+/**
+ * 순번 집합 비트맵 (순번 하나당 1비트, long 단어 배열)
+ * 스냅샷 순번은 0부터 빈틈없이 이어지므로 압축 없이도 관광지 1만 개당 1.2KB 에 그친다.
+ * 교집합·개수 세기는 단어 단위 AND / bitCount 라 필터 조합이 수 마이크로초 안에 끝난다.
+ */
+final class OrdinalBitmap {
+
+    private final long[] words;
+
+    private OrdinalBitmap(long[] words) {
+        this.words = words;
+    }
+
+    static OrdinalBitmap empty(int size) {
+        return new OrdinalBitmap(new long[(size + 63) >>> 6]);
+    }
+
+    static OrdinalBitmap full(int size) {
+        OrdinalBitmap bitmap = empty(size);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            bitmap.set(ordinal);
+        }
+        return bitmap;
+    }
+
+    static OrdinalBitmap of(int size, int[] ordinals) {
+        OrdinalBitmap bitmap = empty(size);
+        for (int ordinal : ordinals) {
+            bitmap.set(ordinal);
+        }
+        return bitmap;
+    }
+
+    void set(int ordinal) {
+        words[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    boolean contains(int ordinal) {
+        return (words[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * 교집합 (새 비트맵)
+     */
+    OrdinalBitmap and(OrdinalBitmap other) {
+        long[] result = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new OrdinalBitmap(result);
+    }
+
+    int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 교집합 크기 (비트맵을 만들지 않고 셈)
+     */
+    int andCardinality(OrdinalBitmap other) {
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+}
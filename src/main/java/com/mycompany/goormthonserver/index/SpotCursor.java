@@ -0,0 +1,103 @@
+package com.mycompany.goormthonserver.index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * 관광지 목록 커서 (마지막으로 반환한 항목의 정렬 키)
+ *
+ * 정렬 키는 (등급, 거리, 이름, id) 순이며 조회마다 쓰지 않는 값은 고정값으로 둔다.
+ * - 위치 조회            : (0, 거리, "", id)
+ * - 키워드 + 위치         : (이름 일치 0 / 태그·소개 일치 1, 거리, 이름, id)
+ * - 키워드 (위치 없음)     : (일치 등급, 0, 이름, id)
+ * 거리는 비트 그대로 인코딩하므로 같은 식으로 다시 계산한 값과 정확히 비교된다.
+ * 클라이언트에는 base64url 문자열로만 노출한다.
+ *
+ * 인메모리 인덱스와 SQL 은 이름 비교(소문자 변환 vs DB 콜레이션)와 거리 계산 오차가 달라
+ * 같은 정렬 키라도 순서가 다를 수 있다. 그래서 커서에 만든 쪽(source)을 남기고,
+ * 다음 페이지는 같은 쪽에서만 이어 간다 (requireSource).
+ */
+public record SpotCursor(Source source, int tier, double distance, String name, long id)
+        implements Comparable<SpotCursor> {
+
+    private static final String VERSION = "2";
+
+    public enum Source {
+        INDEX("i"),
+        SQL("s");
+
+        private final String code;
+
+        Source(String code) {
+            this.code = code;
+        }
+
+        static Source fromCode(String code) {
+            for (Source source : values()) {
+                if (source.code.equals(code)) {
+                    return source;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 커서 출처: " + code);
+        }
+    }
+
+    private static final Comparator<SpotCursor> ORDER = Comparator.comparingInt(SpotCursor::tier)
+            .thenComparingDouble(SpotCursor::distance)
+            .thenComparing(SpotCursor::name)
+            .thenComparingLong(SpotCursor::id);
+
+    public SpotCursor {
+        Objects.requireNonNull(source, "source");
+        name = name == null ? "" : name;
+    }
+
+    public static SpotCursor ofDistance(Source source, double distance, long id) {
+        return new SpotCursor(source, 0, distance, "", id);
+    }
+
+    /**
+     * 커서가 source 쪽에서 만든 것인지 확인 (null 은 첫 페이지라 통과, 다르면 IllegalArgumentException)
+     */
+    public static SpotCursor requireSource(SpotCursor cursor, Source source) {
+        if (cursor != null && cursor.source() != source) {
+            throw new IllegalArgumentException("다른 조회 경로에서 만든 커서입니다. 첫 페이지부터 다시 조회해 주세요.");
+        }
+        return cursor;
+    }
+
+    public String encode() {
+        String raw = VERSION + ':' + source.code + ':' + tier
+                + ':' + Long.toHexString(Double.doubleToLongBits(distance)) + ':' + id + ':' + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 null, 형식이 잘못되면 IllegalArgumentException)
+     */
+    public static SpotCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 6);
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("지원하지 않는 커서입니다.");
+            }
+            return new SpotCursor(Source.fromCode(parts[1]), Integer.parseInt(parts[2]),
+                    Double.longBitsToDouble(Long.parseUnsignedLong(parts[3], 16)),
+                    parts[5], Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException e) {
+            // Base64 / 숫자 형식 오류 포함 (NumberFormatException 은 IllegalArgumentException 하위)
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+
+    @Override
+    public int compareTo(SpotCursor other) {
+        return ORDER.compare(this, other);
+    }
+}
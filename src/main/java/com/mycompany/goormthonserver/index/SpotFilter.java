@@ -0,0 +1,46 @@
+package com.mycompany.goormthonserver.index;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 분류·태그 필터 (태그는 모두 포함해야 일치)
+ *
+ * @param category 분류 (null 이면 조건 없음)
+ * @param tags     태그 목록 (비어 있으면 조건 없음)
+ */
+public record SpotFilter(String category, List<String> tags) {
+
+    public static final SpotFilter NONE = new SpotFilter(null, List.of());
+
+    /**
+     * 요청 파라미터로 생성 (tags 는 쉼표 구분, 예: "오름,부모")
+     */
+    public static SpotFilter of(String category, String tags) {
+        String cleanCategory = category == null || category.isBlank() ? null : category.trim();
+        List<String> tagList = parseTags(tags);
+        return cleanCategory == null && tagList.isEmpty() ? NONE : new SpotFilter(cleanCategory, tagList);
+    }
+
+    public boolean isEmpty() {
+        return category == null && tags.isEmpty();
+    }
+
+    /**
+     * tourist_spots.tag 형식 ("일출,오름,경관/포토,부모") → 중복 없는 태그 목록
+     */
+    static List<String> parseTags(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return List.of();
+        }
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String tag : tags.split(",")) {
+            String trimmed = tag.trim();
+            if (!trimmed.isEmpty()) {
+                parsed.add(trimmed);
+            }
+        }
+        return List.copyOf(parsed);
+    }
+}
@@ -0,0 +1,217 @@
+package com.mycompany.goormthonserver.index;
+
+import com.mycompany.goormthonserver.common.util.HangulUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 자동완성용 압축 트라이 (radix tree)
+ * 각 이름을 자모 분해형("ㅅㅓㅇㅅㅏㄴ...")과 초성형("ㅅㅅㅇㅊㅂ") 두 키로 색인하고,
+ * 노드마다 하위 트리의 상위 K개 순번을 미리 계산해 둔다.
+ * 조회는 접두어 길이만큼 간선을 따라 내려간 뒤 해당 노드의 목록을 그대로 반환한다.
+ */
+final class SuggestTrie {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Node root;
+    private final int maxSuggestions;
+
+    /**
+     * @param names          순번별 이름
+     * @param maxSuggestions 노드마다 보관할 최대 후보 수
+     */
+    SuggestTrie(String[] names, int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+
+        // 짧은 이름 → 이름 → 순번 순으로 순위 부여
+        Integer[] byRank = new Integer[names.length];
+        for (int i = 0; i < names.length; i++) {
+            byRank[i] = i;
+        }
+        String[] normalized = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            normalized[i] = normalize(names[i]);
+        }
+        Arrays.sort(byRank, (a, b) -> {
+            int byLength = Integer.compare(normalized[a].length(), normalized[b].length());
+            if (byLength != 0) {
+                return byLength;
+            }
+            int byName = normalized[a].compareTo(normalized[b]);
+            return byName != 0 ? byName : Integer.compare(a, b);
+        });
+        int[] rank = new int[names.length];
+        for (int position = 0; position < byRank.length; position++) {
+            rank[byRank[position]] = position;
+        }
+
+        BuildNode buildRoot = new BuildNode();
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            if (normalized[ordinal].isEmpty()) {
+                continue;
+            }
+            buildRoot.insert(HangulUtils.decompose(normalized[ordinal]), ordinal);
+            buildRoot.insert(HangulUtils.choseong(normalized[ordinal]), ordinal);
+        }
+        this.root = compress("", buildRoot, rank, false);
+    }
+
+    /**
+     * 접두어로 시작하는 이름의 순번 (순위순, 최대 limit개)
+     */
+    int[] suggest(String prefix, int limit) {
+        String key = HangulUtils.decompose(normalize(prefix));
+        if (key.isEmpty() || limit <= 0) {
+            return EMPTY;
+        }
+
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) {
+                return EMPTY;
+            }
+            String label = child.label;
+            int matched = 0;
+            while (matched < label.length() && position + matched < key.length()
+                    && label.charAt(matched) == key.charAt(position + matched)) {
+                matched++;
+            }
+            if (matched < label.length() && position + matched < key.length()) {
+                return EMPTY;
+            }
+            position += matched;
+            node = child;
+        }
+        int count = Math.min(limit, node.top.length);
+        return count == node.top.length ? node.top.clone() : Arrays.copyOf(node.top, count);
+    }
+
+    int maxSuggestions() {
+        return maxSuggestions;
+    }
+
+    /**
+     * 공백 제거 + 소문자 ("한라산 국립" → "한라산국립")
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                out.append(c);
+            }
+        }
+        return out.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 단일 자식 체인을 하나의 간선으로 합치면서 상위 K개 목록 계산
+     */
+    private Node compress(String label, BuildNode buildNode, int[] rank, boolean mergeChain) {
+        StringBuilder edge = new StringBuilder(label);
+        BuildNode current = buildNode;
+        while (mergeChain && current.terminals.length == 0 && current.children.size() == 1) {
+            Map.Entry<Character, BuildNode> only = current.children.entrySet().iterator().next();
+            edge.append(only.getKey().charValue());
+            current = only.getValue();
+        }
+
+        Character[] keys = current.children.keySet().toArray(new Character[0]);
+        Arrays.sort(keys);
+        char[] firstChars = new char[keys.length];
+        Node[] children = new Node[keys.length];
+        int total = current.terminals.length;
+        for (int i = 0; i < keys.length; i++) {
+            firstChars[i] = keys[i];
+            children[i] = compress(String.valueOf(keys[i].charValue()), current.children.get(keys[i]), rank, true);
+            total += children[i].top.length;
+        }
+
+        // 자기 자신 + 자식 목록을 순위순으로 합치고 중복(같은 이름의 두 키) 제거
+        int[] candidates = new int[total];
+        int size = 0;
+        for (int ordinal : current.terminals) {
+            candidates[size++] = ordinal;
+        }
+        for (Node child : children) {
+            for (int ordinal : child.top) {
+                candidates[size++] = ordinal;
+            }
+        }
+        int[] top = topByRank(candidates, size, rank);
+        return new Node(edge.toString(), firstChars, children, top);
+    }
+
+    private int[] topByRank(int[] candidates, int size, int[] rank) {
+        long[] packed = new long[size];
+        for (int i = 0; i < size; i++) {
+            packed[i] = ((long) rank[candidates[i]] << 32) | candidates[i];
+        }
+        Arrays.sort(packed);
+        int[] top = new int[Math.min(size, maxSuggestions)];
+        int count = 0;
+        long previous = -1;
+        for (int i = 0; i < size && count < top.length; i++) {
+            if (packed[i] != previous) {
+                top[count++] = (int) packed[i];
+                previous = packed[i];
+            }
+        }
+        return count == top.length ? top : Arrays.copyOf(top, count);
+    }
+
+    /**
+     * 조회용 압축 노드
+     */
+    private static final class Node {
+
+        private final String label;
+        private final char[] firstChars;
+        private final Node[] children;
+        private final int[] top;
+
+        Node(String label, char[] firstChars, Node[] children, int[] top) {
+            this.label = label;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(firstChars, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /**
+     * 생성용 비압축 노드
+     */
+    private static final class BuildNode {
+
+        private final Map<Character, BuildNode> children = new HashMap<>();
+        private int[] terminals = EMPTY;
+
+        void insert(String key, int ordinal) {
+            BuildNode node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            for (int existing : node.terminals) {
+                if (existing == ordinal) {
+                    return;
+                }
+            }
+            node.terminals = Arrays.copyOf(node.terminals, node.terminals.length + 1);
+            node.terminals[node.terminals.length - 1] = ordinal;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.mycompany.goormthonserver.index;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지도 타일(Web Mercator z/x/y) 단위 격자 클러스터링
+ * 타일을 CELLS_PER_TILE × CELLS_PER_TILE 칸으로 나눠 칸마다 개수·무게중심·대표 관광지를 계산한다.
+ * 같은 줌에서는 칸 경계가 고정이라 화면을 옮겨도 클러스터가 흔들리지 않고,
+ * 스냅샷이 불변이므로 계산한 타일을 (zoom, x, y) 키로 보관해 재사용한다 (스냅샷 교체 시 함께 버려짐).
+ */
+final class TileClusterer {
+
+    static final int MAX_ZOOM = 20;
+    static final int CELLS_PER_TILE = 4;        // 256px 타일 기준 64px 칸
+    static final int MAX_TILES_PER_QUERY = 64;  // 한 번에 조회할 수 있는 타일 수 (8×8)
+    static final double MAX_LATITUDE = 85.05112878;
+
+    private static final Cluster[] EMPTY = new Cluster[0];
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final GeoGridIndex geoIndex;
+    private final int maxCachedTiles;
+    private final Map<Long, Cluster[]> tiles = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxCachedTiles 보관할 최대 타일 수 (넘으면 계산만 하고 보관하지 않음)
+     */
+    TileClusterer(double[] latitudes, double[] longitudes, GeoGridIndex geoIndex, int maxCachedTiles) {
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.geoIndex = geoIndex;
+        this.maxCachedTiles = maxCachedTiles;
+    }
+
+    /**
+     * 타일 하나의 클러스터 (칸 순서: 북서 → 남동)
+     */
+    Cluster[] tile(int zoom, int x, int y) {
+        long key = ((long) zoom << 48) | ((long) x << 24) | y;
+        Cluster[] cached = tiles.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Cluster[] computed = compute(zoom, x, y);
+        if (tiles.size() < maxCachedTiles) {
+            tiles.putIfAbsent(key, computed);
+        }
+        return computed;
+    }
+
+    int cachedTiles() {
+        return tiles.size();
+    }
+
+    private Cluster[] compute(int zoom, int x, int y) {
+        int lastTile = (1 << zoom) - 1;
+        // 가장자리 타일은 메르카토르 범위 밖(극지방, 경도 ±180) 좌표까지 포함
+        double minLng = x == 0 ? -180.0 : tileLongitude(x, zoom);
+        double maxLng = x == lastTile ? 180.0 : tileLongitude(x + 1, zoom);
+        double maxLat = y == 0 ? 90.0 : tileLatitude(y, zoom);
+        double minLat = y == lastTile ? -90.0 : tileLatitude(y + 1, zoom);
+
+        int cellCount = CELLS_PER_TILE * CELLS_PER_TILE;
+        int[] counts = new int[cellCount];
+        double[] sumLats = new double[cellCount];
+        double[] sumLngs = new double[cellCount];
+
+        // 후보 중 이 타일에 속하는 관광지만 남기고 칸 번호 기록
+        int[] members = geoIndex.ordinalsInBox(minLat, maxLat, minLng, maxLng);
+        int[] cells = new int[members.length];
+        int size = 0;
+        double scale = 1 << zoom;
+        for (int ordinal : members) {
+            double mapX = mercatorX(longitudes[ordinal]) * scale;
+            double mapY = mercatorY(latitudes[ordinal]) * scale;
+            if (clamp((int) Math.floor(mapX), lastTile) != x || clamp((int) Math.floor(mapY), lastTile) != y) {
+                continue;
+            }
+            int column = clamp((int) ((mapX - x) * CELLS_PER_TILE), CELLS_PER_TILE - 1);
+            int row = clamp((int) ((mapY - y) * CELLS_PER_TILE), CELLS_PER_TILE - 1);
+            int cell = row * CELLS_PER_TILE + column;
+            counts[cell]++;
+            sumLats[cell] += latitudes[ordinal];
+            sumLngs[cell] += longitudes[ordinal];
+            members[size] = ordinal;
+            cells[size] = cell;
+            size++;
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        // 대표 관광지: 무게중심에 가장 가까운 곳 (같으면 순번이 작은 곳)
+        int[] representatives = new int[cellCount];
+        double[] bestDistances = new double[cellCount];
+        Arrays.fill(representatives, -1);
+        for (int i = 0; i < size; i++) {
+            int ordinal = members[i];
+            int cell = cells[i];
+            double dLat = latitudes[ordinal] - sumLats[cell] / counts[cell];
+            double dLng = longitudes[ordinal] - sumLngs[cell] / counts[cell];
+            double distance = dLat * dLat + dLng * dLng;
+            if (representatives[cell] < 0 || distance < bestDistances[cell]
+                    || (distance == bestDistances[cell] && ordinal < representatives[cell])) {
+                representatives[cell] = ordinal;
+                bestDistances[cell] = distance;
+            }
+        }
+
+        Cluster[] clusters = new Cluster[cellCount];
+        int clusterCount = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (counts[cell] > 0) {
+                clusters[clusterCount++] = new Cluster(counts[cell],
+                        sumLats[cell] / counts[cell], sumLngs[cell] / counts[cell], representatives[cell]);
+            }
+        }
+        return Arrays.copyOf(clusters, clusterCount);
+    }
+
+    static int tileX(double longitude, int zoom) {
+        return clamp((int) Math.floor(mercatorX(longitude) * (1 << zoom)), (1 << zoom) - 1);
+    }
+
+    static int tileY(double latitude, int zoom) {
+        return clamp((int) Math.floor(mercatorY(latitude) * (1 << zoom)), (1 << zoom) - 1);
+    }
+
+    /**
+     * 타일 서쪽 경계 경도
+     */
+    static double tileLongitude(int x, int zoom) {
+        return x / (double) (1 << zoom) * 360.0 - 180.0;
+    }
+
+    /**
+     * 타일 북쪽 경계 위도
+     */
+    static double tileLatitude(int y, int zoom) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2.0 * y / (1 << zoom)))));
+    }
+
+    // 0(서) ~ 1(동)
+    private static double mercatorX(double longitude) {
+        return (longitude + 180.0) / 360.0;
+    }
+
+    // 0(북) ~ 1(남)
+    private static double mercatorY(double latitude) {
+        double radLat = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        return (1 - Math.log(Math.tan(radLat) + 1 / Math.cos(radLat)) / Math.PI) / 2;
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+
+    /**
+     * 칸 하나의 클러스터
+     *
+     * @param count          관광지 수
+     * @param latitude       무게중심 위도
+     * @param longitude      무게중심 경도
+     * @param representative 대표 관광지 순번
+     */
+    record Cluster(int count, double latitude, double longitude, int representative) {
+    }
+}
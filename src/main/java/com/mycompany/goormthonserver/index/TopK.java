@@ -0,0 +1,122 @@
+package com.mycompany.goormthonserver.index;
+
+/**
+ * (거리, 순번) 기준 상위 K개를 유지하는 고정 크기 최대 힙
+ * 박싱 없이 기본형 배열만 사용한다
+ */
+final class TopK {
+
+    private final double[] keys;
+    private final int[] values;
+    private int size;
+
+    TopK(int capacity) {
+        this.keys = new double[Math.max(capacity, 0)];
+        this.values = new int[Math.max(capacity, 0)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size == keys.length;
+    }
+
+    /**
+     * 현재 K번째(가장 먼) 키, 힙이 가득 차지 않았으면 +∞
+     */
+    double worstKey() {
+        return isFull() && size > 0 ? keys[0] : Double.POSITIVE_INFINITY;
+    }
+
+    void offer(double key, int value) {
+        if (keys.length == 0) {
+            return;
+        }
+        if (size < keys.length) {
+            keys[size] = key;
+            values[size] = value;
+            siftUp(size++);
+        } else if (less(key, value, keys[0], values[0])) {
+            keys[0] = key;
+            values[0] = value;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 오름차순으로 정렬된 결과를 꺼낸다 (호출 후 힙은 비워짐)
+     */
+    Hits drainSorted() {
+        int count = size;
+        int[] outValues = new int[count];
+        double[] outKeys = new double[count];
+        for (int i = count - 1; i >= 0; i--) {
+            outKeys[i] = keys[0];
+            outValues[i] = values[0];
+            size--;
+            if (size > 0) {
+                keys[0] = keys[size];
+                values[0] = values[size];
+                siftDown(0);
+            }
+        }
+        return new Hits(outValues, outKeys);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(keys[parent], values[parent], keys[index], values[index])) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int largest = left;
+            int right = left + 1;
+            if (right < size && less(keys[left], values[left], keys[right], values[right])) {
+                largest = right;
+            }
+            if (!less(keys[index], values[index], keys[largest], values[largest])) {
+                return;
+            }
+            swap(index, largest);
+            index = largest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        int value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+    }
+
+    private static boolean less(double key1, int value1, double key2, int value2) {
+        return key1 < key2 || (key1 == key2 && value1 < value2);
+    }
+
+    /**
+     * 정렬된 검색 결과 (순번, 거리)
+     */
+    record Hits(int[] ordinals, double[] distances) {
+
+        static final Hits EMPTY = new Hits(new int[0], new double[0]);
+
+        int size() {
+            return ordinals.length;
+        }
+    }
+}
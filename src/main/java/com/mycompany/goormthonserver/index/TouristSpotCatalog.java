@@ -0,0 +1,137 @@
+package com.mycompany.goormthonserver.index;
+
+import com.mycompany.goormthonserver.dto.TouristSpotLocationDto;
+import com.mycompany.goormthonserver.entity.TouristSpotChangedEvent;
+import com.mycompany.goormthonserver.repository.TouristSpotRepository;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotCatalogRow;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotFingerprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * tourist_spots 인메모리 카탈로그
+ * 기동 시 테이블 전체를 읽어 공간 인덱스를 만들고,
+ * 변경 이벤트 또는 테이블 요약(fingerprint) 변화가 감지되면 주기적으로 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TouristSpotCatalog {
+
+    private final TouristSpotRepository touristSpotRepository;
+
+    @Value("${tour-spots.index.cell-size-deg:0.01}")
+    private double cellSizeDeg;
+
+    @Value("${tour-spots.index.max-suggestions:20}")
+    private int maxSuggestions;
+
+    @Value("${tour-spots.index.max-cluster-tiles:4096}")
+    private int maxClusterTiles;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile TouristSpotFingerprint fingerprint;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 인덱스가 없으면 서비스가 SQL 경로로 동작하므로 기동은 계속한다
+            log.error("❌ 관광지 인덱스 초기 로딩 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 관광지 변경 시 다음 갱신 주기에 다시 만들도록 표시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTouristSpotChanged(TouristSpotChangedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * 변경 표시 또는 외부(임포트 스크립트 등) 변경이 있을 때만 재구성
+     */
+    @Scheduled(fixedDelayString = "${tour-spots.index.refresh-interval:60000}",
+            initialDelayString = "${tour-spots.index.refresh-interval:60000}")
+    public void refreshIfStale() {
+        if (snapshot == null) {
+            loadOnStartup();
+            return;
+        }
+        try {
+            boolean changed = dirty.getAndSet(false)
+                    || !Objects.equals(fingerprint, touristSpotRepository.findFingerprint());
+            if (changed) {
+                refresh();
+            }
+        } catch (Exception e) {
+            log.error("❌ 관광지 인덱스 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 테이블 전체를 읽어 새 스냅샷으로 교체
+     */
+    public synchronized void refresh() {
+        long startTime = System.currentTimeMillis();
+
+        TouristSpotFingerprint current = touristSpotRepository.findFingerprint();
+        List<TouristSpotCatalogRow> rows = touristSpotRepository.findCatalogRows();
+
+        long[] ids = rows.stream().mapToLong(TouristSpotCatalogRow::getId).toArray();
+        TouristSpotLocationDto[] spots = rows.stream()
+                .map(TouristSpotCatalog::toDto)
+                .toArray(TouristSpotLocationDto[]::new);
+
+        long version = snapshot == null ? 1L : snapshot.getVersion() + 1;
+        snapshot = new CatalogSnapshot(version, ids, spots, new IndexSettings(cellSizeDeg, maxSuggestions, maxClusterTiles));
+        fingerprint = current;
+
+        log.info("🗺️ 관광지 인덱스 갱신 완료 - version: {}, {}개 ({}ms)",
+                version, spots.length, System.currentTimeMillis() - startTime);
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 현재 스냅샷 (로딩 전이면 빈 스냅샷)
+     */
+    public CatalogSnapshot snapshot() {
+        CatalogSnapshot current = snapshot;
+        return current != null ? current : CatalogSnapshot.EMPTY;
+    }
+
+    /**
+     * 카탈로그 행 → 목록용 DTO (좌표 필수, distance 는 0)
+     */
+    public static TouristSpotLocationDto toDto(TouristSpotCatalogRow spot) {
+        return TouristSpotLocationDto.builder()
+                .externalId(spot.getExternalId())
+                .name(spot.getName())
+                .address(spot.getAddress())
+                .latitude(spot.getLatitude().doubleValue())
+                .longitude(spot.getLongitude().doubleValue())
+                .description(spot.getDescription())
+                .category(spot.getCategory())
+                .tag(spot.getTag())
+                .introduction(spot.getIntroduction())
+                .imgPath(spot.getImgPath())
+                .build();
+    }
+}
@@ -1,12 +1,19 @@
 package com.mycompany.goormthonserver.repository;
 
 import com.mycompany.goormthonserver.entity.TouristSpot;  // 이 부분 수정
+import com.mycompany.goormthonserver.repository.projection.TouristSpotCatalogRow;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotDetailRow;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotFingerprint;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotLocationRow;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotSyncState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,88 +22,207 @@ import java.util.Optional;
 public interface TouristSpotRepository extends JpaRepository<TouristSpot, Long> {
 
 
+    // 검색 결과는 DTO에 필요한 컬럼만 별칭(= projection getter 이름)으로 선택한다.
+    // 거리 계산식은 lat_sin / lat_cos / lng_rad (저장 시 미리 계산)를 사용하고,
+    // 사용자 좌표 쪽 sin/cos/radians 값은 서비스에서 한 번만 계산해 넘긴다.
+    // LEAST(1.0, ...)는 부동소수 오차로 acos 인자가 1을 넘어 NULL이 되는 것을 막는다.
+    //
+    // 목록 조회는 keyset 페이지네이션: 정렬 키(거리/등급, 이름, id)가 이전 페이지 마지막 행보다 뒤인 행만 읽는다.
+    // 첫 페이지는 after* 에 가장 앞선 값(-1, '', 0)을 넘긴다. OFFSET 이 없어 깊은 페이지도 비용이 같다.
+
     @Query(value = """
-        SELECT id, external_id, name, address, latitude, longitude, 
-               description, category, tag, introduction, imgpath, script,
-               created_at, updated_at,
-               (6371 * acos(
-                   cos(radians(:latitude)) * cos(radians(latitude)) * 
-                   cos(radians(longitude) - radians(:longitude)) + 
-                   sin(radians(:latitude)) * sin(radians(latitude))
-               )) AS distance
+        SELECT id, external_id AS externalId, name, address, latitude, longitude,
+               description, category, tag, introduction, imgpath AS imgPath,
+               (6371 * acos(LEAST(1.0,
+                   :cosLat * lat_cos * cos(lng_rad - :radLng) + 
+                   :sinLat * lat_sin
+               ))) AS distance
         FROM tourist_spots
+        WHERE active = TRUE
+          AND latitude BETWEEN :minLat AND :maxLat
+          AND longitude BETWEEN :minLng AND :maxLng
         HAVING distance <= :radius
-        ORDER BY distance
+           AND (distance > :afterDistance OR (distance = :afterDistance AND id > :afterId))
+        ORDER BY distance, id
         LIMIT :limit
         """, nativeQuery = true)
-    List<Object[]> findNearbyTouristSpots(
-            @Param("latitude") BigDecimal latitude,
-            @Param("longitude") BigDecimal longitude,
+    List<TouristSpotLocationRow> findNearbyTouristSpots(
+            @Param("sinLat") double sinLat,
+            @Param("cosLat") double cosLat,
+            @Param("radLng") double radLng,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng,
             @Param("radius") double radius,
+            @Param("afterDistance") double afterDistance,
+            @Param("afterId") long afterId,
             @Param("limit") int limit
     );
 
+    // 반경 제한 없는 최근접 k개 (인메모리 인덱스가 없을 때만 사용, 테이블 전체를 거리 계산)
     @Query(value = """
-    SELECT id, external_id, name, address, latitude, longitude, 
-           description, category, tag, introduction, imgpath, script,
-           created_at, updated_at,
-           (6371 * acos(
-               cos(radians(:userLatitude)) * cos(radians(latitude)) * 
-               cos(radians(longitude) - radians(:userLongitude)) + 
-               sin(radians(:userLatitude)) * sin(radians(latitude))
-           )) AS distance
+        SELECT id, external_id AS externalId, name, address, latitude, longitude,
+               description, category, tag, introduction, imgpath AS imgPath,
+               (6371 * acos(LEAST(1.0,
+                   :cosLat * lat_cos * cos(lng_rad - :radLng) +
+                   :sinLat * lat_sin
+               ))) AS distance
+        FROM tourist_spots
+        WHERE active = TRUE
+          AND (:category IS NULL OR category = :category)
+        ORDER BY distance, id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TouristSpotLocationRow> findNearest(
+            @Param("sinLat") double sinLat,
+            @Param("cosLat") double cosLat,
+            @Param("radLng") double radLng,
+            @Param("category") String category,
+            @Param("limit") int limit
+    );
+
+    // 키워드 검색은 인메모리 KeywordIndex 와 같은 규칙: 이름, 태그, 소개 중 하나에 포함되면 일치하고
+    // 등급(matchRank)도 같은 값을 쓴다. 다만 이름 비교(DB 콜레이션)와 거리 오차가 달라 순서가 미세하게 다를 수 있어
+    // 커서는 SQL 출처로 표시하고 인덱스 쪽과 섞어 쓰지 않는다 (SpotCursor.Source).
+    // 위치 있음: 0 = 이름 일치, 1 = 태그·소개에만 일치 → 등급, 거리, 이름, id 순
+    @Query(value = """
+    SELECT id, external_id AS externalId, name, address, latitude, longitude,
+           description, category, tag, introduction, imgpath AS imgPath,
+           (6371 * acos(LEAST(1.0,
+               :cosLat * lat_cos * cos(lng_rad - :radLng) + 
+               :sinLat * lat_sin
+           ))) AS distance,
+           CASE
+               WHEN name LIKE CONCAT('%', :keyword, '%') THEN 0
+               ELSE 1
+           END AS matchRank
     FROM tourist_spots 
-    WHERE name LIKE CONCAT('%', :keyword, '%')
-    ORDER BY distance, name
+    WHERE active = TRUE
+      AND (name LIKE CONCAT('%', :keyword, '%')
+           OR tag LIKE CONCAT('%', :keyword, '%')
+           OR introduction LIKE CONCAT('%', :keyword, '%'))
+    HAVING matchRank > :afterRank
+        OR (matchRank = :afterRank AND (distance > :afterDistance
+            OR (distance = :afterDistance AND (name > :afterName OR (name = :afterName AND id > :afterId)))))
+    ORDER BY matchRank, distance, name, id
     LIMIT :limit
     """, nativeQuery = true)
-    List<Object[]> findByNameContainingWithDistance(
+    List<TouristSpotLocationRow> findByKeywordWithDistance(
             @Param("keyword") String keyword,
-            @Param("userLatitude") BigDecimal userLatitude,
-            @Param("userLongitude") BigDecimal userLongitude,
+            @Param("sinLat") double sinLat,
+            @Param("cosLat") double cosLat,
+            @Param("radLng") double radLng,
+            @Param("afterRank") int afterRank,
+            @Param("afterDistance") double afterDistance,
+            @Param("afterName") String afterName,
+            @Param("afterId") long afterId,
             @Param("limit") int limit
     );
 
     // 거리 정보 없는 키워드 검색 (사용자 위치 없을 때)
+    // 1 = 이름 접두 일치, 2 = 이름 포함, 3 = 태그·소개에만 포함 → 등급, 이름, id 순
     @Query(value = """
-    SELECT id, external_id, name, address, latitude, longitude, 
-           description, category, tag, introduction, imgpath, script,
-           created_at, updated_at,
-           0.0 AS distance
+    SELECT id, external_id AS externalId, name, address, latitude, longitude,
+           description, category, tag, introduction, imgpath AS imgPath,
+           0.0 AS distance,
+           CASE 
+               WHEN name LIKE CONCAT(:keyword, '%') THEN 1
+               WHEN name LIKE CONCAT('%', :keyword, '%') THEN 2
+               ELSE 3
+           END AS matchRank
     FROM tourist_spots 
-    WHERE name LIKE CONCAT('%', :keyword, '%')
-    ORDER BY 
-        CASE 
-            WHEN name LIKE CONCAT(:keyword, '%') THEN 1
-            WHEN name LIKE CONCAT('%', :keyword, '%') THEN 2
-            ELSE 3
-        END,
-        name
+    WHERE active = TRUE
+      AND (name LIKE CONCAT('%', :keyword, '%')
+           OR tag LIKE CONCAT('%', :keyword, '%')
+           OR introduction LIKE CONCAT('%', :keyword, '%'))
+    HAVING matchRank > :afterRank
+        OR (matchRank = :afterRank AND (name > :afterName OR (name = :afterName AND id > :afterId)))
+    ORDER BY matchRank, name, id
     LIMIT :limit
     """, nativeQuery = true)
-    List<Object[]> findByNameContaining(
+    List<TouristSpotLocationRow> findByKeyword(
             @Param("keyword") String keyword,
+            @Param("afterRank") int afterRank,
+            @Param("afterName") String afterName,
+            @Param("afterId") long afterId,
             @Param("limit") int limit
     );
 
 
     @Query(value = """
-    SELECT imgpath, audioUrl, script, name, external_id, address, latitude, longitude, description, category, tag, introduction,
+    SELECT imgpath AS imgPath, audioUrl, script, name, external_id AS externalId, address, latitude, longitude,
+           description, category, tag, introduction, updated_at AS updatedAt,
            CASE 
-               WHEN :userLatitude IS NOT NULL AND :userLongitude IS NOT NULL THEN
-                   (6371 * acos(
-                       cos(radians(:userLatitude)) * cos(radians(latitude)) * 
-                       cos(radians(longitude) - radians(:userLongitude)) + 
-                       sin(radians(:userLatitude)) * sin(radians(latitude))
-                   ))
+               WHEN :sinLat IS NOT NULL THEN
+                   (6371 * acos(LEAST(1.0,
+                       :cosLat * lat_cos * cos(lng_rad - :radLng) + 
+                       :sinLat * lat_sin
+                   )))
                ELSE 0.0
            END AS distance
     FROM tourist_spots 
     WHERE external_id = :contentId
+      AND active = TRUE
     """, nativeQuery = true)
-    List<Object[]> findDetailByContentId(
+    Optional<TouristSpotDetailRow> findDetailByContentId(
             @Param("contentId") String contentId,
-            @Param("userLatitude") BigDecimal userLatitude,
-            @Param("userLongitude") BigDecimal userLongitude
+            @Param("sinLat") Double sinLat,
+            @Param("cosLat") Double cosLat,
+            @Param("radLng") Double radLng
     );
+
+    // 미리 계산된 거리 컬럼이 비어 있는 행 채우기 (컬럼 추가 전 데이터, 외부 스크립트 삽입분)
+    @Modifying
+    @Transactional
+    @Query(value = """
+    UPDATE tourist_spots
+    SET lat_sin = sin(radians(latitude)),
+        lat_cos = cos(radians(latitude)),
+        lng_rad = radians(longitude)
+    WHERE lat_sin IS NULL OR lat_cos IS NULL OR lng_rad IS NULL
+    """, nativeQuery = true)
+    int backfillTrigColumns();
+
+    // visitjeju_cache.tourist_spot_id 연결용
+    @Query("SELECT t.id FROM TouristSpot t WHERE t.externalId = :externalId")
+    Optional<Long> findIdByExternalId(@Param("externalId") String externalId);
+
+    // 인메모리 인덱스 갱신 여부 판단용 (행 수 + 최대 id + 최종 수정 시각)
+    @Query("""
+    SELECT new com.mycompany.goormthonserver.repository.projection.TouristSpotFingerprint(
+           COUNT(t), MAX(t.id), MAX(t.updatedAt))
+    FROM TouristSpot t
+    """)
+    TouristSpotFingerprint findFingerprint();
+
+    // 인메모리 카탈로그 적재용 (비활성 관광지 제외, 엔티티 전체를 읽지 않음)
+    @Query("""
+    SELECT t.id AS id, t.externalId AS externalId, t.name AS name, t.address AS address,
+           t.latitude AS latitude, t.longitude AS longitude, t.description AS description,
+           t.category AS category, t.tag AS tag, t.introduction AS introduction, t.imgPath AS imgPath
+    FROM TouristSpot t
+    WHERE t.active = TRUE
+    ORDER BY t.id
+    """)
+    List<TouristSpotCatalogRow> findCatalogRows();
+
+    // 경로 계산 시 인메모리 카탈로그가 아직 없을 때 사용
+    @Query("""
+    SELECT t.id AS id, t.externalId AS externalId, t.name AS name, t.address AS address,
+           t.latitude AS latitude, t.longitude AS longitude, t.description AS description,
+           t.category AS category, t.tag AS tag, t.introduction AS introduction, t.imgPath AS imgPath
+    FROM TouristSpot t
+    WHERE t.externalId IN :externalIds
+      AND t.active = TRUE
+    """)
+    List<TouristSpotCatalogRow> findCatalogRowsByExternalIdIn(@Param("externalIds") Collection<String> externalIds);
+
+    // 비짓제주 동기화 시 페이지 단위 비교용 (엔티티 전체를 읽지 않음)
+    @Query("""
+    SELECT t.id AS id, t.externalId AS externalId, t.contentHash AS contentHash
+    FROM TouristSpot t
+    WHERE t.externalId IN :externalIds
+    """)
+    List<TouristSpotSyncState> findSyncStatesByExternalIdIn(@Param("externalIds") Collection<String> externalIds);
 }
@@ -0,0 +1,23 @@
+package com.mycompany.goormthonserver.repository;
+
+import com.mycompany.goormthonserver.entity.VisitJejuCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface VisitJejuCacheRepository extends JpaRepository<VisitJejuCache, Long> {
+
+    Optional<VisitJejuCache> findByExternalId(String externalId);
+
+    // 원본이 바뀐 콘텐츠는 다음 조회 때 API 에서 다시 받도록 만료 처리
+    @Modifying
+    @Query("UPDATE VisitJejuCache c SET c.expiresAt = :now WHERE c.externalId IN :externalIds")
+    int expireByExternalIdIn(@Param("externalIds") Collection<String> externalIds, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9 @@
+package com.mycompany.goormthonserver.repository;
+
+import com.mycompany.goormthonserver.entity.VisitJejuSyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VisitJejuSyncCheckpointRepository extends JpaRepository<VisitJejuSyncCheckpoint, String> {
+}
@@ -0,0 +1,31 @@
+package com.mycompany.goormthonserver.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 인메모리 카탈로그 적재용 행 (TouristSpotLocationDto 에 필요한 컬럼만, 스크립트·해시 등은 읽지 않음)
+ */
+public interface TouristSpotCatalogRow {
+
+    Long getId();
+
+    String getExternalId();
+
+    String getName();
+
+    String getAddress();
+
+    BigDecimal getLatitude();
+
+    BigDecimal getLongitude();
+
+    String getDescription();
+
+    String getCategory();
+
+    String getTag();
+
+    String getIntroduction();
+
+    String getImgPath();
+}
@@ -0,0 +1,38 @@
+package com.mycompany.goormthonserver.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상세 조회 결과 행 (TouristSpotDetailDto 에 필요한 컬럼만)
+ * 네이티브 쿼리의 컬럼 별칭이 getter 이름과 일치해야 한다.
+ */
+public interface TouristSpotDetailRow {
+
+    String getImgPath();
+
+    String getAudioUrl();
+
+    String getScript();
+
+    String getName();
+
+    String getExternalId();
+
+    String getAddress();
+
+    double getLatitude();
+
+    double getLongitude();
+
+    String getDescription();
+
+    String getCategory();
+
+    String getTag();
+
+    String getIntroduction();
+
+    double getDistance();  // km, 사용자 위치 없으면 0.0
+
+    LocalDateTime getUpdatedAt();  // ETag / Last-Modified
+}
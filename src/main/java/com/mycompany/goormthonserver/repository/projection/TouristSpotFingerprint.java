@@ -0,0 +1,9 @@
+package com.mycompany.goormthonserver.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * tourist_spots 테이블 변경 감지용 요약 (행 수, 최대 id, 최종 수정 시각)
+ */
+public record TouristSpotFingerprint(Long count, Long maxId, LocalDateTime lastUpdatedAt) {
+}
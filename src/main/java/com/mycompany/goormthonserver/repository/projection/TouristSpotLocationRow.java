@@ -0,0 +1,36 @@
+package com.mycompany.goormthonserver.repository.projection;
+
+/**
+ * 위치/키워드 검색 결과 행 (TouristSpotLocationDto 에 필요한 컬럼만)
+ * 네이티브 쿼리의 컬럼 별칭이 getter 이름과 일치해야 한다.
+ */
+public interface TouristSpotLocationRow {
+
+    long getId();  // 커서 정렬 키
+
+    String getExternalId();
+
+    String getName();
+
+    String getAddress();
+
+    double getLatitude();
+
+    double getLongitude();
+
+    String getDescription();
+
+    String getCategory();
+
+    String getTag();
+
+    String getIntroduction();
+
+    String getImgPath();
+
+    double getDistance();  // km, 사용자 위치 없으면 0.0
+
+    // 키워드 검색에서만 선택, 그 외 null
+    // 위치 없음 - 1: 이름 접두 일치, 2: 이름 포함, 3: 태그·소개에만 포함 / 위치 있음 - 0: 이름 일치, 1: 태그·소개
+    Integer getMatchRank();
+}
@@ -0,0 +1,13 @@
+package com.mycompany.goormthonserver.repository.projection;
+
+/**
+ * 동기화 비교용 행 (id, 외부 ID, 마지막 동기화 해시)
+ */
+public interface TouristSpotSyncState {
+
+    Long getId();
+
+    String getExternalId();
+
+    String getContentHash();  // 동기화 전이면 null
+}
@@ -0,0 +1,207 @@
+package com.mycompany.goormthonserver.route;
+
+import com.mycompany.goormthonserver.common.util.GeoUtils;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 경유지 방문 순서 최적화 (최근접 이웃 + 2-opt)
+ * 출발지를 0번 지점으로 고정한 거리 행렬(직선 거리)을 만들고,
+ * 최근접 이웃으로 초기 경로를 잡은 뒤 2-opt 로 교차 구간을 뒤집어 줄인다.
+ * 경유지가 많으면 fork/join 공통 풀에서 초기 경로를 여러 개(무작위 최근접 이웃) 만들어
+ * 동시에 개선하고 가장 짧은 경로를 고른다. 모든 작업은 같은 마감 시각을 공유한다.
+ */
+public final class RouteOptimizer {
+
+    // 무작위 초기 경로에서 다음 지점을 고를 가까운 후보 수
+    private static final int RANDOM_CANDIDATES = 3;
+    private static final double EPSILON = 1e-9;
+
+    private final long timeBudgetNanos;
+    private final int parallelThreshold;
+
+    /**
+     * @param timeBudget        계산 시간 예산 (넘으면 그때까지의 가장 좋은 경로 반환)
+     * @param parallelThreshold 이 수 이상의 경유지부터 병렬로 여러 경로를 탐색
+     */
+    public RouteOptimizer(Duration timeBudget, int parallelThreshold) {
+        this.timeBudgetNanos = timeBudget.toNanos();
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * @param latitudes  경유지 위도
+     * @param longitudes 경유지 경도
+     * @param roundTrip  마지막 경유지에서 출발지로 돌아오는지
+     */
+    public RoutePlan optimize(double startLatitude, double startLongitude,
+                              double[] latitudes, double[] longitudes, boolean roundTrip) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("위도/경도 배열 길이가 다릅니다.");
+        }
+        int stops = latitudes.length;
+        if (stops == 0) {
+            return RoutePlan.EMPTY;
+        }
+
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        boolean parallel = stops >= parallelThreshold;
+        double[] matrix = distanceMatrix(startLatitude, startLongitude, latitudes, longitudes, parallel);
+        int nodes = stops + 1;
+
+        Tour best;
+        if (!parallel) {
+            best = improve(nearestNeighbour(matrix, nodes, 0), matrix, roundTrip, deadline);
+        } else {
+            // 0번은 결정적 최근접 이웃, 나머지는 무작위 최근접 이웃
+            int restarts = Math.max(2, ForkJoinPool.getCommonPoolParallelism());
+            best = IntStream.range(0, restarts)
+                    .parallel()
+                    .mapToObj(seed -> improve(nearestNeighbour(matrix, nodes, seed), matrix, roundTrip, deadline))
+                    .min(Comparator.comparingDouble(Tour::length))
+                    .orElseThrow();
+        }
+        return toPlan(best, matrix, nodes, roundTrip);
+    }
+
+    /**
+     * (경유지 + 1)² 거리 행렬, 0번은 출발지
+     */
+    static double[] distanceMatrix(double startLatitude, double startLongitude,
+                                   double[] latitudes, double[] longitudes, boolean parallel) {
+        int nodes = latitudes.length + 1;
+        double[] sinLats = new double[nodes];
+        double[] cosLats = new double[nodes];
+        double[] radLngs = new double[nodes];
+        for (int i = 0; i < nodes; i++) {
+            double radLat = Math.toRadians(i == 0 ? startLatitude : latitudes[i - 1]);
+            sinLats[i] = Math.sin(radLat);
+            cosLats[i] = Math.cos(radLat);
+            radLngs[i] = Math.toRadians(i == 0 ? startLongitude : longitudes[i - 1]);
+        }
+
+        double[] matrix = new double[nodes * nodes];
+        IntStream rows = IntStream.range(0, nodes);
+        (parallel ? rows.parallel() : rows).forEach(from -> {
+            for (int to = 0; to < nodes; to++) {
+                matrix[from * nodes + to] = from == to ? 0.0 : GeoUtils.distanceKm(
+                        sinLats[from], cosLats[from], radLngs[from], sinLats[to], cosLats[to], radLngs[to]);
+            }
+        });
+        return matrix;
+    }
+
+    /**
+     * 출발지에서 시작하는 최근접 이웃 경로
+     * seed 가 0이 아니면 매번 가장 가까운 RANDOM_CANDIDATES 개 중 하나를 무작위로 고른다.
+     */
+    static int[] nearestNeighbour(double[] matrix, int nodes, int seed) {
+        Random random = seed == 0 ? null : new Random(seed);
+        int limit = random == null ? 1 : RANDOM_CANDIDATES;
+        boolean[] visited = new boolean[nodes];
+        int[] path = new int[nodes];
+        visited[0] = true;
+
+        int[] candidates = new int[limit];
+        for (int step = 1; step < nodes; step++) {
+            int current = path[step - 1];
+            int found = 0;
+            // 가까운 순으로 최대 RANDOM_CANDIDATES 개 (삽입 정렬)
+            for (int next = 1; next < nodes; next++) {
+                if (visited[next]) {
+                    continue;
+                }
+                double distance = matrix[current * nodes + next];
+                if (found < limit || distance < matrix[current * nodes + candidates[found - 1]]) {
+                    int position = Math.min(found, limit - 1);
+                    while (position > 0 && matrix[current * nodes + candidates[position - 1]] > distance) {
+                        candidates[position] = candidates[position - 1];
+                        position--;
+                    }
+                    candidates[position] = next;
+                    found = Math.min(found + 1, limit);
+                }
+            }
+            int chosen = candidates[found == 1 ? 0 : random.nextInt(found)];
+            path[step] = chosen;
+            visited[chosen] = true;
+        }
+        return path;
+    }
+
+    /**
+     * 2-opt (첫 개선 즉시 적용) - 출발지(0번 위치)는 고정
+     * 구간 (a,b) 와 (c,e) 를 (a,c) 와 (b,e) 로 바꿔 짧아지면 b..c 를 뒤집는다.
+     */
+    static Tour improve(int[] path, double[] matrix, boolean roundTrip, long deadline) {
+        int nodes = path.length;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 0; i < nodes - 2; i++) {
+                if (System.nanoTime() > deadline) {
+                    return new Tour(path, length(path, matrix, roundTrip), false);
+                }
+                for (int j = i + 2; j < nodes; j++) {
+                    int a = path[i];
+                    int b = path[i + 1];
+                    int c = path[j];
+                    double delta;
+                    if (j == nodes - 1 && !roundTrip) {
+                        // 편도 경로의 마지막 구간은 뒤에 이어지는 지점이 없음
+                        delta = matrix[a * nodes + c] - matrix[a * nodes + b];
+                    } else {
+                        int e = j == nodes - 1 ? path[0] : path[j + 1];
+                        delta = matrix[a * nodes + c] + matrix[b * nodes + e]
+                                - matrix[a * nodes + b] - matrix[c * nodes + e];
+                    }
+                    if (delta < -EPSILON) {
+                        reverse(path, i + 1, j);
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return new Tour(path, length(path, matrix, roundTrip), true);
+    }
+
+    static double length(int[] path, double[] matrix, boolean roundTrip) {
+        int nodes = path.length;
+        double total = 0.0;
+        for (int i = 1; i < nodes; i++) {
+            total += matrix[path[i - 1] * nodes + path[i]];
+        }
+        if (roundTrip) {
+            total += matrix[path[nodes - 1] * nodes + path[0]];
+        }
+        return total;
+    }
+
+    private static void reverse(int[] path, int from, int to) {
+        while (from < to) {
+            int swap = path[from];
+            path[from++] = path[to];
+            path[to--] = swap;
+        }
+    }
+
+    private static RoutePlan toPlan(Tour tour, double[] matrix, int nodes, boolean roundTrip) {
+        int[] order = new int[nodes - 1];
+        double[] legs = new double[nodes - 1];
+        for (int i = 1; i < nodes; i++) {
+            order[i - 1] = tour.path()[i] - 1;
+            legs[i - 1] = matrix[tour.path()[i - 1] * nodes + tour.path()[i]];
+        }
+        return new RoutePlan(order, legs, length(tour.path(), matrix, roundTrip), tour.converged());
+    }
+
+    /**
+     * 지점 번호 경로 (0번 = 출발지)
+     */
+    record Tour(int[] path, double length, boolean converged) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.mycompany.goormthonserver.route;
+
+/**
+ * 방문 순서 계산 결과
+ *
+ * @param order           방문 순서 (입력 경유지 번호)
+ * @param legDistances    직전 지점(첫 구간은 출발지)에서 각 경유지까지 거리 (km)
+ * @param totalDistanceKm 전체 거리 (왕복이면 출발지로 돌아오는 구간 포함)
+ * @param converged       시간 예산 안에 2-opt 가 더 개선할 수 없는 상태까지 도달했는지
+ */
+public record RoutePlan(int[] order, double[] legDistances, double totalDistanceKm, boolean converged) {
+
+    static final RoutePlan EMPTY = new RoutePlan(new int[0], new double[0], 0.0, true);
+}
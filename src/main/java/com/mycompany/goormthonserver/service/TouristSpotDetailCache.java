@@ -0,0 +1,185 @@
+package com.mycompany.goormthonserver.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mycompany.goormthonserver.dto.TouristSpotDetailDto;
+import com.mycompany.goormthonserver.entity.TouristSpotChangedEvent;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotDetailRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 관광지 상세 near-cache (Caffeine, 인스턴스 로컬)
+ *
+ * QR 스캔처럼 같은 contentId 가 반복 조회되므로 사용자 위치와 무관한 부분만 external_id 로 보관하고,
+ * 거리는 캐시된 좌표로 호출마다 계산한다. script/introduction 이 커서 항목 수가 아니라 대략적인 바이트로 제한한다.
+ *
+ * 관광지가 바뀌면(TouristSpotChangedEvent) 로컬 항목을 지우고 Redis 채널로 다른 인스턴스에도 알린다.
+ * 자기 메시지도 다시 받지만 한 번 더 지울 뿐이라 구분하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TouristSpotDetailCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "tour-spots:detail:invalidate";
+
+    // 전체 무효화 (CSV 일괄 가져오기 등 external_id 를 특정할 수 없는 변경)
+    private static final String ALL = "*";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${tour-spots.detail-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tour-spots.detail-cache.max-weight-bytes:33554432}")
+    private long maxWeightBytes;
+
+    @Value("${tour-spots.detail-cache.expire-after-write-minutes:60}")
+    private long expireAfterWriteMinutes;
+
+    @Value("${tour-spots.detail-cache.pubsub-enabled:true}")
+    private boolean pubSubEnabled;
+
+    private Cache<String, Entry> cache;
+    private Counter localInvalidations;
+    private Counter remoteInvalidations;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, Entry entry) -> entry.weight())
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size ...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tourspot.detail");
+        localInvalidations = invalidationCounter("local");
+        remoteInvalidations = invalidationCounter("remote");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 읽어 보관 (없는 관광지는 보관하지 않음)
+     */
+    public Optional<Entry> get(String externalId, Function<String, Optional<Entry>> loader) {
+        return Optional.ofNullable(cache.get(externalId, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * 관광지 변경 커밋 후 로컬 무효화 + 다른 인스턴스에 전파
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTouristSpotChanged(TouristSpotChangedEvent event) {
+        String key = event.externalId() == null ? ALL : event.externalId();
+        invalidateLocally(key);
+        localInvalidations.increment();
+        if (!pubSubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, key);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스는 expire-after-write 까지 이전 값을 볼 수 있다
+            log.warn("⚠️ 관광지 상세 캐시 무효화 전파 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스(또는 자신)가 보낸 무효화 메시지
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        invalidateLocally(key);
+        remoteInvalidations.increment();
+        log.debug("관광지 상세 캐시 무효화 수신: {}", key);
+    }
+
+    private void invalidateLocally(String key) {
+        if (ALL.equals(key)) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(key);
+        }
+    }
+
+    private Counter invalidationCounter(String origin) {
+        return Counter.builder("tourspot.detail.cache.invalidations")
+                .description("관광지 상세 캐시 무효화 횟수")
+                .tag("origin", origin)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 위치와 무관한 상세 정보 (distance 제외)
+     */
+    public record Entry(String imgPath, String audioUrl, String script, String name, String externalId,
+                        String address, double latitude, double longitude, String description,
+                        String category, String tag, String introduction, LocalDateTime updatedAt) {
+
+        // 객체 헤더·필드·double 등 고정 크기 대략치
+        private static final int BASE_WEIGHT = 128;
+
+        public static Entry from(TouristSpotDetailRow row) {
+            return new Entry(row.getImgPath(), row.getAudioUrl(), row.getScript(), row.getName(),
+                    row.getExternalId(), row.getAddress(), row.getLatitude(), row.getLongitude(),
+                    row.getDescription(), row.getCategory(), row.getTag(), row.getIntroduction(),
+                    row.getUpdatedAt());
+        }
+
+        public TouristSpotDetailDto toDto(double distance) {
+            return TouristSpotDetailDto.builder()
+                    .imgPath(imgPath)
+                    .audioUrl(audioUrl)
+                    .script(script)
+                    .name(name)
+                    .external_id(externalId)
+                    .address(address)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .description(description)
+                    .category(category)
+                    .tag(tag)
+                    .introduction(introduction)
+                    .distance(distance)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+
+        /**
+         * 대략적인 힙 사용량 (문자열은 한글이 대부분이라 UTF-16 2바이트로 계산)
+         */
+        int weight() {
+            long chars = length(imgPath) + length(audioUrl) + length(script) + length(name)
+                    + length(externalId) + length(address) + length(description) + length(category)
+                    + length(tag) + length(introduction);
+            return (int) Math.min(Integer.MAX_VALUE, BASE_WEIGHT + chars * 2);
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+    }
+}
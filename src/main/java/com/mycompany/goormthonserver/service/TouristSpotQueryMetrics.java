@@ -0,0 +1,93 @@
+package com.mycompany.goormthonserver.service;
+
+import com.mycompany.goormthonserver.common.dto.CursorPage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 관광지 조회 지표
+ * - tourspot.query          : 조회 소요 시간 (히스토그램)
+ * - tourspot.query.results  : 결과 건수
+ * 태그: query(조회 이름), source(index = 인메모리 인덱스, sql = 네이티브 쿼리), location(사용자 좌표 여부)
+ */
+@Component
+@RequiredArgsConstructor
+public class TouristSpotQueryMetrics {
+
+    public static final String SOURCE_INDEX = "index";
+    public static final String SOURCE_SQL = "sql";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, QueryMeters> meters = new ConcurrentHashMap<>();
+
+    public <T extends Collection<?>> T record(String query, String source, boolean withLocation, Supplier<T> call) {
+        QueryMeters queryMeters = meters(query, source, withLocation);
+        long startTime = System.nanoTime();
+        T results = call.get();
+        queryMeters.timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        queryMeters.results.record(results.size());
+        return results;
+    }
+
+    public <T> Optional<T> recordOptional(String query, String source, boolean withLocation, Supplier<Optional<T>> call) {
+        QueryMeters queryMeters = meters(query, source, withLocation);
+        long startTime = System.nanoTime();
+        Optional<T> result = call.get();
+        queryMeters.timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        queryMeters.results.record(result.isPresent() ? 1 : 0);
+        return result;
+    }
+
+    public <T> CursorPage<T> recordPage(String query, String source, boolean withLocation, Supplier<CursorPage<T>> call) {
+        QueryMeters queryMeters = meters(query, source, withLocation);
+        long startTime = System.nanoTime();
+        CursorPage<T> page = call.get();
+        queryMeters.timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        queryMeters.results.record(page.items().size());
+        return page;
+    }
+
+    /**
+     * 목록이 아닌 결과 (결과 건수는 resultCount 로 계산)
+     */
+    public <T> T recordValue(String query, String source, boolean withLocation, ToIntFunction<T> resultCount,
+                             Supplier<T> call) {
+        QueryMeters queryMeters = meters(query, source, withLocation);
+        long startTime = System.nanoTime();
+        T result = call.get();
+        queryMeters.timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        queryMeters.results.record(resultCount.applyAsInt(result));
+        return result;
+    }
+
+    private QueryMeters meters(String query, String source, boolean withLocation) {
+        return meters.computeIfAbsent(query + '|' + source + '|' + withLocation, key -> new QueryMeters(
+                Timer.builder("tourspot.query")
+                        .description("관광지 조회 소요 시간")
+                        .tag("query", query)
+                        .tag("source", source)
+                        .tag("location", String.valueOf(withLocation))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("tourspot.query.results")
+                        .description("관광지 조회 결과 건수")
+                        .tag("query", query)
+                        .tag("source", source)
+                        .tag("location", String.valueOf(withLocation))
+                        .register(meterRegistry)));
+    }
+
+    private record QueryMeters(Timer timer, DistributionSummary results) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.mycompany.goormthonserver.service;
+
+import com.mycompany.goormthonserver.common.util.GeoPoint;
+import com.mycompany.goormthonserver.dto.RouteResponseDto;
+import com.mycompany.goormthonserver.dto.TouristSpotLocationDto;
+import com.mycompany.goormthonserver.index.CatalogSnapshot;
+import com.mycompany.goormthonserver.index.TouristSpotCatalog;
+import com.mycompany.goormthonserver.repository.TouristSpotRepository;
+import com.mycompany.goormthonserver.route.RouteOptimizer;
+import com.mycompany.goormthonserver.route.RoutePlan;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 담아 둔 관광지의 방문 순서 계산
+ * 좌표는 인메모리 카탈로그에서 (로딩 전이면 DB 에서) 읽고,
+ * 최근접 이웃 + 2-opt 로 출발지 기준 총 이동 거리가 짧은 순서를 시간 예산 안에서 찾는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TouristSpotRouteService {
+
+    private final TouristSpotCatalog touristSpotCatalog;
+    private final TouristSpotRepository touristSpotRepository;
+    private final TouristSpotQueryMetrics queryMetrics;
+
+    @Value("${tour-spots.route.max-stops:300}")
+    private int maxStops;
+
+    // 순서 계산에 쓸 시간 (넘으면 그때까지 가장 짧은 순서 반환)
+    @Value("${tour-spots.route.time-budget-ms:50}")
+    private long timeBudgetMs;
+
+    @Value("${tour-spots.route.parallel-threshold:64}")
+    private int parallelThreshold;
+
+    public int getMaxStops() {
+        return maxStops;
+    }
+
+    @Transactional(readOnly = true)
+    public RouteResponseDto planRoute(GeoPoint start, List<String> externalIds, boolean roundTrip) {
+        long startTime = System.currentTimeMillis();
+
+        // 중복·빈 값 제거 (요청 순서 유지)
+        List<String> ids = externalIds.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .distinct()
+                .toList();
+
+        boolean fromIndex = touristSpotCatalog.isReady();
+        Map<String, TouristSpotLocationDto> found = fromIndex ? findInCatalog(ids) : findInDatabase(ids);
+
+        List<TouristSpotLocationDto> stops = new ArrayList<>(ids.size());
+        List<String> notFound = new ArrayList<>();
+        for (String id : ids) {
+            TouristSpotLocationDto spot = found.get(id);
+            if (spot != null) {
+                stops.add(spot);
+            } else {
+                notFound.add(id);
+            }
+        }
+
+        String source = fromIndex ? TouristSpotQueryMetrics.SOURCE_INDEX : TouristSpotQueryMetrics.SOURCE_SQL;
+        RoutePlan plan = queryMetrics.recordValue("route", source, true, result -> result.order().length,
+                () -> optimize(start, stops, roundTrip));
+
+        List<TouristSpotLocationDto> ordered = new ArrayList<>(stops.size());
+        for (int i = 0; i < plan.order().length; i++) {
+            ordered.add(stops.get(plan.order()[i]).toBuilder()
+                    .distance(plan.legDistances()[i])
+                    .build());
+        }
+
+        long elapsedMs = System.currentTimeMillis() - startTime;
+        log.debug("방문 순서 계산 - {}곳, {}km, 수렴: {}, 미발견: {} ({}ms)",
+                ordered.size(), String.format("%.1f", plan.totalDistanceKm()), plan.converged(), notFound.size(),
+                elapsedMs);
+
+        return RouteResponseDto.builder()
+                .stops(ordered)
+                .totalDistance(plan.totalDistanceKm())
+                .notFound(notFound)
+                .converged(plan.converged())
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    private RoutePlan optimize(GeoPoint start, List<TouristSpotLocationDto> stops, boolean roundTrip) {
+        double[] latitudes = new double[stops.size()];
+        double[] longitudes = new double[stops.size()];
+        for (int i = 0; i < stops.size(); i++) {
+            latitudes[i] = stops.get(i).getLatitude();
+            longitudes[i] = stops.get(i).getLongitude();
+        }
+        return new RouteOptimizer(Duration.ofMillis(timeBudgetMs), parallelThreshold)
+                .optimize(start.latitude(), start.longitude(), latitudes, longitudes, roundTrip);
+    }
+
+    private Map<String, TouristSpotLocationDto> findInCatalog(List<String> ids) {
+        CatalogSnapshot snapshot = touristSpotCatalog.snapshot();
+        Map<String, TouristSpotLocationDto> found = new HashMap<>();
+        for (String id : ids) {
+            snapshot.findByExternalId(id).ifPresent(spot -> found.put(id, spot));
+        }
+        return found;
+    }
+
+    private Map<String, TouristSpotLocationDto> findInDatabase(List<String> ids) {
+        log.warn("관광지 인덱스가 아직 로딩되지 않아 DB 에서 좌표 조회 ({}곳)", ids.size());
+        Map<String, TouristSpotLocationDto> found = new HashMap<>();
+        touristSpotRepository.findCatalogRowsByExternalIdIn(ids)
+                .forEach(spot -> found.put(spot.getExternalId(), TouristSpotCatalog.toDto(spot)));
+        return found;
+    }
+}
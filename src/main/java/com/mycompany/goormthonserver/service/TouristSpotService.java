@@ -1,17 +1,31 @@
 // 수정된 Service 클래스
 package com.mycompany.goormthonserver.service;
 
+import com.mycompany.goormthonserver.common.dto.CursorPage;
+import com.mycompany.goormthonserver.common.util.GeoBoundingBox;
+import com.mycompany.goormthonserver.common.util.GeoPoint;
+import com.mycompany.goormthonserver.common.util.GeoUtils;
+import com.mycompany.goormthonserver.dto.TouristSpotClusterDto;
 import com.mycompany.goormthonserver.dto.TouristSpotDetailDto;
+import com.mycompany.goormthonserver.dto.TouristSpotFacetsDto;
 import com.mycompany.goormthonserver.dto.TouristSpotLocationDto;
+import com.mycompany.goormthonserver.dto.TouristSpotSuggestionDto;
+import com.mycompany.goormthonserver.index.SpotCursor;
+import com.mycompany.goormthonserver.index.SpotFilter;
+import com.mycompany.goormthonserver.index.TouristSpotCatalog;
 import com.mycompany.goormthonserver.repository.TouristSpotRepository;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotDetailRow;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotLocationRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -22,133 +36,347 @@ import java.util.stream.Collectors;
 public class TouristSpotService {
 
     private final TouristSpotRepository touristSpotRepository;
+    private final TouristSpotCatalog touristSpotCatalog;
+    private final TouristSpotQueryMetrics queryMetrics;
+    private final TouristSpotDetailCache detailCache;
 
-    public List<TouristSpotLocationDto> findNearbyTouristSpots(
-            BigDecimal latitude, BigDecimal longitude, double radius, int limit) {
+    // false면 인메모리 인덱스 대신 네이티브 쿼리 사용 (비교용)
+    @Value("${tour-spots.index.geo-enabled:true}")
+    private boolean geoIndexEnabled;
 
-        log.info("위경도 기반 관광지 조회 - lat: {}, lng: {}, radius: {}km, limit: {}",
-                latitude, longitude, radius, limit);
+    // false면 n-gram 색인 대신 LIKE 네이티브 쿼리 사용 (비교용)
+    @Value("${tour-spots.index.keyword-enabled:true}")
+    private boolean keywordIndexEnabled;
 
-        List<Object[]> results = touristSpotRepository.findNearbyTouristSpots(
-                latitude, longitude, radius, limit);
+    @Value("${tour-spots.debug.dump-detail-row:false}")
+    private boolean dumpDetailRow;
+
+    public List<TouristSpotLocationDto> findNearbyTouristSpots(GeoPoint location, double radius, int limit) {
+        return findNearbyTouristSpots(location, radius, limit, null).items();
+    }
+
+    /**
+     * 반경 내 관광지를 거리순으로 한 페이지 조회
+     *
+     * @param after 이전 페이지 커서 (첫 페이지면 null)
+     */
+    public CursorPage<TouristSpotLocationDto> findNearbyTouristSpots(GeoPoint location, double radius, int limit,
+                                                                     SpotCursor after) {
+        return findNearbyTouristSpots(location, radius, limit, after, SpotFilter.NONE);
+    }
+
+    /**
+     * 분류·태그 필터를 적용한 반경 검색 한 페이지
+     * 필터는 인메모리 비트맵으로만 처리하므로 필터가 있으면 인덱스 설정과 관계없이 인덱스를 사용한다.
+     */
+    public CursorPage<TouristSpotLocationDto> findNearbyTouristSpots(GeoPoint location, double radius, int limit,
+                                                                     SpotCursor after, SpotFilter filter) {
+
+        double lat = location.latitude();
+        double lng = location.longitude();
+
+        log.debug("위경도 기반 관광지 조회 - lat: {}, lng: {}, radius: {}km, limit: {}, cursor: {}, filter: {}",
+                lat, lng, radius, limit, after, filter);
+
+        if (!filter.isEmpty() && !touristSpotCatalog.isReady()) {
+            log.warn("관광지 인덱스가 아직 로딩되지 않아 필터 검색 결과 없음");
+            return CursorPage.empty();
+        }
+
+        if (useIndex(geoIndexEnabled, filter, after)) {
+            return queryMetrics.recordPage("nearby", TouristSpotQueryMetrics.SOURCE_INDEX, true,
+                    () -> touristSpotCatalog.snapshot().findNearby(lat, lng, radius, limit, after, filter));
+        }
+
+        SpotCursor.requireSource(after, SpotCursor.Source.SQL);
+        double radLat = Math.toRadians(lat);
+        GeoBoundingBox box = GeoUtils.boundingBox(lat, lng, radius);
+
+        // limit + 1 행을 읽어 다음 페이지 여부 판단
+        List<TouristSpotLocationRow> results = queryMetrics.record("nearby", TouristSpotQueryMetrics.SOURCE_SQL, true,
+                () -> touristSpotRepository.findNearbyTouristSpots(
+                        Math.sin(radLat), Math.cos(radLat), Math.toRadians(lng),
+                        box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(),
+                        radius, after == null ? -1.0 : after.distance(), after == null ? 0L : after.id(),
+                        limit + 1));
+
+        return toPage(results, limit,
+                row -> SpotCursor.ofDistance(SpotCursor.Source.SQL, row.getDistance(), row.getId()));
+    }
+
+    /**
+     * 반경 제한 없이 가장 가까운 k개
+     * 우도·마라도나 배 위처럼 10km 안에 관광지가 없어도 항상 결과를 돌려준다.
+     *
+     * @param category 분류 필터 (비어 있으면 전체)
+     */
+    public List<TouristSpotLocationDto> nearest(GeoPoint location, int k, String category) {
+
+        double lat = location.latitude();
+        double lng = location.longitude();
+        String categoryFilter = category == null || category.isBlank() ? null : category.trim();
+
+        log.debug("최근접 관광지 조회 - lat: {}, lng: {}, k: {}, category: {}", lat, lng, k, categoryFilter);
+
+        if (geoIndexEnabled && touristSpotCatalog.isReady()) {
+            return queryMetrics.record("nearest", TouristSpotQueryMetrics.SOURCE_INDEX, true,
+                    () -> touristSpotCatalog.snapshot().findNearest(lat, lng, k, categoryFilter));
+        }
+
+        double radLat = Math.toRadians(lat);
+        List<TouristSpotLocationRow> results = queryMetrics.record("nearest", TouristSpotQueryMetrics.SOURCE_SQL, true,
+                () -> touristSpotRepository.findNearest(
+                        Math.sin(radLat), Math.cos(radLat), Math.toRadians(lng), categoryFilter, k));
 
         return results.stream()
-                .map(this::convertToDto)
+                .map(TouristSpotService::convertToDto)
                 .collect(Collectors.toList());
     }
 
-    private TouristSpotLocationDto convertToDto(Object[] row) {
+    static TouristSpotLocationDto convertToDto(TouristSpotLocationRow row) {
         return TouristSpotLocationDto.builder()
-                .externalId((String) row[1])  // external_id
-                .name((String) row[2])        // name
-                .address((String) row[3])     // address
-                .latitude((BigDecimal) row[4]) // latitude
-                .longitude((BigDecimal) row[5]) // longitude
-                .description((String) row[6]) // description
-                .category((String) row[7])    // category
-                .tag((String) row[8])         // tag
-                .introduction((String) row[9]) // introduction
-                .imgPath((String) row[10])    // imgpath
-                .distance(((Number) row[14]).doubleValue()) // distance (calculated)
+                .externalId(row.getExternalId())
+                .name(row.getName())
+                .address(row.getAddress())
+                .latitude(row.getLatitude())
+                .longitude(row.getLongitude())
+                .description(row.getDescription())
+                .category(row.getCategory())
+                .tag(row.getTag())
+                .introduction(row.getIntroduction())
+                .imgPath(row.getImgPath())
+                .distance(row.getDistance()) // distance (calculated)
                 .build();
     }
 
     // 키워드 검색 (거리 포함)
-    public List<TouristSpotLocationDto> searchByKeyword(String keyword,
-                                                        BigDecimal userLatitude,
-                                                        BigDecimal userLongitude,
-                                                        int limit) {
+    public List<TouristSpotLocationDto> searchByKeyword(String keyword, GeoPoint userLocation, int limit) {
+        return searchByKeyword(keyword, userLocation, limit, null).items();
+    }
 
-        log.info("키워드 검색 (거리 포함) - keyword: '{}', userLat: {}, userLng: {}, limit: {}",
-                keyword, userLatitude, userLongitude, limit);
+    /**
+     * 키워드 검색 한 페이지
+     *
+     * @param after 이전 페이지 커서 (첫 페이지면 null)
+     */
+    public CursorPage<TouristSpotLocationDto> searchByKeyword(String keyword, GeoPoint userLocation, int limit,
+                                                              SpotCursor after) {
+        return searchByKeyword(keyword, userLocation, limit, after, SpotFilter.NONE);
+    }
+
+    /**
+     * 분류·태그 필터를 적용한 키워드 검색 한 페이지 (필터가 있으면 인메모리 인덱스 사용)
+     */
+    public CursorPage<TouristSpotLocationDto> searchByKeyword(String keyword, GeoPoint userLocation, int limit,
+                                                              SpotCursor after, SpotFilter filter) {
+
+        log.debug("키워드 검색 (거리 포함) - keyword: '{}', userLocation: {}, limit: {}, cursor: {}, filter: {}",
+                keyword, userLocation, limit, after, filter);
 
         // 키워드 유효성 검증
         if (keyword == null || keyword.trim().isEmpty()) {
             log.warn("검색 키워드가 비어있음");
-            return List.of();
+            return CursorPage.empty();
         }
 
         // 키워드 정리 (앞뒤 공백 제거)
         String cleanKeyword = keyword.trim();
 
-        List<Object[]> results;
+        if (!filter.isEmpty() && !touristSpotCatalog.isReady()) {
+            log.warn("관광지 인덱스가 아직 로딩되지 않아 필터 검색 결과 없음");
+            return CursorPage.empty();
+        }
+
+        boolean withLocation = userLocation != null;
+        if (useIndex(keywordIndexEnabled, filter, after)) {
+            return queryMetrics.recordPage("keyword", TouristSpotQueryMetrics.SOURCE_INDEX, withLocation,
+                    () -> touristSpotCatalog.snapshot().searchByKeyword(cleanKeyword, userLocation, limit, after,
+                            filter));
+        }
+
+        SpotCursor.requireSource(after, SpotCursor.Source.SQL);
+        List<TouristSpotLocationRow> results;
+        String afterName = after == null ? "" : after.name();
+        long afterId = after == null ? 0L : after.id();
 
         // 사용자 위치 정보가 있으면 거리 기준으로 정렬
-        if (userLatitude != null && userLongitude != null) {
-            results = touristSpotRepository.findByNameContainingWithDistance(
-                    cleanKeyword, userLatitude, userLongitude, limit);
-            log.info("키워드 '{}' 검색 결과 (거리순): {}개", cleanKeyword, results.size());
-        } else {
-            // 사용자 위치 정보가 없으면 이름 기준으로 정렬
-            results = touristSpotRepository.findByNameContaining(cleanKeyword, limit);
-            log.info("키워드 '{}' 검색 결과 (이름순): {}개", cleanKeyword, results.size());
+        if (withLocation) {
+            double radLat = Math.toRadians(userLocation.latitude());
+            results = queryMetrics.record("keyword", TouristSpotQueryMetrics.SOURCE_SQL, true,
+                    () -> touristSpotRepository.findByKeywordWithDistance(
+                            cleanKeyword, Math.sin(radLat), Math.cos(radLat),
+                            Math.toRadians(userLocation.longitude()), after == null ? 0 : after.tier(),
+                            after == null ? -1.0 : after.distance(), afterName, afterId, limit + 1));
+            log.debug("키워드 '{}' 검색 결과 (거리순): {}개", cleanKeyword, results.size());
+            return toPage(results, limit,
+                    row -> new SpotCursor(SpotCursor.Source.SQL, row.getMatchRank(), row.getDistance(),
+                            row.getName(), row.getId()));
         }
 
-        return results.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        // 사용자 위치 정보가 없으면 이름 기준으로 정렬
+        results = queryMetrics.record("keyword", TouristSpotQueryMetrics.SOURCE_SQL, false,
+                () -> touristSpotRepository.findByKeyword(
+                        cleanKeyword, after == null ? 0 : after.tier(), afterName, afterId, limit + 1));
+        log.debug("키워드 '{}' 검색 결과 (이름순): {}개", cleanKeyword, results.size());
+        return toPage(results, limit,
+                row -> new SpotCursor(SpotCursor.Source.SQL, row.getMatchRank(), 0.0, row.getName(), row.getId()));
+    }
+
+    // 인덱스 사용 여부 - 필터는 인덱스로만 처리하고, 그 밖에 이어 보는 페이지는 커서를 만든 쪽을 따른다
+    // (인덱스와 SQL 은 순서가 미세하게 다름). 맞지 않는 커서는 각 경로의 requireSource 에서 거절된다.
+    private boolean useIndex(boolean indexEnabled, SpotFilter filter, SpotCursor after) {
+        if (!touristSpotCatalog.isReady()) {
+            return false;
+        }
+        if (!filter.isEmpty()) {
+            return true;
+        }
+        if (after != null) {
+            return after.source() == SpotCursor.Source.INDEX;
+        }
+        return indexEnabled;
     }
 
     // 키워드 검색 (거리 정보 없는 버전) - 하위 호환성
     public List<TouristSpotLocationDto> searchByKeyword(String keyword, int limit) {
-        return searchByKeyword(keyword, null, null, limit);
+        return searchByKeyword(keyword, null, limit);
+    }
+
+    // limit + 1 개로 읽은 행 → 페이지 (초과분이 있으면 limit 번째 행이 다음 커서)
+    private static CursorPage<TouristSpotLocationDto> toPage(List<TouristSpotLocationRow> rows, int limit,
+                                                             Function<TouristSpotLocationRow, SpotCursor> cursorOf) {
+        int count = Math.min(limit, rows.size());
+        List<TouristSpotLocationDto> items = rows.subList(0, count).stream()
+                .map(TouristSpotService::convertToDto)
+                .collect(Collectors.toList());
+        String nextCursor = rows.size() > limit ? cursorOf.apply(rows.get(count - 1)).encode() : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    // 이름 자동완성 (인메모리 트라이)
+    public List<TouristSpotSuggestionDto> suggest(String prefix, int limit) {
+
+        log.debug("자동완성 조회 - prefix: '{}', limit: {}", prefix, limit);
+
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return List.of();
+        }
+
+        if (!touristSpotCatalog.isReady()) {
+            log.warn("관광지 인덱스가 아직 로딩되지 않아 자동완성 결과 없음");
+            return List.of();
+        }
+
+        return queryMetrics.record("suggest", TouristSpotQueryMetrics.SOURCE_INDEX, false,
+                () -> touristSpotCatalog.snapshot().suggest(prefix.trim(), limit));
     }
 
-    public Optional<TouristSpotDetailDto> findDetailByContentId(String contentId,
-                                                               BigDecimal userLatitude,
-                                                               BigDecimal userLongitude) {
+    /**
+     * 분류·태그별 개수 (인메모리 비트맵)
+     * 키워드가 있으면 키워드 검색 결과, 없으면 반경 내 관광지를 대상으로 센다.
+     *
+     * @param location 반경 기준 위치 (키워드가 없을 때 필수)
+     * @param limit    분류/태그별 최대 항목 수
+     */
+    public TouristSpotFacetsDto facets(String keyword, GeoPoint location, double radius, SpotFilter filter,
+                                       int limit) {
 
-        log.info("contentId 기반 상세 정보 조회 - contentId: '{}'", contentId);
+        log.debug("패싯 조회 - keyword: '{}', location: {}, radius: {}km, filter: {}", keyword, location, radius, filter);
+
+        if (!touristSpotCatalog.isReady()) {
+            log.warn("관광지 인덱스가 아직 로딩되지 않아 패싯 결과 없음");
+            return TouristSpotFacetsDto.builder().total(0).categories(Map.of()).tags(Map.of()).build();
+        }
+
+        boolean byKeyword = keyword != null && !keyword.isBlank();
+        return queryMetrics.recordValue("facets", TouristSpotQueryMetrics.SOURCE_INDEX, !byKeyword,
+                TouristSpotFacetsDto::getTotal,
+                () -> byKeyword
+                        ? touristSpotCatalog.snapshot().keywordFacets(keyword.trim(), filter, limit)
+                        : touristSpotCatalog.snapshot().nearbyFacets(
+                        location.latitude(), location.longitude(), radius, filter, limit));
+    }
+
+    // 지도 화면 클러스터 (인메모리 타일 격자)
+    public List<TouristSpotClusterDto> findClusters(GeoBoundingBox box, int zoom) {
+
+        log.debug("클러스터 조회 - bbox: {}, zoom: {}", box, zoom);
+
+        if (!touristSpotCatalog.isReady()) {
+            log.warn("관광지 인덱스가 아직 로딩되지 않아 클러스터 결과 없음");
+            return List.of();
+        }
+
+        return queryMetrics.record("clusters", TouristSpotQueryMetrics.SOURCE_INDEX, false,
+                () -> touristSpotCatalog.snapshot().clusters(box, zoom));
+    }
+
+    public Optional<TouristSpotDetailDto> findDetailByContentId(String contentId, GeoPoint userLocation) {
+
+        log.debug("contentId 기반 상세 정보 조회 - contentId: '{}'", contentId);
 
         if (contentId == null || contentId.trim().isEmpty()) {
             log.warn("contentId가 비어있음");
             return Optional.empty();
         }
 
-        List<Object[]> results = touristSpotRepository.findDetailByContentId(
-                contentId.trim(), userLatitude, userLongitude);
+        String id = contentId.trim();
+        Optional<TouristSpotDetailDto> detail = detailCache.isEnabled()
+                ? findDetailCached(id, userLocation)
+                : findDetailFromDb(id, userLocation);
 
-        if (results.isEmpty()) {
+        if (detail.isEmpty()) {
             log.warn("contentId '{}' 에 해당하는 데이터가 없음", contentId);
             return Optional.empty();
         }
 
-        Object[] row = results.get(0);
-
-        try {
-            log.info("Row 길이: {}", row.length);
-            for (int i = 0; i < row.length; i++) {
-                log.info("Index {}: {} ({})", i, row[i],
-                        row[i] != null ? row[i].getClass().getSimpleName() : "null");
-            }
-
-            TouristSpotDetailDto detail = TouristSpotDetailDto.builder()
-                    .imgPath(safeToString(row[0]))    // imgpath
-                    .audioUrl(safeToString(row[1]))   // audioUrl
-                    .script(safeToString(row[2]))     // script
-                    .name(safeToString(row[3]))
-                    .external_id(safeToString(row[4])) // externalId;
-                    .address(safeToString(row[5]))    // address
-                    .latitude((BigDecimal) row[6])    // latitude
-                    .longitude((BigDecimal) row[7])   // longitude
-                    .description(safeToString(row[8])) // description
-                    .category(safeToString(row[9]))   // category
-                    .tag(safeToString(row[10]))        // tag
-                    .introduction(safeToString(row[11])) // introduction
-                    .distance(((Number) row[12]).doubleValue()) // distance
-                    .build();
-
-            log.info("contentId '{}' 상세 정보 조회 완료", contentId);
-            return Optional.of(detail);
-
-        } catch (Exception e) {
-            log.error("DTO 변환 중 오류 발생: {}", e.getMessage());
-            log.error("Row 데이터: {}", java.util.Arrays.toString(row));
-            return Optional.empty();
+        log.debug("contentId '{}' 상세 정보 조회 완료", contentId);
+        return detail;
+    }
+
+    // near-cache 에는 위치와 무관한 부분만 두고 거리는 캐시된 좌표로 계산 (SQL 과 같은 구면 코사인 식)
+    private Optional<TouristSpotDetailDto> findDetailCached(String contentId, GeoPoint userLocation) {
+        return detailCache.get(contentId, key -> queryMetrics.recordOptional("detail",
+                        TouristSpotQueryMetrics.SOURCE_SQL, false,
+                        () -> touristSpotRepository.findDetailByContentId(key, null, null, null))
+                        .map(this::toDetailEntry))
+                .map(entry -> entry.toDto(userLocation == null ? 0.0 : GeoUtils.distanceKm(
+                        userLocation.latitude(), userLocation.longitude(), entry.latitude(), entry.longitude())));
+    }
+
+    private Optional<TouristSpotDetailDto> findDetailFromDb(String contentId, GeoPoint userLocation) {
+        boolean withLocation = userLocation != null;
+        double radLat = withLocation ? Math.toRadians(userLocation.latitude()) : 0.0;
+        Double sinLat = withLocation ? Math.sin(radLat) : null;
+        Double cosLat = withLocation ? Math.cos(radLat) : null;
+        Double radLng = withLocation ? Math.toRadians(userLocation.longitude()) : null;
+
+        return queryMetrics.recordOptional("detail", TouristSpotQueryMetrics.SOURCE_SQL, withLocation,
+                        () -> touristSpotRepository.findDetailByContentId(contentId, sinLat, cosLat, radLng))
+                .map(row -> toDetailEntry(row).toDto(row.getDistance()));
+    }
+
+    private TouristSpotDetailCache.Entry toDetailEntry(TouristSpotDetailRow row) {
+        if (dumpDetailRow) {
+            logDetailRow(row);
         }
+        return TouristSpotDetailCache.Entry.from(row);
     }
 
-    private String safeToString(Object obj) {
-        return obj != null ? obj.toString() : null;
+    // 디버그용 전체 컬럼 출력 (script/introduction 이 커서 운영에서는 끈다)
+    private void logDetailRow(TouristSpotDetailRow row) {
+        log.info("imgPath: {}", row.getImgPath());
+        log.info("audioUrl: {}", row.getAudioUrl());
+        log.info("script: {}", row.getScript());
+        log.info("name: {}", row.getName());
+        log.info("externalId: {}", row.getExternalId());
+        log.info("address: {}", row.getAddress());
+        log.info("latitude: {}", row.getLatitude());
+        log.info("longitude: {}", row.getLongitude());
+        log.info("description: {}", row.getDescription());
+        log.info("category: {}", row.getCategory());
+        log.info("tag: {}", row.getTag());
+        log.info("introduction: {}", row.getIntroduction());
+        log.info("distance: {}", row.getDistance());
     }
 }
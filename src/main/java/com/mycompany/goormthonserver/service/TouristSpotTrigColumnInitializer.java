@@ -0,0 +1,32 @@
+package com.mycompany.goormthonserver.service;
+
+import com.mycompany.goormthonserver.repository.TouristSpotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 lat_sin / lat_cos / lng_rad 가 비어 있는 행을 채운다
+ * (컬럼 추가 이전 데이터나 JPA를 거치지 않고 들어온 행)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TouristSpotTrigColumnInitializer {
+
+    private final TouristSpotRepository touristSpotRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int updated = touristSpotRepository.backfillTrigColumns();
+            if (updated > 0) {
+                log.info("📐 거리 계산 컬럼 보정 완료: {}개", updated);
+            }
+        } catch (Exception e) {
+            log.error("❌ 거리 계산 컬럼 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
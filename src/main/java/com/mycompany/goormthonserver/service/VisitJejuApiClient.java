@@ -1,20 +1,36 @@
 package com.mycompany.goormthonserver.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.goormthonserver.common.resilience.AdaptiveTimeout;
+import com.mycompany.goormthonserver.common.resilience.CallNotPermittedException;
+import com.mycompany.goormthonserver.common.resilience.CircuitBreaker;
+import com.mycompany.goormthonserver.common.resilience.ResilienceGuard;
+import com.mycompany.goormthonserver.common.resilience.RetryBudget;
+import com.mycompany.goormthonserver.common.util.SingleFlight;
 import com.mycompany.goormthonserver.dto.VisitJejuResponseDto;
 import com.mycompany.goormthonserver.dto.visitjeju.VisitJejuApiResponse;
 import com.mycompany.goormthonserver.dto.visitjeju.VisitJejuItem;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 비짓제주 API 클라이언트
@@ -25,8 +41,10 @@ import java.util.Optional;
 @Slf4j
 public class VisitJejuApiClient {
 
-    private final WebClient webClient;
+    @Qualifier("visitJejuWebClient")
+    private final WebClient visitJejuWebClient;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Value("${JEJU_VISIT_API_URL:}")
     private String apiBaseUrl;
@@ -37,118 +55,265 @@ public class VisitJejuApiClient {
     @Value("${external-api.jeju-visit.timeout:10000}")
     private int timeoutMs;
 
+    // 장애 대응 (회로 차단기 / 재시도 예산 / 적응형 시간 제한)
+    @Value("${external-api.jeju-visit.resilience.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${external-api.jeju-visit.resilience.window-size:20}")
+    private int windowSize;
+
+    @Value("${external-api.jeju-visit.resilience.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${external-api.jeju-visit.resilience.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${external-api.jeju-visit.resilience.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    @Value("${external-api.jeju-visit.resilience.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${external-api.jeju-visit.resilience.retry-backoff-ms:100}")
+    private long retryBackoffMs;
+
+    @Value("${external-api.jeju-visit.resilience.retry-budget-ratio:0.1}")
+    private double retryBudgetRatio;
+
+    @Value("${external-api.jeju-visit.resilience.min-timeout-ms:500}")
+    private long minTimeoutMs;
+
+    @Value("${external-api.jeju-visit.resilience.timeout-multiplier:2.0}")
+    private double timeoutMultiplier;
+
+    private ResilienceGuard resilience;
+
+    // visitjeju.api.requests 타이머 (operation|outcome 별)
+    private final Map<String, Timer> apiTimers = new ConcurrentHashMap<>();
+
+    // 진행 중인 동일 요청 합치기 (contentsId / 검색어+페이지 기준)
+    private final SingleFlight<String, VisitJejuResponseDto> contentFlights = new SingleFlight<>();
+    private final SingleFlight<String, List<VisitJejuResponseDto>> searchFlights = new SingleFlight<>();
+
+    @PostConstruct
+    void initResilience() {
+        resilience = new ResilienceGuard(
+                new CircuitBreaker("visitjeju", failureRateThreshold, windowSize, minimumCalls,
+                        Duration.ofMillis(openDurationMs), halfOpenCalls),
+                new RetryBudget(retryBudgetRatio, 10),
+                new AdaptiveTimeout(Duration.ofMillis(minTimeoutMs), Duration.ofMillis(timeoutMs),
+                        timeoutMultiplier, 200, 20),
+                maxRetries, Duration.ofMillis(retryBackoffMs), 0.5);
+    }
+
     /**
-     * 콘텐츠 ID로 관광지 정보 조회
+     * 콘텐츠 ID로 관광지 정보 조회 (블로킹)
+     * 기존 동기 호출부용 - 새 코드는 {@link #getContentByIdAsync(String)} 사용
      */
     public Optional<VisitJejuResponseDto> getContentById(String contentsId) {
-        try {
-            log.info("🌐 비짓제주 API 호출 시작: {}", contentsId);
-            long startTime = System.currentTimeMillis();
-
-            // 완전한 URL 구성
-            String fullUrl = apiBaseUrl + "/vsjApi/contents/searchList";
+        return getContentByIdAsync(contentsId)
+                .onErrorResume(e -> Mono.empty())
+                .blockOptional();
+    }
 
-            // API 호출
-            VisitJejuApiResponse response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("http")
-                            .host("api.visitjeju.net")
-                            .path("/vsjApi/contents/searchList")
-                            .queryParam("apiKey", apiKey)
-                            .queryParam("locale", "kr")
-                            .queryParam("page", 1)
-                            .queryParam("cid", contentsId)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(VisitJejuApiResponse.class)
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .doOnError(error -> log.error("❌ 비짓제주 API 호출 중 오류: {}", error.getMessage()))
-                    .onErrorResume(WebClientResponseException.class, ex -> {
-                        log.error("❌ 비짓제주 API HTTP 오류: {} - {}", ex.getStatusCode(), ex.getMessage());
-                        log.error("❌ 응답 본문: {}", ex.getResponseBodyAsString());
-                        return Mono.empty();
-                    })
-                    .block();
-
-            long responseTime = System.currentTimeMillis() - startTime;
-
-            if (response != null && "200".equals(response.getResult()) &&
-                    response.getItems() != null && !response.getItems().isEmpty()) {
-
-                // 첫 번째 아이템 변환
-                VisitJejuItem item = response.getItems().get(0);
-                VisitJejuResponseDto dto = convertToDto(item);
-                dto.setSource(VisitJejuResponseDto.CacheSource.API);
-                dto.setResponseTime(responseTime);
-
-                log.info("✅ 비짓제주 API 응답 성공: {} ({}ms)", contentsId, responseTime);
-                return Optional.of(dto);
-            }
+    /**
+     * 콘텐츠 ID로 관광지 정보 조회 (논블로킹)
+     * 같은 contentsId 로 동시에 들어온 요청은 하나의 API 호출을 공유한다.
+     * 콘텐츠가 없으면(결과 없음, 404) 빈 Mono, 호출 실패(시간 초과, 연결 오류, 차단, 그 밖의 HTTP 오류)는
+     * 오류로 끝나므로 호출 측에서 "없음"과 "실패"를 구분할 수 있다.
+     */
+    public Mono<VisitJejuResponseDto> getContentByIdAsync(String contentsId) {
+        return contentFlights.execute(contentsId, () -> fetchContent(contentsId))
+                .map(dto -> dto.toBuilder().build())  // 공유 결과라 호출자별로 복사
+                .doOnError(e -> logFailure("❌ 비짓제주 API 호출 실패: " + contentsId, e));
+    }
 
-            log.warn("⚠️ 비짓제주 API 응답 없음: {} ({}ms)", contentsId, responseTime);
-            return Optional.empty();
+    private Mono<VisitJejuResponseDto> fetchContent(String contentsId) {
+        return Mono.defer(() -> {
+            log.info("🌐 비짓제주 API 호출 시작: {}", contentsId);
+            long startTime = System.currentTimeMillis();
 
-        } catch (Exception e) {
-            log.error("❌ 비짓제주 API 호출 실패: {} - {}", contentsId, e.getMessage(), e);
-            return Optional.empty();
-        }
+            // API 호출 (회로 차단 / 재시도 / 적응형 시간 제한 적용)
+            return timed("content", resilience.execute(() -> visitJejuWebClient.get()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path("/vsjApi/contents/searchList")
+                                    .queryParam("apiKey", apiKey)
+                                    .queryParam("locale", "kr")
+                                    .queryParam("page", 1)
+                                    .queryParam("cid", contentsId)
+                                    .build())
+                            .retrieve()
+                            .bodyToMono(VisitJejuApiResponse.class), this::isTransient))
+                    .doOnError(WebClientResponseException.class, ex ->
+                            log.error("❌ 비짓제주 API HTTP 오류: {} - 응답 본문: {}",
+                                    ex.getStatusCode(), ex.getResponseBodyAsString()))
+                    // 404 는 없는 콘텐츠 (실패가 아님)
+                    .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty())
+                    .filter(this::hasItems)
+                    // 첫 번째 아이템 변환
+                    .map(response -> convertToDto(response.getItems().get(0)))
+                    .doOnSuccess(dto -> {
+                        long responseTime = System.currentTimeMillis() - startTime;
+                        if (dto != null) {
+                            dto.setSource(VisitJejuResponseDto.CacheSource.API);
+                            dto.setResponseTime(responseTime);
+                            log.info("✅ 비짓제주 API 응답 성공: {} ({}ms)", contentsId, responseTime);
+                        } else {
+                            log.warn("⚠️ 비짓제주 API 응답 없음: {} ({}ms)", contentsId, responseTime);
+                        }
+                    });
+        });
     }
 
     /**
-     * 검색어로 관광지 목록 조회
+     * 검색어로 관광지 목록 조회 (블로킹)
      */
     public List<VisitJejuResponseDto> searchContents(String keyword, int page, int size) {
-        try {
+        List<VisitJejuResponseDto> results = searchContentsAsync(keyword, page, size).collectList().block();
+        return results == null ? List.of() : results;
+    }
+
+    /**
+     * 검색어로 관광지 목록 조회 (논블로킹)
+     * 같은 (검색어, 페이지, 크기) 요청은 하나의 API 호출을 공유한다
+     */
+    public Flux<VisitJejuResponseDto> searchContentsAsync(String keyword, int page, int size) {
+        return searchFlights.execute(keyword + "|" + page + "|" + size, () -> fetchSearch(keyword, page, size))
+                .flatMapIterable(results -> results)
+                .map(dto -> dto.toBuilder().build())  // 공유 결과라 호출자별로 복사
+                .onErrorResume(e -> {
+                    logFailure("❌ 비짓제주 API 검색 실패: " + keyword, e);
+                    return Flux.empty();
+                });
+    }
+
+    private Mono<List<VisitJejuResponseDto>> fetchSearch(String keyword, int page, int size) {
+        return Mono.defer(() -> {
             log.info("🔍 비짓제주 API 검색: {} (페이지: {})", keyword, page);
 
-            VisitJejuApiResponse response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("http")
-                            .host("api.visitjeju.net")
-                            .path("/vsjApi/contents/searchList")
-                            .queryParam("apiKey", apiKey)
-                            .queryParam("locale", "kr")
-                            .queryParam("page", page)
-                            .queryParam("pageSize", size)
-                            .queryParam("q", keyword)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(VisitJejuApiResponse.class)
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .block();
+            return timed("search", resilience.execute(() -> visitJejuWebClient.get()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path("/vsjApi/contents/searchList")
+                                    .queryParam("apiKey", apiKey)
+                                    .queryParam("locale", "kr")
+                                    .queryParam("page", page)
+                                    .queryParam("pageSize", size)
+                                    .queryParam("q", keyword)
+                                    .build())
+                            .retrieve()
+                            .bodyToMono(VisitJejuApiResponse.class), this::isTransient))
+                    .map(response -> {
+                        if (!hasItems(response)) {
+                            log.warn("⚠️ 비짓제주 API 검색 결과 없음: {}", keyword);
+                            return List.<VisitJejuResponseDto>of();
+                        }
+
+                        List<VisitJejuResponseDto> results = response.getItems().stream()
+                                .map(VisitJejuApiClient::convertToDto)
+                                .peek(dto -> dto.setSource(VisitJejuResponseDto.CacheSource.API))
+                                .toList();
+
+                        log.info("✅ 비짓제주 API 검색 성공: {} ({}개)", keyword, results.size());
+                        return results;
+                    });
+        });
+    }
 
-            if (response != null && "200".equals(response.getResult()) &&
-                    response.getItems() != null && !response.getItems().isEmpty()) {
+    /**
+     * 분류별 전체 목록 한 페이지 (동기화용, 원본 응답 그대로)
+     * 오류를 삼키지 않고 전달하므로 호출 측에서 중단/재개를 판단한다.
+     *
+     * @param category 비짓제주 콘텐츠 분류 (c1: 관광지, c2: 쇼핑, c3: 숙박, c4: 음식점 ...)
+     */
+    public Mono<VisitJejuApiResponse> fetchCataloguePageAsync(String category, int page, int size) {
+        return timed("catalogue", resilience.execute(() -> visitJejuWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/vsjApi/contents/searchList")
+                        .queryParam("apiKey", apiKey)
+                        .queryParam("locale", "kr")
+                        .queryParam("category", category)
+                        .queryParam("page", page)
+                        .queryParam("pageSize", size)
+                        .build())
+                .retrieve()
+                .bodyToMono(VisitJejuApiResponse.class), this::isTransient));
+    }
 
-                List<VisitJejuResponseDto> results = response.getItems().stream()
-                        .map(this::convertToDto)
-                        .peek(dto -> dto.setSource(VisitJejuResponseDto.CacheSource.API))
-                        .toList();
+    /**
+     * 상류 호출 지연 시간을 결과별로 기록 (재시도 포함 전체 시간)
+     */
+    private <T> Mono<T> timed(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            return call
+                    .doOnSuccess(value -> recordApi(operation, value != null ? "success" : "empty", startTime))
+                    .doOnError(e -> recordApi(operation, outcomeOf(e), startTime));
+        });
+    }
 
-                log.info("✅ 비짓제주 API 검색 성공: {} ({}개)", keyword, results.size());
-                return results;
-            }
+    private void recordApi(String operation, String outcome, long startTime) {
+        apiTimers.computeIfAbsent(operation + '|' + outcome, key -> Timer.builder("visitjeju.api.requests")
+                        .description("비짓제주 API 호출 지연 시간")
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    private String outcomeOf(Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            return "rejected";
+        }
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (e instanceof WebClientResponseException ex) {
+            return ex.getStatusCode().is5xxServerError() ? "server_error" : "client_error";
+        }
+        return "error";
+    }
 
-            log.warn("⚠️ 비짓제주 API 검색 결과 없음: {}", keyword);
-            return List.of();
+    /**
+     * 일시적 장애 여부 (시간 초과, 연결 오류, 5xx/429) - 회로 차단기 집계 및 재시도 대상
+     */
+    private boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException ex) {
+            return ex.getStatusCode().is5xxServerError() || ex.getStatusCode().value() == 429;
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
 
-        } catch (Exception e) {
-            log.error("❌ 비짓제주 API 검색 실패: {} - {}", keyword, e.getMessage(), e);
-            return List.of();
+    private void logFailure(String message, Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            // 차단 중에는 스택 없이 짧게
+            log.warn("{} - {}", message, e.getMessage());
+        } else {
+            log.error("{} - {}", message, e.getMessage(), e);
         }
     }
 
+    private boolean hasItems(VisitJejuApiResponse response) {
+        return response != null && "200".equals(response.getResult()) &&
+                response.getItems() != null && !response.getItems().isEmpty();
+    }
+
     /**
-     * API 연결 테스트
+     * API 연결 테스트 (블로킹)
      */
     public boolean testConnection() {
-        try {
+        return Boolean.TRUE.equals(testConnectionAsync().block());
+    }
+
+    /**
+     * API 연결 테스트 (논블로킹)
+     */
+    public Mono<Boolean> testConnectionAsync() {
+        return Mono.defer(() -> {
             log.info("🔗 비짓제주 API 연결 테스트...");
 
-            String response = webClient.get()
+            return timed("connection", resilience.execute(() -> visitJejuWebClient.get()
                     .uri(uriBuilder -> uriBuilder
-                            .scheme("http")
-                            .host("api.visitjeju.net")
                             .path("/vsjApi/contents/searchList")
                             .queryParam("apiKey", apiKey)
                             .queryParam("locale", "kr")
@@ -156,73 +321,92 @@ public class VisitJejuApiClient {
                             .queryParam("pageSize", 1)
                             .build())
                     .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .block();
-
-            boolean isConnected = response != null && response.contains("\"result\"");
-
-            if (isConnected) {
-                log.info("✅ 비짓제주 API 연결 성공");
-                log.debug("📄 응답 내용: {}", response);
-            } else {
-                log.warn("⚠️ 비짓제주 API 연결 실패 - 응답 없음");
-            }
-
-            return isConnected;
-
-        } catch (Exception e) {
-            log.error("❌ 비짓제주 API 연결 테스트 실패: {}", e.getMessage(), e);
-            return false;
-        }
+                    .bodyToMono(String.class), this::isTransient));
+        })
+                .map(response -> {
+                    boolean isConnected = response.contains("\"result\"");
+                    if (isConnected) {
+                        log.info("✅ 비짓제주 API 연결 성공");
+                        log.debug("📄 응답 내용: {}", response);
+                    } else {
+                        log.warn("⚠️ 비짓제주 API 연결 실패 - 응답 없음");
+                    }
+                    return isConnected;
+                })
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> {
+                    logFailure("❌ 비짓제주 API 연결 테스트 실패", e);
+                    return Mono.just(false);
+                });
     }
 
     /**
      * API 키 유효성 검사
      */
     public boolean validateApiKey() {
-        if (apiKey == null || apiKey.trim().isEmpty() || "your_key_here".equals(apiKey)) {
+        return Boolean.TRUE.equals(validateApiKeyAsync().block());
+    }
+
+    public Mono<Boolean> validateApiKeyAsync() {
+        if (!hasValidApiKey()) {
             log.warn("⚠️ 비짓제주 API 키가 설정되지 않았습니다. 현재 값: {}",
                     apiKey == null ? "null" : apiKey.length() > 0 ? "****" : "empty");
-            return false;
+            return Mono.just(false);
         }
         log.info("✅ API 키 설정 확인: {}****", apiKey.substring(0, Math.min(4, apiKey.length())));
-        return testConnection();
+        return testConnectionAsync();
     }
 
     /**
      * API 상태 정보 조회
      */
     public ApiStatus getApiStatus() {
-        try {
-            boolean hasValidKey = apiKey != null && !apiKey.trim().isEmpty() && !"your_key_here".equals(apiKey);
-            boolean connected = hasValidKey && testConnection();
-
-            return ApiStatus.builder()
-                    .connected(connected)
-                    .baseUrl(apiBaseUrl)
-                    .hasApiKey(hasValidKey)
-                    .timeout(timeoutMs)
-                    .status(connected ? "UP" : "DOWN")
-                    .apiKeyMasked(hasValidKey ? apiKey.substring(0, Math.min(4, apiKey.length())) + "****" : "NOT_SET")
-                    .build();
-        } catch (Exception e) {
-            return ApiStatus.builder()
-                    .connected(false)
-                    .baseUrl(apiBaseUrl)
-                    .hasApiKey(false)
-                    .timeout(timeoutMs)
-                    .status("ERROR")
-                    .error(e.getMessage())
-                    .apiKeyMasked("ERROR")
-                    .build();
-        }
+        return getApiStatusAsync().block();
+    }
+
+    public Mono<ApiStatus> getApiStatusAsync() {
+        boolean hasValidKey = hasValidApiKey();
+        Mono<Boolean> connected = hasValidKey ? testConnectionAsync() : Mono.just(false);
+
+        return connected
+                .map(isConnected -> ApiStatus.builder()
+                        .connected(isConnected)
+                        .baseUrl(apiBaseUrl)
+                        .hasApiKey(hasValidKey)
+                        .timeout(timeoutMs)
+                        .status(isConnected ? "UP" : "DOWN")
+                        .apiKeyMasked(hasValidKey ? apiKey.substring(0, Math.min(4, apiKey.length())) + "****" : "NOT_SET")
+                        .inFlightRequests(contentFlights.inFlightCount() + searchFlights.inFlightCount())
+                        .coalescedRequests(contentFlights.sharedCallCount() + searchFlights.sharedCallCount())
+                        .circuitState(resilience.getCircuitBreaker().getState().name())
+                        .failureRate(resilience.getCircuitBreaker().failureRate())
+                        .adaptiveTimeoutMs(resilience.getTimeout().currentMillis())
+                        .observedP99Ms(resilience.getTimeout().p99Millis())
+                        .retryTokens(resilience.getRetryBudget().availableTokens())
+                        .build())
+                .onErrorResume(e -> Mono.just(ApiStatus.builder()
+                        .connected(false)
+                        .baseUrl(apiBaseUrl)
+                        .hasApiKey(false)
+                        .timeout(timeoutMs)
+                        .status("ERROR")
+                        .error(e.getMessage())
+                        .apiKeyMasked("ERROR")
+                        .circuitState(resilience.getCircuitBreaker().getState().name())
+                        .build()));
+    }
+
+    /**
+     * API 키가 설정되어 있는지 (placeholder 값 제외, 호출 없이 설정만 확인)
+     */
+    public boolean hasValidApiKey() {
+        return apiKey != null && !apiKey.trim().isEmpty() && !"your_key_here".equals(apiKey);
     }
 
     /**
      * API 응답을 DTO로 변환
      */
-    private VisitJejuResponseDto convertToDto(VisitJejuItem item) {
+    static VisitJejuResponseDto convertToDto(VisitJejuItem item) {
         // 사진 정보 추출
         Long photoId = null;
         String imgPath = null;
@@ -279,5 +463,12 @@ public class VisitJejuApiClient {
         private String status;
         private String error;
         private String apiKeyMasked;
+        private int inFlightRequests;    // 진행 중인 API 호출 수
+        private long coalescedRequests;  // 진행 중인 호출에 합류해 생략된 누적 호출 수
+        private String circuitState;     // CLOSED / OPEN / HALF_OPEN
+        private double failureRate;      // 최근 호출 실패율
+        private long adaptiveTimeoutMs;  // 현재 적용 중인 시간 제한
+        private long observedP99Ms;      // 최근 성공 호출 p99 (표본 없으면 -1)
+        private double retryTokens;      // 남은 재시도 예산
     }
 }
\ No newline at end of file
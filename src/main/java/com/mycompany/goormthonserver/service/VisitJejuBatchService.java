@@ -0,0 +1,100 @@
+package com.mycompany.goormthonserver.service;
+
+import com.mycompany.goormthonserver.dto.VisitJejuBatchResponseDto;
+import com.mycompany.goormthonserver.dto.VisitJejuResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비짓제주 콘텐츠 일괄 조회
+ * 콘텐츠 ID마다 계층형 캐시 조회를 동시에 최대 concurrency 개까지 실행하고,
+ * 항목별 시간 제한을 넘기거나 실패한 ID는 따로 모아 부분 결과를 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VisitJejuBatchService {
+
+    private final VisitJejuCacheService visitJejuCacheService;
+
+    @Value("${external-api.jeju-visit.batch.concurrency:8}")
+    private int concurrency;
+
+    @Value("${external-api.jeju-visit.batch.item-timeout-ms:3000}")
+    private long itemTimeoutMs;
+
+    @Value("${external-api.jeju-visit.batch.max-size:50}")
+    private int maxSize;
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public Mono<VisitJejuBatchResponseDto> getContents(List<String> contentsIds) {
+        long startTime = System.currentTimeMillis();
+        List<String> ids = contentsIds.stream()
+                .filter(id -> id != null && !id.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+
+        return Flux.fromIterable(ids)
+                .flatMap(this::fetch, concurrency)
+                .collectList()
+                .map(outcomes -> {
+                    Map<String, Outcome> byId = new HashMap<>();
+                    outcomes.forEach(outcome -> byId.put(outcome.contentsId(), outcome));
+
+                    // 요청 순서대로 정리
+                    Map<String, VisitJejuResponseDto> results = new LinkedHashMap<>();
+                    List<String> notFound = new ArrayList<>();
+                    List<String> failed = new ArrayList<>();
+                    for (String id : ids) {
+                        Outcome outcome = byId.get(id);
+                        if (outcome.data() != null) {
+                            results.put(id, outcome.data());
+                        } else if (outcome.failed()) {
+                            failed.add(id);
+                        } else {
+                            notFound.add(id);
+                        }
+                    }
+
+                    long elapsed = System.currentTimeMillis() - startTime;
+                    log.info("📦 비짓제주 일괄 조회: 요청 {}개, 성공 {}개, 없음 {}개, 실패 {}개 ({}ms)",
+                            ids.size(), results.size(), notFound.size(), failed.size(), elapsed);
+
+                    return VisitJejuBatchResponseDto.builder()
+                            .results(results)
+                            .notFound(notFound)
+                            .failed(failed)
+                            .elapsedMs(elapsed)
+                            .build();
+                });
+    }
+
+    private Mono<Outcome> fetch(String contentsId) {
+        return visitJejuCacheService.getContentAsync(contentsId)
+                .timeout(Duration.ofMillis(itemTimeoutMs))
+                .map(dto -> new Outcome(contentsId, dto, false))
+                .defaultIfEmpty(new Outcome(contentsId, null, false))
+                .onErrorResume(e -> {
+                    log.warn("⚠️ 비짓제주 일괄 조회 항목 실패: {} - {}", contentsId, e.toString());
+                    return Mono.just(new Outcome(contentsId, null, true));
+                });
+    }
+
+    private record Outcome(String contentsId, VisitJejuResponseDto data, boolean failed) {
+    }
+}
@@ -0,0 +1,265 @@
+package com.mycompany.goormthonserver.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.goormthonserver.dto.VisitJejuResponseDto;
+import com.mycompany.goormthonserver.dto.VisitJejuResponseDto.CacheSource;
+import com.mycompany.goormthonserver.entity.VisitJejuCache;
+import com.mycompany.goormthonserver.repository.TouristSpotRepository;
+import com.mycompany.goormthonserver.repository.VisitJejuCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비짓제주 콘텐츠 계층형 조회
+ * Redis → MySQL(visitjeju_cache) → 비짓제주 API 순으로 조회하고,
+ * 상위 계층에서 찾으면 하위 계층(Redis, MySQL)에 다시 기록한다.
+ * API 가 실패하거나 회로 차단 중이면 만료된 MySQL 캐시라도 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VisitJejuCacheService {
+
+    private static final String REDIS_KEY_PREFIX = "visitjeju:content:";
+
+    private final VisitJejuApiClient visitJejuApiClient;
+    private final VisitJejuCacheRepository visitJejuCacheRepository;
+    private final TouristSpotRepository touristSpotRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${external-api.jeju-visit.cache.redis-ttl-seconds:86400}")
+    private long redisTtlSeconds;
+
+    @Value("${external-api.jeju-visit.cache.mysql-ttl-hours:24}")
+    private long mysqlTtlHours;
+
+    private final Map<CacheSource, Counter> hitCounters = new EnumMap<>(CacheSource.class);
+    private final Map<CacheSource, Counter> missCounters = new EnumMap<>(CacheSource.class);
+    private Counter staleCounter;
+
+    @PostConstruct
+    void registerCounters() {
+        for (CacheSource source : CacheSource.values()) {
+            hitCounters.put(source, counter(source, "hit"));
+            missCounters.put(source, counter(source, "miss"));
+        }
+        staleCounter = counter(CacheSource.MYSQL, "stale");
+        for (CacheSource source : CacheSource.values()) {
+            Gauge.builder("visitjeju.cache.hit.ratio", () -> hitRatio(source))
+                    .description("비짓제주 계층별 캐시 적중률 (누적)")
+                    .tag("tier", source.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 콘텐츠 ID로 조회 (블로킹, source·responseTime 설정)
+     */
+    public Optional<VisitJejuResponseDto> getContent(String contentsId) {
+        return getContentAsync(contentsId).blockOptional();
+    }
+
+    /**
+     * 콘텐츠 ID로 조회 (논블로킹, source·responseTime 설정)
+     * Redis/MySQL 조회·저장은 블로킹 I/O 라 boundedElastic 에서 실행하고,
+     * API 호출은 WebClient 그대로 기다리지 않고 이어 붙인다.
+     * 만료된 MySQL 행은 API 호출이 실패했을 때만 쓴다 (API 가 "없음"이라고 답하면 쓰지 않음).
+     */
+    public Mono<VisitJejuResponseDto> getContentAsync(String contentsId) {
+        return Mono.defer(() -> {
+            // 구독 시점 기준 (합쳐진 요청·지연 구독도 실제 처리 시간으로 기록)
+            long startTime = System.currentTimeMillis();
+
+            return Mono.fromCallable(() -> lookupCache(contentsId))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(lookup -> lookup.hit() != null
+                            ? Mono.just(complete(lookup.hit(), lookup.source(), startTime))
+                            : fetchFromApi(contentsId, lookup.row(), startTime));
+        });
+    }
+
+    /**
+     * Redis → MySQL 조회 결과
+     *
+     * @param hit    캐시에서 찾은 콘텐츠 (없으면 null)
+     * @param source hit 의 계층
+     * @param row    MySQL 에서 읽은 행 (만료·비활성 포함, 없으면 null) - API 결과 저장과 실패 시 대체에 재사용
+     */
+    private record CacheLookup(VisitJejuResponseDto hit, CacheSource source, VisitJejuCache row) {
+    }
+
+    private CacheLookup lookupCache(String contentsId) {
+        Optional<VisitJejuResponseDto> fromRedis = readRedis(contentsId);
+        if (fromRedis.isPresent()) {
+            return new CacheLookup(fromRedis.get(), CacheSource.REDIS, null);
+        }
+        VisitJejuCache row = readMysqlRow(contentsId);
+        boolean fresh = row != null && Boolean.TRUE.equals(row.getIsActive()) && !row.isExpired(LocalDateTime.now());
+        record(CacheSource.MYSQL, fresh);
+        if (fresh) {
+            VisitJejuResponseDto dto = row.toDto();
+            writeRedis(contentsId, dto);
+            return new CacheLookup(dto, CacheSource.MYSQL, row);
+        }
+        return new CacheLookup(null, null, row);
+    }
+
+    private Mono<VisitJejuResponseDto> fetchFromApi(String contentsId, VisitJejuCache row, long startTime) {
+        return visitJejuApiClient.getContentByIdAsync(contentsId)
+                .doOnSuccess(dto -> record(CacheSource.API, dto != null))
+                .publishOn(Schedulers.boundedElastic())
+                .map(dto -> {
+                    writeMysql(contentsId, dto, row);
+                    writeRedis(contentsId, dto);
+                    return complete(dto, CacheSource.API, startTime);
+                })
+                .switchIfEmpty(Mono.fromRunnable(() ->
+                        log.warn("⚠️ 비짓제주 콘텐츠 없음 (전 계층 miss): {}", contentsId)))
+                // API 실패(회로 차단 포함) 시에만 만료된 MySQL 캐시라도 반환
+                .onErrorResume(e -> {
+                    record(CacheSource.API, false);
+                    return Mono.justOrEmpty(staleFallback(contentsId, row, startTime));
+                });
+    }
+
+    /**
+     * 계층별 hit/miss 누적 횟수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (CacheSource source : CacheSource.values()) {
+            Map<String, Object> tier = new LinkedHashMap<>();
+            tier.put("hit", (long) hitCounters.get(source).count());
+            tier.put("miss", (long) missCounters.get(source).count());
+            stats.put(source.name(), tier);
+        }
+        stats.put("staleFallback", (long) staleCounter.count());
+        return stats;
+    }
+
+    /**
+     * Redis 캐시 제거 (동기화로 원본이 바뀐 콘텐츠)
+     * MySQL 캐시는 동기화 트랜잭션에서 만료 처리하므로 여기서는 Redis 키만 지운다.
+     */
+    public void evict(Collection<String> contentsIds) {
+        if (contentsIds == null || contentsIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(contentsIds.stream().map(id -> REDIS_KEY_PREFIX + id).toList());
+        } catch (Exception e) {
+            // 삭제 실패 시 TTL 만료까지 이전 값이 남을 뿐이므로 동기화는 계속 진행
+            log.warn("⚠️ Redis 캐시 삭제 실패 ({}건): {}", contentsIds.size(), e.getMessage());
+        }
+    }
+
+    private Optional<VisitJejuResponseDto> readRedis(String contentsId) {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + contentsId);
+            record(CacheSource.REDIS, json != null);
+            return json == null ? Optional.empty()
+                    : Optional.of(objectMapper.readValue(json, VisitJejuResponseDto.class));
+        } catch (Exception e) {
+            // Redis 장애 시 다음 계층으로 진행
+            log.warn("⚠️ Redis 캐시 조회 실패: {} - {}", contentsId, e.getMessage());
+            record(CacheSource.REDIS, false);
+            return Optional.empty();
+        }
+    }
+
+    private void writeRedis(String contentsId, VisitJejuResponseDto dto) {
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + contentsId,
+                    objectMapper.writeValueAsString(dto), Duration.ofSeconds(redisTtlSeconds));
+        } catch (Exception e) {
+            log.warn("⚠️ Redis 캐시 저장 실패: {} - {}", contentsId, e.getMessage());
+        }
+    }
+
+    private VisitJejuCache readMysqlRow(String contentsId) {
+        try {
+            return visitJejuCacheRepository.findByExternalId(contentsId).orElse(null);
+        } catch (Exception e) {
+            log.warn("⚠️ MySQL 캐시 조회 실패: {} - {}", contentsId, e.getMessage());
+            return null;
+        }
+    }
+
+    private Optional<VisitJejuResponseDto> staleFallback(String contentsId, VisitJejuCache row, long startTime) {
+        if (row == null || !Boolean.TRUE.equals(row.getIsActive()) || row.getCachedAt() == null) {
+            log.warn("⚠️ 비짓제주 API 실패, 대체할 MySQL 캐시 없음: {}", contentsId);
+            return Optional.empty();
+        }
+        staleCounter.increment();
+        log.info("♻️ 비짓제주 API 대신 만료된 MySQL 캐시 사용: {}", contentsId);
+        return Optional.of(complete(row.toDto(), CacheSource.MYSQL, startTime));
+    }
+
+    /**
+     * @param row MySQL 계층에서 이미 읽은 행 (없으면 null → 새로 만든다)
+     */
+    private void writeMysql(String contentsId, VisitJejuResponseDto dto, VisitJejuCache row) {
+        try {
+            VisitJejuCache cache = row;
+            if (cache == null) {
+                // visitjeju_cache 는 tourist_spots 에 등록된 관광지만 보관 (FK)
+                Optional<Long> touristSpotId = touristSpotRepository.findIdByExternalId(contentsId);
+                if (touristSpotId.isEmpty()) {
+                    log.debug("tourist_spots 에 없는 콘텐츠라 MySQL 캐시 생략: {}", contentsId);
+                    return;
+                }
+                cache = VisitJejuCache.create(touristSpotId.get(), contentsId);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            cache.refresh(dto, now, now.plusHours(mysqlTtlHours));
+            visitJejuCacheRepository.save(cache);
+        } catch (Exception e) {
+            log.warn("⚠️ MySQL 캐시 저장 실패: {} - {}", contentsId, e.getMessage());
+        }
+    }
+
+    private VisitJejuResponseDto complete(VisitJejuResponseDto dto, CacheSource source, long startTime) {
+        dto.setSource(source);
+        dto.setResponseTime(System.currentTimeMillis() - startTime);
+        log.debug("비짓제주 콘텐츠 조회: {} ({}, {}ms)", dto.getContentsId(), source, dto.getResponseTime());
+        return dto;
+    }
+
+    private double hitRatio(CacheSource source) {
+        double hits = hitCounters.get(source).count();
+        double total = hits + missCounters.get(source).count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private void record(CacheSource source, boolean hit) {
+        (hit ? hitCounters : missCounters).get(source).increment();
+    }
+
+    private Counter counter(CacheSource source, String result) {
+        return Counter.builder("visitjeju.cache.requests")
+                .description("비짓제주 계층형 캐시 조회 결과")
+                .tag("tier", source.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mycompany.goormthonserver.sync;
+
+import com.mycompany.goormthonserver.dto.visitjeju.VisitJejuItem;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 동기화 대상 비짓제주 콘텐츠 (tourist_spots 에 반영하는 필드만)
+ *
+ * @param hash 반영 필드의 SHA-256 (tourist_spots.content_hash 와 비교)
+ */
+record VisitJejuContent(String externalId, String name, String address,
+                        BigDecimal latitude, BigDecimal longitude,
+                        String category, String tag, String imgPath, String hash) {
+
+    // tourist_spots.latitude / longitude 소수 자릿수
+    private static final int COORDINATE_SCALE = 8;
+    private static final int TAG_MAX_LENGTH = 200;
+    private static final char SEPARATOR = '\u001F';
+
+    /**
+     * 새로 추가되는 관광지의 설명 (CSV 가져오기와 같은 문구)
+     */
+    String defaultDescription() {
+        return name + "은(는) 제주도의 아름다운 관광지입니다.";
+    }
+
+    /**
+     * API 항목 → 동기화 대상 (ID/이름/좌표가 없으면 null)
+     */
+    static VisitJejuContent from(VisitJejuItem item) {
+        String externalId = trim(item.getContentsid());
+        String name = trim(item.getTitle());
+        if (externalId == null || name == null || item.getLatitude() == null || item.getLongitude() == null
+                || item.getLatitude() == 0 || item.getLongitude() == 0) {
+            return null;
+        }
+
+        String address = trim(item.getRoadaddress());
+        if (address == null) {
+            address = trim(item.getAddress());
+        }
+        String category = item.getContentscd() == null ? null : trim(item.getContentscd().getLabel());
+        String tag = trim(item.getTag());
+        if (tag == null) {
+            tag = trim(item.getAlltag());
+        }
+        if (tag != null && tag.length() > TAG_MAX_LENGTH) {
+            tag = tag.substring(0, TAG_MAX_LENGTH);
+        }
+        String imgPath = item.getRepPhoto() == null || item.getRepPhoto().getPhotoid() == null
+                ? null : trim(item.getRepPhoto().getPhotoid().getImgpath());
+
+        BigDecimal latitude = BigDecimal.valueOf(item.getLatitude()).setScale(COORDINATE_SCALE, RoundingMode.HALF_UP);
+        BigDecimal longitude = BigDecimal.valueOf(item.getLongitude()).setScale(COORDINATE_SCALE, RoundingMode.HALF_UP);
+        String hash = hash(name, address, latitude.toPlainString(), longitude.toPlainString(), category, tag, imgPath);
+        return new VisitJejuContent(externalId, name, address, latitude, longitude, category, tag, imgPath, hash);
+    }
+
+    private static String hash(String... fields) {
+        StringBuilder joined = new StringBuilder();
+        for (String field : fields) {
+            joined.append(field == null ? "" : field).append(SEPARATOR);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(joined.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String trim(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,164 @@
+package com.mycompany.goormthonserver.sync;
+
+import com.mycompany.goormthonserver.dto.visitjeju.VisitJejuApiResponse;
+import com.mycompany.goormthonserver.entity.VisitJejuSyncCheckpoint;
+import com.mycompany.goormthonserver.repository.VisitJejuSyncCheckpointRepository;
+import com.mycompany.goormthonserver.service.VisitJejuApiClient;
+import com.mycompany.goormthonserver.service.VisitJejuCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 비짓제주 → tourist_spots 증분 동기화
+ *
+ * 분류(category)별 전체 목록을 페이지 단위로 가져와 해시가 바뀐 관광지만 반영한다.
+ * 페이지는 최대 concurrency 개까지 동시에 받아오되 반영은 페이지 순서대로 하고,
+ * 반영이 끝날 때마다 체크포인트를 남겨 중단되면 다음 실행에서 이어서 진행한다.
+ * 기존 행을 지우지 않으므로 오디오/컬렉션 등 하위 데이터는 그대로 유지된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VisitJejuSyncJob {
+
+    private final VisitJejuApiClient visitJejuApiClient;
+    private final VisitJejuSyncWriter visitJejuSyncWriter;
+    private final VisitJejuSyncCheckpointRepository checkpointRepository;
+    private final VisitJejuCacheService visitJejuCacheService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${external-api.jeju-visit.sync.enabled:false}")
+    private boolean enabled;
+
+    @Value("${external-api.jeju-visit.sync.category:c1}")
+    private String category;
+
+    @Value("${external-api.jeju-visit.sync.page-size:100}")
+    private int pageSize;
+
+    @Value("${external-api.jeju-visit.sync.concurrency:4}")
+    private int concurrency;
+
+    @Value("${external-api.jeju-visit.sync.resume-window-hours:24}")
+    private long resumeWindowHours;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private record FetchedPage(int page, VisitJejuApiResponse response) {
+    }
+
+    @Scheduled(cron = "${external-api.jeju-visit.sync.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+        if (!visitJejuApiClient.hasValidApiKey()) {
+            log.warn("⚠️ 비짓제주 API 키가 없어 동기화를 건너뜁니다.");
+            return;
+        }
+        sync();
+    }
+
+    /**
+     * 동기화 실행 (이미 실행 중이면 false)
+     */
+    public boolean sync() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("⏭️ 비짓제주 동기화가 이미 진행 중입니다.");
+            return false;
+        }
+        try {
+            return syncCategory();
+        } catch (Exception e) {
+            // 체크포인트는 마지막으로 반영한 페이지에 남아 있으므로 다음 실행에서 이어서 진행
+            log.error("❌ 비짓제주 동기화 중단 ({}): {}", category, e.getMessage(), e);
+            return false;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean syncCategory() {
+        long startTime = System.currentTimeMillis();
+        String name = "catalogue:" + category;
+        VisitJejuSyncCheckpoint checkpoint = checkpointRepository.findById(name)
+                .orElseGet(() -> new VisitJejuSyncCheckpoint(name));
+        int firstPage = checkpoint.resumePage(LocalDateTime.now(), Duration.ofHours(resumeWindowHours));
+
+        VisitJejuApiResponse first = fetch(firstPage).block();
+        int pageCount = first == null || first.getPageCount() == null ? 0 : first.getPageCount();
+        if (pageCount == 0) {
+            log.warn("⚠️ 비짓제주 동기화 대상 없음 ({})", category);
+            return false;
+        }
+        if (firstPage > 1) {
+            log.info("🔁 비짓제주 동기화 이어서 진행 ({}): {}/{} 페이지부터", category, firstPage, pageCount);
+        } else {
+            log.info("🔄 비짓제주 동기화 시작 ({}): {} 페이지", category, pageCount);
+        }
+        checkpoint.start(firstPage, pageCount, LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+
+        applyPage(checkpoint, new FetchedPage(firstPage, first));
+        Iterable<FetchedPage> rest = Flux.range(firstPage + 1, Math.max(0, pageCount - firstPage))
+                .flatMapSequential(page -> fetch(page).map(response -> new FetchedPage(page, response)), concurrency)
+                .toIterable(concurrency);
+        for (FetchedPage page : rest) {
+            applyPage(checkpoint, page);
+        }
+
+        checkpoint.complete(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+        log.info("✅ 비짓제주 동기화 완료 ({}) - 추가: {}, 갱신: {} ({}ms)", category,
+                checkpoint.getCreatedCount(), checkpoint.getUpdatedCount(), System.currentTimeMillis() - startTime);
+        return true;
+    }
+
+    private Mono<VisitJejuApiResponse> fetch(int page) {
+        return visitJejuApiClient.fetchCataloguePageAsync(category, page, pageSize);
+    }
+
+    /**
+     * 한 페이지 반영 → 비짓제주 캐시(Redis) 무효화 → 체크포인트 저장
+     */
+    private void applyPage(VisitJejuSyncCheckpoint checkpoint, FetchedPage fetched) {
+        List<VisitJejuContent> contents = fetched.response().getItems() == null ? List.of()
+                : fetched.response().getItems().stream()
+                        .map(VisitJejuContent::from)
+                        .filter(Objects::nonNull)
+                        .toList();
+
+        VisitJejuSyncWriter.PageResult result = visitJejuSyncWriter.apply(contents);
+        visitJejuCacheService.evict(result.changedExternalIds());
+
+        rows("created").increment(result.created());
+        rows("updated").increment(result.updated());
+        rows("unchanged").increment(result.unchanged());
+
+        checkpoint.advance(fetched.page(), result.created(), result.updated(), LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+        log.debug("비짓제주 동기화 {}/{} 페이지 - 추가 {}, 갱신 {}, 변경 없음 {}", fetched.page(),
+                checkpoint.getPageCount(), result.created(), result.updated(), result.unchanged());
+    }
+
+    private Counter rows(String result) {
+        return Counter.builder("visitjeju.sync.rows")
+                .description("비짓제주 동기화 반영 결과")
+                .tag("category", category)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
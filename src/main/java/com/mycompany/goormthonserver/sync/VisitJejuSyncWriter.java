@@ -0,0 +1,101 @@
+package com.mycompany.goormthonserver.sync;
+
+import com.mycompany.goormthonserver.entity.TouristSpot;
+import com.mycompany.goormthonserver.repository.TouristSpotRepository;
+import com.mycompany.goormthonserver.repository.VisitJejuCacheRepository;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotSyncState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동기화 한 페이지 반영 (페이지마다 하나의 트랜잭션)
+ * 해시가 같은 행은 건드리지 않고, 바뀐 행만 엔티티 메서드로 갱신한다.
+ * 엔티티 변경은 TouristSpotChangedEvent 로 인메모리 인덱스에 전달된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VisitJejuSyncWriter {
+
+    private final TouristSpotRepository touristSpotRepository;
+    private final VisitJejuCacheRepository visitJejuCacheRepository;
+
+    /**
+     * 페이지 반영 결과
+     *
+     * @param changedExternalIds 새로 만들었거나 갱신한 콘텐츠 ID (캐시 무효화 대상)
+     */
+    public record PageResult(int created, int updated, int unchanged, List<String> changedExternalIds) {
+    }
+
+    @Transactional
+    public PageResult apply(List<VisitJejuContent> contents) {
+        // 같은 페이지 안의 중복 ID 는 마지막 항목 기준
+        Map<String, VisitJejuContent> byExternalId = new LinkedHashMap<>();
+        for (VisitJejuContent content : contents) {
+            byExternalId.put(content.externalId(), content);
+        }
+        if (byExternalId.isEmpty()) {
+            return new PageResult(0, 0, 0, List.of());
+        }
+
+        Map<Long, VisitJejuContent> changedById = new HashMap<>();
+        List<VisitJejuContent> created = new ArrayList<>();
+        Map<String, TouristSpotSyncState> existing = new HashMap<>();
+        for (TouristSpotSyncState state : touristSpotRepository.findSyncStatesByExternalIdIn(byExternalId.keySet())) {
+            existing.put(state.getExternalId(), state);
+        }
+        for (VisitJejuContent content : byExternalId.values()) {
+            TouristSpotSyncState state = existing.get(content.externalId());
+            if (state == null) {
+                created.add(content);
+            } else if (!content.hash().equals(state.getContentHash())) {
+                changedById.put(state.getId(), content);
+            }
+        }
+
+        List<String> updatedExternalIds = new ArrayList<>(changedById.size());
+        for (TouristSpot spot : touristSpotRepository.findAllById(changedById.keySet())) {
+            VisitJejuContent content = changedById.get(spot.getId());
+            apply(spot, content);
+            updatedExternalIds.add(content.externalId());
+        }
+        if (!updatedExternalIds.isEmpty()) {
+            visitJejuCacheRepository.expireByExternalIdIn(updatedExternalIds, LocalDateTime.now());
+        }
+
+        List<String> changedExternalIds = new ArrayList<>(updatedExternalIds);
+        List<TouristSpot> newSpots = new ArrayList<>(created.size());
+        for (VisitJejuContent content : created) {
+            TouristSpot spot = TouristSpot.create(content.externalId(), content.name(), content.address(),
+                    content.latitude(), content.longitude());
+            apply(spot, content);
+            spot.updateSource(TouristSpot.SOURCE_VISITJEJU);
+            newSpots.add(spot);
+            changedExternalIds.add(content.externalId());
+        }
+        touristSpotRepository.saveAll(newSpots);
+
+        int unchanged = byExternalId.size() - updatedExternalIds.size() - created.size();
+        return new PageResult(created.size(), updatedExternalIds.size(), unchanged, changedExternalIds);
+    }
+
+    private static void apply(TouristSpot spot, VisitJejuContent content) {
+        // 설명(description)은 서비스에서 작성한 문구라 이미 있으면 유지
+        String description = spot.getDescription() != null ? spot.getDescription() : content.defaultDescription();
+        spot.updateBasicInfo(content.name(), content.address(), description);
+        spot.updateLocation(content.latitude(), content.longitude());
+        spot.updateCategory(content.category(), content.tag());
+        spot.updateImagePath(content.imgPath());
+        spot.updateContentHash(content.hash());
+    }
+}
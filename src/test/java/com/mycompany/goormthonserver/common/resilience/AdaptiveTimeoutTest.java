@@ -0,0 +1,62 @@
+package com.mycompany.goormthonserver.common.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdaptiveTimeoutTest {
+
+    @Test
+    void usesMaxUntilEnoughSamples() {
+        AdaptiveTimeout timeout = new AdaptiveTimeout(Duration.ofMillis(100), Duration.ofMillis(10_000), 2.0, 100, 20);
+        for (int i = 0; i < 19; i++) {
+            timeout.record(50);
+        }
+        assertEquals(10_000, timeout.currentMillis());
+    }
+
+    @Test
+    void followsObservedP99() {
+        AdaptiveTimeout timeout = new AdaptiveTimeout(Duration.ofMillis(100), Duration.ofMillis(10_000), 2.0, 100, 20);
+        for (int i = 1; i <= 100; i++) {
+            timeout.record(i * 10L);  // 10 ~ 1000ms
+        }
+        assertEquals(990, timeout.p99Millis());
+        assertEquals(1_980, timeout.currentMillis());
+    }
+
+    @Test
+    void clampsToBounds() {
+        AdaptiveTimeout fast = new AdaptiveTimeout(Duration.ofMillis(500), Duration.ofMillis(10_000), 2.0, 100, 20);
+        AdaptiveTimeout slow = new AdaptiveTimeout(Duration.ofMillis(500), Duration.ofMillis(10_000), 2.0, 100, 20);
+        for (int i = 0; i < 100; i++) {
+            fast.record(5);
+            slow.record(30_000);
+        }
+        assertEquals(500, fast.currentMillis());
+        assertEquals(10_000, slow.currentMillis());
+    }
+
+    @Test
+    void timeoutSamplesLetTheLimitGrowBack() {
+        AdaptiveTimeout timeout = new AdaptiveTimeout(Duration.ofMillis(100), Duration.ofMillis(10_000), 2.0, 20, 20);
+        for (int i = 0; i < 20; i++) {
+            timeout.record(10);
+        }
+        assertEquals(100, timeout.currentMillis());
+
+        // 상류가 느려져 모든 호출이 시간 초과 → 제한 값이 표본으로 쌓이며 두 배씩 늘어남
+        long previous = timeout.currentMillis();
+        for (int i = 0; i < 3; i++) {
+            timeout.recordTimeout(timeout.currentMillis());
+            assertEquals(previous * 2, timeout.currentMillis());
+            previous = timeout.currentMillis();
+        }
+        for (int i = 0; i < 10; i++) {
+            timeout.recordTimeout(timeout.currentMillis());
+        }
+        assertEquals(10_000, timeout.currentMillis());
+    }
+}
@@ -0,0 +1,68 @@
+package com.mycompany.goormthonserver.common.resilience;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResilienceGuardTest {
+
+    // 차단기는 열리지 않게 (시간 제한·재시도 예산만 확인)
+    private static CircuitBreaker neverOpens() {
+        return new CircuitBreaker("test", 1.1, 10, 10, Duration.ofSeconds(30), 1);
+    }
+
+    @Test
+    void timeoutGrowsBackWhenUpstreamSlowsDown() {
+        // 표본 20개, 표본마다 다시 계산
+        AdaptiveTimeout timeout = new AdaptiveTimeout(Duration.ofMillis(10), Duration.ofMillis(2_000), 2.0, 20, 20);
+        ResilienceGuard guard = new ResilienceGuard(neverOpens(), new RetryBudget(0.1, 10), timeout,
+                0, Duration.ofMillis(1), 0.0);
+
+        // 빠른 응답으로 제한이 최소값까지 내려감
+        for (int i = 0; i < 20; i++) {
+            assertEquals("ok", guard.execute(() -> Mono.just("ok"), e -> true).block());
+        }
+        assertEquals(10, timeout.currentMillis());
+
+        // 상류가 50ms 로 느려짐 → 시간 초과가 표본으로 쌓여 제한이 늘어나고 결국 성공
+        Mono<String> slow = Mono.delay(Duration.ofMillis(50)).thenReturn("slow");
+        int timeouts = 0;
+        String result = null;
+        while (result == null && timeouts < 10) {
+            try {
+                result = guard.execute(() -> slow, e -> true).block();
+            } catch (RuntimeException e) {
+                assertTrue(e.getCause() instanceof TimeoutException, e.toString());
+                timeouts++;
+            }
+        }
+        assertEquals("slow", result);
+        assertTrue(timeouts > 0);
+        assertTrue(timeout.currentMillis() >= 50, "제한: " + timeout.currentMillis());
+    }
+
+    @Test
+    void retriesDoNotEarnRetryBudget() {
+        RetryBudget budget = new RetryBudget(0.5, 10);
+        AdaptiveTimeout timeout = new AdaptiveTimeout(Duration.ofMillis(100), Duration.ofMillis(1_000), 2.0, 20, 20);
+        ResilienceGuard guard = new ResilienceGuard(neverOpens(), budget, timeout, 2, Duration.ofMillis(1), 0.0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> guard.execute(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new IOException("down"));
+        }, e -> true).block());
+
+        // 요청 1건 적립(가득 차 있어 그대로 10) 후 재시도 2회 사용
+        assertEquals(3, attempts.get());
+        assertEquals(8.0, budget.availableTokens(), 1e-9);
+    }
+}
@@ -0,0 +1,39 @@
+package com.mycompany.goormthonserver.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CsvReaderTest {
+
+    @Test
+    void parsesQuotedFieldsAndSkipsBom() throws IOException {
+        String csv = "﻿콘텐츠아이디,제목,위도\r\n"
+                + "CNTS_1,\"성산, 일출봉\",33.45\r\n"
+                + "CNTS_2,\"첫 줄\n둘째 줄 \"\"인용\"\"\",\n";
+
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            List<List<String>> rows = reader.readAll();
+
+            assertEquals(3, rows.size());
+            assertEquals(List.of("콘텐츠아이디", "제목", "위도"), rows.get(0));
+            assertEquals(List.of("CNTS_1", "성산, 일출봉", "33.45"), rows.get(1));
+            assertEquals(List.of("CNTS_2", "첫 줄\n둘째 줄 \"인용\"", ""), rows.get(2));
+            assertEquals(3, reader.getRowNumber());
+        }
+    }
+
+    @Test
+    void lastRowWithoutNewline() throws IOException {
+        try (CsvReader reader = new CsvReader(new StringReader("a,b\n1,2"))) {
+            assertEquals(List.of("a", "b"), reader.readRow());
+            assertEquals(List.of("1", "2"), reader.readRow());
+            assertNull(reader.readRow());
+        }
+    }
+}
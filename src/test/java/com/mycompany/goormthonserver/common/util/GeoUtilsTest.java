@@ -0,0 +1,154 @@
+package com.mycompany.goormthonserver.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoUtilsTest {
+
+    @Test
+    void boxAroundJejuIsTightAndContainsRadius() {
+        GeoBoundingBox box = GeoUtils.boundingBox(33.45, 126.57, 10.0);
+
+        assertEquals(33.45 - 10.0 / GeoUtils.KM_PER_DEGREE, box.minLatitude(), 1e-12);
+        assertEquals(33.45 + 10.0 / GeoUtils.KM_PER_DEGREE, box.maxLatitude(), 1e-12);
+        assertTrue(box.minLongitude() > 126.4 && box.maxLongitude() < 126.7);
+        assertContainsEveryPointInRadius(33.45, 126.57, 10.0, box);
+    }
+
+    @Test
+    void boxTouchingPoleSpansAllLongitudes() {
+        GeoBoundingBox north = GeoUtils.boundingBox(89.95, 10.0, 20.0);
+        assertEquals(90.0, north.maxLatitude(), 0.0);
+        assertEquals(-180.0, north.minLongitude(), 0.0);
+        assertEquals(180.0, north.maxLongitude(), 0.0);
+        assertContainsEveryPointInRadius(89.95, 10.0, 20.0, north);
+
+        GeoBoundingBox south = GeoUtils.boundingBox(-89.95, -170.0, 20.0);
+        assertEquals(-90.0, south.minLatitude(), 0.0);
+        assertEquals(-180.0, south.minLongitude(), 0.0);
+        assertEquals(180.0, south.maxLongitude(), 0.0);
+        assertContainsEveryPointInRadius(-89.95, -170.0, 20.0, south);
+    }
+
+    @Test
+    void boxNearPoleWithoutReachingItStillContainsRadius() {
+        // 극점까지는 안 닿지만 경도 폭이 크게 벌어지는 위도
+        GeoBoundingBox box = GeoUtils.boundingBox(88.5, 45.0, 50.0);
+
+        assertTrue(box.maxLatitude() < 90.0);
+        assertContainsEveryPointInRadius(88.5, 45.0, 50.0, box);
+    }
+
+    @Test
+    void boxCrossingDateLineSpansAllLongitudes() {
+        GeoBoundingBox east = GeoUtils.boundingBox(0.0, 179.95, 20.0);
+        assertEquals(-180.0, east.minLongitude(), 0.0);
+        assertEquals(180.0, east.maxLongitude(), 0.0);
+        assertContainsEveryPointInRadius(0.0, 179.95, 20.0, east);
+
+        GeoBoundingBox west = GeoUtils.boundingBox(-30.0, -179.95, 20.0);
+        assertEquals(-180.0, west.minLongitude(), 0.0);
+        assertEquals(180.0, west.maxLongitude(), 0.0);
+        assertContainsEveryPointInRadius(-30.0, -179.95, 20.0, west);
+    }
+
+    @Test
+    void prefilteredQueryReturnsSameRowsAsFullScan() {
+        // findNearbyTouristSpots 의 사각형 조건을 빼도 결과가 같아야 한다
+        Random random = new Random(42);
+        double[][] centers = {
+                {33.45, 126.57}, {89.9, 0.0}, {-89.9, 120.0}, {10.0, 179.99}, {-10.0, -179.99}, {88.7, -60.0}
+        };
+        for (double[] center : centers) {
+            double radius = 30.0;
+            GeoBoundingBox box = GeoUtils.boundingBox(center[0], center[1], radius);
+            List<Integer> fullScan = new ArrayList<>();
+            List<Integer> prefiltered = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                double lat = clampLatitude(center[0] + (random.nextDouble() - 0.5) * 2.0);
+                double lng = wrapLongitude(center[1] + (random.nextDouble() - 0.5) * 40.0);
+                boolean within = GeoUtils.distanceKm(center[0], center[1], lat, lng) <= radius;
+                if (within) {
+                    fullScan.add(i);
+                }
+                if (inside(box, lat, lng) && within) {
+                    prefiltered.add(i);
+                }
+            }
+            assertFalse(fullScan.isEmpty());
+            assertEquals(fullScan, prefiltered);
+        }
+    }
+
+    @Test
+    void precomputedTrigMatchesPlainDistance() {
+        double lat1 = 33.4996, lng1 = 126.5312;
+        double lat2 = 33.2541, lng2 = 126.5601;
+        double radLat1 = Math.toRadians(lat1);
+        double radLat2 = Math.toRadians(lat2);
+
+        double plain = GeoUtils.distanceKm(lat1, lng1, lat2, lng2);
+        double precomputed = GeoUtils.distanceKm(Math.sin(radLat1), Math.cos(radLat1), Math.toRadians(lng1),
+                Math.sin(radLat2), Math.cos(radLat2), Math.toRadians(lng2));
+
+        assertEquals(plain, precomputed, 0.0);
+        // 제주시청 ~ 서귀포시청 약 27km
+        assertEquals(27.3, plain, 0.5);
+    }
+
+    @Test
+    void samePointIsZeroNotNaN() {
+        // 코사인 값이 1을 살짝 넘는 좌표에서도 acos 가 NaN 이 되지 않아야 한다 (SQL 의 LEAST(1.0, …))
+        for (double lat = -89.0; lat <= 89.0; lat += 0.37) {
+            double distance = GeoUtils.distanceKm(lat, 126.5312, lat, 126.5312);
+            assertFalse(Double.isNaN(distance));
+            // 구면 코사인 법칙은 0 근처 정밀도가 떨어지므로 1m 이내면 같은 지점
+            assertEquals(0.0, distance, 1e-3);
+        }
+    }
+
+    private static void assertContainsEveryPointInRadius(double lat, double lng, double radiusKm, GeoBoundingBox box) {
+        // 중심에서 방위각별로 반경 바로 안쪽 지점을 찍어 본다
+        double angular = radiusKm * 0.999 / GeoUtils.EARTH_RADIUS_KM;
+        double radLat = Math.toRadians(lat);
+        double radLng = Math.toRadians(lng);
+        for (int deg = 0; deg < 360; deg++) {
+            double bearing = Math.toRadians(deg);
+            double pointLat = Math.asin(Math.sin(radLat) * Math.cos(angular)
+                    + Math.cos(radLat) * Math.sin(angular) * Math.cos(bearing));
+            double pointLng = radLng + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(radLat),
+                    Math.cos(angular) - Math.sin(radLat) * Math.sin(pointLat));
+            double latDeg = Math.toDegrees(pointLat);
+            double lngDeg = wrapLongitude(Math.toDegrees(pointLng));
+
+            assertTrue(GeoUtils.distanceKm(lat, lng, latDeg, lngDeg) <= radiusKm);
+            assertTrue(inside(box, latDeg, lngDeg), "bearing " + deg + " outside box: " + latDeg + ", " + lngDeg);
+        }
+    }
+
+    private static boolean inside(GeoBoundingBox box, double lat, double lng) {
+        return lat >= box.minLatitude() && lat <= box.maxLatitude()
+                && lng >= box.minLongitude() && lng <= box.maxLongitude();
+    }
+
+    private static double clampLatitude(double lat) {
+        return Math.max(-90.0, Math.min(90.0, lat));
+    }
+
+    private static double wrapLongitude(double lng) {
+        if (lng > 180.0) {
+            return lng - 360.0;
+        }
+        if (lng < -180.0) {
+            return lng + 360.0;
+        }
+        return lng;
+    }
+}
@@ -0,0 +1,137 @@
+package com.mycompany.goormthonserver.common.util;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Object> flights = new SingleFlight<>();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    // 구독될 때마다 호출 수를 세는 상류
+    private Mono<Object> upstream(Mono<Object> result) {
+        return Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return result;
+        });
+    }
+
+    @Test
+    void concurrentSubscribersShareOneUpstreamCall() throws Exception {
+        int threads = 8;
+        Sinks.One<Object> response = Sinks.one();
+        Object value = new Object();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch ready = new CountDownLatch(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Object>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    ready.countDown();
+                    await(start);
+                    return flights.execute("CNTS_1", () -> upstream(response.asMono())).block();
+                }, executor));
+            }
+            ready.await(5, TimeUnit.SECONDS);
+            start.countDown();
+
+            // 모든 구독자가 합류할 때까지 기다린 뒤 응답
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (flights.sharedCallCount() < threads - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            response.tryEmitValue(value);
+
+            for (CompletableFuture<Object> result : results) {
+                assertSame(value, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(threads - 1, flights.sharedCallCount());
+        assertEquals(0, flights.inFlightCount());
+
+        // 끝난 뒤에는 다시 상류 호출
+        flights.execute("CNTS_1", () -> upstream(Mono.just(value))).block();
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void keyIsReleasedAfterError() {
+        Sinks.One<Object> response = Sinks.one();
+        Mono<Object> first = flights.execute("CNTS_1", () -> upstream(response.asMono()));
+        Mono<Object> second = flights.execute("CNTS_1", () -> upstream(response.asMono()));
+        CompletableFuture<Object> firstResult = first.toFuture();
+        CompletableFuture<Object> secondResult = second.toFuture();
+        assertEquals(1, flights.inFlightCount());
+
+        response.tryEmitError(new IllegalStateException("upstream down"));
+
+        assertTrue(firstResult.isCompletedExceptionally());
+        assertTrue(secondResult.isCompletedExceptionally());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(0, flights.inFlightCount());
+
+        assertEquals("ok", flights.execute("CNTS_1", () -> upstream(Mono.just("ok"))).block());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void upstreamIsCancelledWhenEverySubscriberCancels() {
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        Mono<Object> never = Mono.never().doOnCancel(() -> upstreamCancelled.set(true));
+
+        Disposable first = flights.execute("CNTS_1", () -> upstream(never)).subscribe();
+        Disposable second = flights.execute("CNTS_1", () -> upstream(never)).subscribe();
+        assertEquals(1, upstreamCalls.get());
+
+        // 한 구독자만 취소하면 다른 구독자를 위해 계속 진행
+        first.dispose();
+        assertFalse(upstreamCancelled.get());
+        assertEquals(1, flights.inFlightCount());
+
+        second.dispose();
+        assertTrue(upstreamCancelled.get());
+        assertEquals(0, flights.inFlightCount());
+
+        assertEquals("ok", flights.execute("CNTS_1", () -> upstream(Mono.just("ok"))).block());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void emptyResultCompletesEverySubscriberAndReleasesKey() {
+        assertNull(flights.execute("CNTS_1", () -> upstream(Mono.empty())).block());
+        assertEquals(0, flights.inFlightCount());
+
+        assertNull(flights.execute("CNTS_1", () -> upstream(Mono.empty())).block());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
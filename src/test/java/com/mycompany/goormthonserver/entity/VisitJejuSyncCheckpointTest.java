@@ -0,0 +1,46 @@
+package com.mycompany.goormthonserver.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VisitJejuSyncCheckpointTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 9, 1, 4, 30);
+    private static final Duration WINDOW = Duration.ofHours(24);
+
+    @Test
+    void resumesAfterLastAppliedPage() {
+        VisitJejuSyncCheckpoint checkpoint = new VisitJejuSyncCheckpoint("catalogue:c1");
+        assertEquals(1, checkpoint.resumePage(NOW, WINDOW));
+
+        checkpoint.start(1, 10, NOW);
+        checkpoint.advance(1, 5, 2, NOW);
+        checkpoint.advance(2, 1, 0, NOW.plusMinutes(1));
+
+        assertEquals(3, checkpoint.resumePage(NOW.plusHours(1), WINDOW));
+        assertEquals(6, checkpoint.getCreatedCount());
+        assertEquals(2, checkpoint.getUpdatedCount());
+    }
+
+    @Test
+    void startsOverWhenCompletedOrStale() {
+        VisitJejuSyncCheckpoint checkpoint = new VisitJejuSyncCheckpoint("catalogue:c1");
+        checkpoint.start(1, 10, NOW);
+        checkpoint.advance(4, 3, 3, NOW);
+
+        assertEquals(1, checkpoint.resumePage(NOW.plusDays(2), WINDOW));
+
+        checkpoint.start(5, 10, NOW.plusMinutes(5));
+        assertEquals(3, checkpoint.getCreatedCount());
+        checkpoint.complete(NOW.plusMinutes(10));
+        assertEquals(1, checkpoint.resumePage(NOW.plusMinutes(11), WINDOW));
+
+        checkpoint.start(1, 10, NOW.plusDays(1));
+        assertEquals(0, checkpoint.getCreatedCount());
+        assertEquals(0, checkpoint.getLastPage());
+    }
+}
@@ -0,0 +1,51 @@
+package com.mycompany.goormthonserver.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvEncodingDetectorTest {
+
+    private static final String CSV = "콘텐츠아이디,콘텐츠분류,제목\nCNTS_1,관광지,성산일출봉\n";
+
+    @Test
+    void detectsUtf8WithAndWithoutBom() {
+        byte[] utf8 = CSV.getBytes(StandardCharsets.UTF_8);
+        byte[] withBom = ("﻿" + CSV).getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(StandardCharsets.UTF_8, CsvEncodingDetector.detect(utf8, true));
+        assertEquals(StandardCharsets.UTF_8, CsvEncodingDetector.detect(withBom, true));
+    }
+
+    @Test
+    void detectsMs949() {
+        byte[] ms949 = CSV.getBytes(CsvEncodingDetector.MS949);
+
+        assertEquals(CsvEncodingDetector.MS949, CsvEncodingDetector.detect(ms949, true));
+    }
+
+    @Test
+    void truncatedSampleIsStillUtf8() {
+        byte[] utf8 = CSV.getBytes(StandardCharsets.UTF_8);
+        // 멀티바이트 문자 중간에서 잘린 앞부분
+        byte[] sample = Arrays.copyOf(utf8, 2);
+
+        assertEquals(StandardCharsets.UTF_8, CsvEncodingDetector.detect(sample, false));
+    }
+
+    @Test
+    void streamIsRewoundAfterDetection() throws IOException {
+        byte[] ms949 = CSV.getBytes(CsvEncodingDetector.MS949);
+        InputStream in = new BufferedInputStream(new ByteArrayInputStream(ms949));
+
+        assertEquals(CsvEncodingDetector.MS949, CsvEncodingDetector.detect(in));
+        assertEquals(CSV, new String(in.readAllBytes(), CsvEncodingDetector.MS949));
+    }
+}
@@ -0,0 +1,58 @@
+package com.mycompany.goormthonserver.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TouristSpotCsvRowTest {
+
+    private static final Map<String, Integer> HEADER = TouristSpotCsvRow.headerIndex(
+            List.of("콘텐츠아이디", "콘텐츠분류", "제목", "지번주소", "도로명주소", "위도", "경도"));
+    private static final Set<String> TOURIST_SPOT = Set.of("관광지");
+
+    @Test
+    void prefersRoadAddress() {
+        TouristSpotCsvRow row = TouristSpotCsvRow.parse(
+                List.of("CNTS_1", "관광지", " 성산일출봉 ", "성산리 1", "일출로 284-12", "33.458", "126.942"),
+                HEADER, TOURIST_SPOT);
+
+        assertEquals("CNTS_1", row.externalId());
+        assertEquals("성산일출봉", row.name());
+        assertEquals("일출로 284-12", row.address());
+        assertEquals(33.458, row.latitude(), 1e-9);
+        assertEquals("성산일출봉은(는) 제주도의 아름다운 관광지입니다.", row.description());
+
+        TouristSpotCsvRow jibunOnly = TouristSpotCsvRow.parse(
+                List.of("CNTS_2", "관광지", "용두암", "용담이동 2580", "", "33.516", "126.512"),
+                HEADER, TOURIST_SPOT);
+        assertEquals("용담이동 2580", jibunOnly.address());
+    }
+
+    @Test
+    void skipsRowsTheOldScriptSkipped() {
+        assertNull(TouristSpotCsvRow.parse(
+                List.of("CNTS_3", "음식점", "식당", "", "", "33.5", "126.5"), HEADER, TOURIST_SPOT));
+        assertNull(TouristSpotCsvRow.parse(
+                List.of("CNTS_4", "관광지", "좌표없음", "", "", "", ""), HEADER, TOURIST_SPOT));
+        assertNull(TouristSpotCsvRow.parse(
+                List.of("CNTS_5", "관광지", "영좌표", "", "", "0", "126.5"), HEADER, TOURIST_SPOT));
+        assertNull(TouristSpotCsvRow.parse(
+                List.of("", "관광지", "아이디없음", "", "", "33.5", "126.5"), HEADER, TOURIST_SPOT));
+
+        // 분류 조건이 없으면 전체
+        assertEquals("식당", TouristSpotCsvRow.parse(
+                List.of("CNTS_3", "음식점", "식당", "", "", "33.5", "126.5"), HEADER, Set.of()).name());
+    }
+
+    @Test
+    void rejectsHeaderWithoutRequiredColumns() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TouristSpotCsvRow.headerIndex(List.of("콘텐츠아이디", "제목")));
+    }
+}
@@ -0,0 +1,158 @@
+package com.mycompany.goormthonserver.importer;
+
+import com.mycompany.goormthonserver.entity.TouristSpot;
+import com.mycompany.goormthonserver.repository.TouristSpotRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ON DUPLICATE KEY UPDATE 가 필요해 테스트 프로필의 H2(MODE=MySQL)를 그대로 쓴다
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(TouristSpotImporter.class)
+@TestPropertySource(properties = "tour-spots.import.prune=true")
+class TouristSpotImporterTest {
+
+    private static final String HEADER = "콘텐츠아이디,콘텐츠분류,제목,지번주소,도로명주소,위도,경도\n";
+
+    @Autowired
+    private TouristSpotImporter touristSpotImporter;
+
+    @Autowired
+    private TouristSpotRepository touristSpotRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void visitJejuRowInCsvKeepsItsValues() throws IOException {
+        TouristSpot synced = TouristSpot.create("CNTS_V", "성산일출봉(UNESCO 세계자연유산)", "서귀포시 성산읍 일출로 284-12",
+                bd("33.45810000"), bd("126.94250000"));
+        synced.updateBasicInfo(synced.getName(), synced.getAddress(), "비짓제주 소개");
+        synced.updateContentHash("hash-v");
+        synced.updateSource(TouristSpot.SOURCE_VISITJEJU);
+        touristSpotRepository.save(synced);
+        entityManager.flush();
+
+        touristSpotImporter.importCsv(csv("CNTS_V,관광지,성산일출봉,,성산리 1,33.5,126.9\n"));
+        entityManager.clear();
+
+        TouristSpot spot = find("CNTS_V");
+        assertEquals("성산일출봉(UNESCO 세계자연유산)", spot.getName());
+        assertEquals("서귀포시 성산읍 일출로 284-12", spot.getAddress());
+        assertEquals("비짓제주 소개", spot.getDescription());
+        assertEquals(0, bd("33.45810000").compareTo(spot.getLatitude()));
+        assertEquals(Math.sin(Math.toRadians(33.4581)), spot.getLatSin(), 1e-12);
+        assertEquals("hash-v", spot.getContentHash());
+        assertEquals(TouristSpot.SOURCE_VISITJEJU, spot.getSource());
+    }
+
+    @Test
+    void overwrittenRowLosesItsContentHash() throws IOException {
+        // CSV 로 들어온 뒤 동기화가 한 번 맞춘 행 두 개 - 하나는 CSV 값이 바뀌고 하나는 그대로
+        touristSpotImporter.importCsv(csv("CNTS_1,관광지,용두암,,용담이동 2580,33.516,126.512\n"
+                + "CNTS_2,관광지,한라산,,제주시,33.3617,126.5356\n"));
+        entityManager.clear();
+        find("CNTS_1").updateContentHash("hash-1");
+        find("CNTS_2").updateContentHash("hash-2");
+        entityManager.flush();
+        entityManager.clear();
+
+        touristSpotImporter.importCsv(csv("CNTS_1,관광지,용두암 (바뀐 이름),,용담이동 2580,33.516,126.512\n"
+                + "CNTS_2,관광지,한라산,,제주시,33.3617,126.5356\n"));
+        entityManager.clear();
+
+        TouristSpot changed = find("CNTS_1");
+        assertEquals("용두암 (바뀐 이름)", changed.getName());
+        assertNull(changed.getContentHash());
+        assertEquals("hash-2", find("CNTS_2").getContentHash());
+    }
+
+    @Test
+    void reimportingSameFileKeepsUpdatedAt() throws IOException {
+        String rows = "CNTS_1,관광지,용두암,,용담이동 2580,33.516,126.512\n"
+                + "CNTS_2,관광지,한라산,,제주시,33.3617,126.5356\n";
+        TouristSpotImportResult first = touristSpotImporter.importCsv(csv(rows));
+        assertEquals(2, first.changed());
+        ageRows();
+        LocalDateTime before = find("CNTS_1").getUpdatedAt();
+        entityManager.clear();
+
+        TouristSpotImportResult second = touristSpotImporter.importCsv(csv(rows));
+        entityManager.clear();
+
+        assertEquals(2, second.upserted());
+        assertEquals(0, second.changed());
+        assertEquals(0, second.pruned());
+        TouristSpot spot = find("CNTS_1");
+        assertEquals(before, spot.getUpdatedAt());
+        assertTrue(spot.getLastImportedAt().isAfter(before));
+    }
+
+    @Test
+    void rowMissingFromFileIsDeactivated() throws IOException {
+        touristSpotImporter.importCsv(csv("CNTS_1,관광지,용두암,,용담이동 2580,33.516,126.512\n"
+                + "CNTS_2,관광지,한라산,,제주시,33.3617,126.5356\n"));
+        ageRows();
+
+        TouristSpotImportResult result = touristSpotImporter.importCsv(
+                csv("CNTS_1,관광지,용두암,,용담이동 2580,33.516,126.512\n"));
+        entityManager.clear();
+
+        assertEquals(0, result.changed());
+        assertEquals(1, result.pruned());
+        assertTrue(find("CNTS_1").isActive());
+        assertFalse(find("CNTS_2").isActive());
+    }
+
+    // 가져오기 시각이 초 단위라, 같은 초에 두 번 가져온 것처럼 보이지 않게 앞선 가져오기를 한 시간 전으로 돌린다
+    private void ageRows() {
+        LocalDateTime anHourAgo = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusHours(1);
+        entityManager.createNativeQuery("UPDATE tourist_spots SET updated_at = ?, last_imported_at = ?")
+                .setParameter(1, anHourAgo)
+                .setParameter(2, anHourAgo)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private TouristSpot find(String externalId) {
+        return entityManager.createQuery("SELECT t FROM TouristSpot t WHERE t.externalId = :externalId", TouristSpot.class)
+                .setParameter("externalId", externalId)
+                .getSingleResult();
+    }
+
+    private Path csv(String rows) throws IOException {
+        Path file = Files.createTempFile(tempDir, "spots", ".csv");
+        Files.writeString(file, HEADER + rows, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static BigDecimal bd(String value) {
+        return new BigDecimal(value);
+    }
+}
@@ -0,0 +1,203 @@
+package com.mycompany.goormthonserver.index;
+
+import com.mycompany.goormthonserver.common.dto.CursorPage;
+import com.mycompany.goormthonserver.common.util.GeoPoint;
+import com.mycompany.goormthonserver.dto.TouristSpotFacetsDto;
+import com.mycompany.goormthonserver.dto.TouristSpotLocationDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogSnapshotTest {
+
+    private static final GeoPoint CENTER = new GeoPoint(33.38, 126.55);
+    private static final String[] WORDS = {"오름", "카페", "해변", "숲길", "폭포"};
+
+    private final CatalogSnapshot snapshot = snapshot();
+
+    private static CatalogSnapshot snapshot() {
+        Random random = new Random(7);
+        int size = 400;
+        long[] ids = new long[size];
+        TouristSpotLocationDto[] spots = new TouristSpotLocationDto[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = 10L + i * 3L;  // 순번과 다른 id (오름차순)
+            // 일부는 같은 좌표·같은 이름 → 정렬 키 동률을 id 로 구분해야 함
+            boolean duplicate = i % 10 == 0 && i > 0;
+            TouristSpotLocationDto previous = duplicate ? spots[i - 1] : null;
+            spots[i] = TouristSpotLocationDto.builder()
+                    .externalId("CNTS_" + i)
+                    .name(duplicate ? previous.getName() : WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(50))
+                    .latitude(duplicate ? previous.getLatitude() : 33.2 + random.nextDouble() * 0.4)
+                    .longitude(duplicate ? previous.getLongitude() : 126.2 + random.nextDouble() * 0.7)
+                    .tag(WORDS[random.nextInt(WORDS.length)])
+                    .category(i % 4 == 0 ? "음식점" : "관광지")
+                    .build();
+        }
+        return new CatalogSnapshot(1L, ids, spots, IndexSettings.DEFAULT);
+    }
+
+    @Test
+    void nearbyPagesConcatenateToSingleQuery() {
+        List<TouristSpotLocationDto> all = snapshot.findNearby(CENTER.latitude(), CENTER.longitude(), 10.0, 1000);
+
+        List<TouristSpotLocationDto> paged = collect(after ->
+                snapshot.findNearby(CENTER.latitude(), CENTER.longitude(), 10.0, 7, after));
+
+        assertEquals(ids(all), ids(paged));
+    }
+
+    @Test
+    void keywordPagesConcatenateToSingleQuery() {
+        for (GeoPoint location : new GeoPoint[]{null, CENTER}) {
+            List<TouristSpotLocationDto> all = snapshot.searchByKeyword("카페", location, 1000);
+
+            List<TouristSpotLocationDto> paged = collect(after ->
+                    snapshot.searchByKeyword("카페", location, 6, after));
+
+            assertEquals(ids(all), ids(paged));
+        }
+    }
+
+    @Test
+    void keywordOrderMatchesSqlRanking() {
+        List<TouristSpotLocationDto> all = snapshot.findNearby(CENTER.latitude(), CENTER.longitude(), 1000.0, 1000);
+
+        // 위치 없음: 이름 접두(1) → 이름 포함(2) → 태그·소개(3), 이름, id
+        Comparator<TouristSpotLocationDto> byNameThenId = Comparator.comparing(TouristSpotLocationDto::getName)
+                .thenComparing(spot -> Long.parseLong(spot.getExternalId().substring(5)));
+        List<String> expected = all.stream()
+                .filter(spot -> rank("카페", spot) > 0)
+                .sorted(Comparator.<TouristSpotLocationDto>comparingInt(spot -> rank("카페", spot))
+                        .thenComparing(byNameThenId))
+                .map(TouristSpotLocationDto::getExternalId)
+                .toList();
+        assertEquals(400, all.size());
+        // 이름 일치와 태그에만 일치가 섞여 있어야 등급 경계까지 확인됨
+        assertTrue(all.stream().anyMatch(spot -> rank("카페", spot) == 3));
+        assertTrue(all.stream().anyMatch(spot -> rank("카페", spot) == 1));
+        assertEquals(expected, ids(snapshot.searchByKeyword("카페", null, 1000)));
+
+        // 위치 있음: 이름 일치(0) → 태그·소개(1), 거리, 이름, id
+        List<TouristSpotLocationDto> withDistance = snapshot.searchByKeyword("카페", CENTER, 1000);
+        for (int i = 1; i < withDistance.size(); i++) {
+            TouristSpotLocationDto previous = withDistance.get(i - 1);
+            TouristSpotLocationDto current = withDistance.get(i);
+            int previousTier = rank("카페", previous) == 3 ? 1 : 0;
+            int currentTier = rank("카페", current) == 3 ? 1 : 0;
+            assertTrue(previousTier < currentTier || (previousTier == currentTier
+                    && (previous.getDistance() < current.getDistance()
+                    || (previous.getDistance() == current.getDistance()
+                    && byNameThenId.compare(previous, current) < 0))));
+        }
+        assertEquals(expected.size(), withDistance.size());
+    }
+
+    // TouristSpotRepository.findByKeyword 의 matchRank (0 = 불일치)
+    private static int rank(String keyword, TouristSpotLocationDto spot) {
+        if (spot.getName().startsWith(keyword)) {
+            return 1;
+        }
+        if (spot.getName().contains(keyword)) {
+            return 2;
+        }
+        return spot.getTag() != null && spot.getTag().contains(keyword) ? 3 : 0;
+    }
+
+    @Test
+    void nearestFiltersByCategoryWithoutRadius() {
+        // 마라도 남쪽 해상 (반경 10km 안에 관광지 없음)
+        List<TouristSpotLocationDto> nearest = snapshot.findNearest(32.9, 126.27, 1000, "음식점");
+
+        assertEquals(100, nearest.size());
+        for (int i = 0; i < nearest.size(); i++) {
+            assertEquals("음식점", nearest.get(i).getCategory());
+            assertTrue(nearest.get(i).getDistance() > 10.0);
+            assertTrue(i == 0 || nearest.get(i - 1).getDistance() <= nearest.get(i).getDistance());
+        }
+        assertEquals(0, snapshot.findNearest(32.9, 126.27, 10, "없는분류").size());
+    }
+
+    @Test
+    void filteredPagesMatchUnfilteredResultsNarrowedByFilter() {
+        SpotFilter filter = SpotFilter.of("관광지", "오름");
+        List<String> expected = snapshot.findNearby(CENTER.latitude(), CENTER.longitude(), 10.0, 1000).stream()
+                .filter(spot -> "관광지".equals(spot.getCategory()) && "오름".equals(spot.getTag()))
+                .map(TouristSpotLocationDto::getExternalId)
+                .toList();
+
+        List<TouristSpotLocationDto> paged = collect(after ->
+                snapshot.findNearby(CENTER.latitude(), CENTER.longitude(), 10.0, 5, after, filter));
+
+        assertTrue(expected.size() > 5);
+        assertEquals(expected, ids(paged));
+
+        List<String> keywordExpected = snapshot.searchByKeyword("카페", CENTER, 1000).stream()
+                .filter(spot -> "관광지".equals(spot.getCategory()) && "오름".equals(spot.getTag()))
+                .map(TouristSpotLocationDto::getExternalId)
+                .toList();
+        assertEquals(keywordExpected, ids(snapshot.searchByKeyword("카페", CENTER, 1000, null, filter).items()));
+    }
+
+    @Test
+    void facetsCountCategoriesWithoutCategoryFilter() {
+        List<TouristSpotLocationDto> nearby = snapshot.findNearby(CENTER.latitude(), CENTER.longitude(), 10.0, 1000);
+        long climbs = nearby.stream().filter(spot -> "오름".equals(spot.getTag())).count();
+        long sightseeingClimbs = nearby.stream()
+                .filter(spot -> "오름".equals(spot.getTag()) && "관광지".equals(spot.getCategory()))
+                .count();
+
+        TouristSpotFacetsDto facets = snapshot.nearbyFacets(CENTER.latitude(), CENTER.longitude(), 10.0,
+                SpotFilter.of("관광지", "오름"), 20);
+
+        assertTrue(sightseeingClimbs > 0);
+        assertEquals(sightseeingClimbs, facets.getTotal());
+        // 분류 개수는 분류 조건 없이 (태그 조건만) 센다
+        assertEquals(climbs, (long) facets.getCategories().getOrDefault("음식점", 0)
+                + facets.getCategories().getOrDefault("관광지", 0));
+        assertEquals(Map.of("오름", (int) sightseeingClimbs), facets.getTags());
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPage<TouristSpotLocationDto> page = snapshot.searchByKeyword("없는관광지", null, 10, null);
+
+        assertEquals(0, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void cursorFromSqlPathIsRejected() {
+        SpotCursor sql = SpotCursor.ofDistance(SpotCursor.Source.SQL, 1.0, 10L);
+
+        assertThrows(IllegalArgumentException.class, () -> snapshot.findNearby(33.38, 126.55, 20.0, 10, sql));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.searchByKeyword("오름", CENTER, 10, sql));
+    }
+
+    private static List<TouristSpotLocationDto> collect(Function<SpotCursor, CursorPage<TouristSpotLocationDto>> fetch) {
+        List<TouristSpotLocationDto> results = new ArrayList<>();
+        SpotCursor after = null;
+        while (true) {
+            CursorPage<TouristSpotLocationDto> page = fetch.apply(after);
+            results.addAll(page.items());
+            if (!page.hasNext()) {
+                return results;
+            }
+            after = SpotCursor.decode(page.nextCursor());
+        }
+    }
+
+    private static List<String> ids(List<TouristSpotLocationDto> spots) {
+        return spots.stream().map(TouristSpotLocationDto::getExternalId).toList();
+    }
+}
@@ -0,0 +1,61 @@
+package com.mycompany.goormthonserver.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FacetIndexTest {
+
+    private static final String[] CATEGORIES = {"관광지", "관광지", "음식점", "관광지", null};
+    private static final String[] TAGS = {
+            "일출,오름,경관/포토,부모",
+            "오름, 부모 ,오름",
+            "부모,맛집",
+            "해변",
+            null
+    };
+
+    private final FacetIndex index = new FacetIndex(CATEGORIES, TAGS);
+
+    @Test
+    void parsesTagStringIntoDistinctTrimmedTags() {
+        assertEquals(List.of("오름", "부모"), SpotFilter.parseTags("오름, 부모 ,오름,,"));
+        assertTrue(SpotFilter.of(" ", "").isEmpty());
+        assertEquals(new SpotFilter("관광지", List.of("오름")), SpotFilter.of(" 관광지 ", "오름"));
+    }
+
+    @Test
+    void filterIntersectsCategoryAndAllTags() {
+        assertNull(index.filter(SpotFilter.NONE));
+
+        OrdinalBitmap climbWithKids = index.filter(SpotFilter.of(null, "오름,부모"));
+        assertEquals(2, climbWithKids.cardinality());
+        assertTrue(climbWithKids.contains(0) && climbWithKids.contains(1));
+
+        OrdinalBitmap restaurantsWithKids = index.filter(SpotFilter.of("음식점", "부모"));
+        assertEquals(1, restaurantsWithKids.cardinality());
+        assertTrue(restaurantsWithKids.contains(2));
+
+        // 없는 태그가 하나라도 있으면 결과 없음
+        assertEquals(0, index.filter(SpotFilter.of(null, "오름,없는태그")).cardinality());
+        assertEquals(0, index.filter(SpotFilter.of("없는분류", null)).cardinality());
+    }
+
+    @Test
+    void countsFacetsWithinCandidatesByCountThenName() {
+        Map<String, Integer> tags = index.countTags(index.all(), 10);
+        assertEquals(List.of("부모", "오름", "경관/포토", "맛집", "일출", "해변"), List.copyOf(tags.keySet()));
+        assertEquals(3, (int) tags.get("부모"));
+
+        OrdinalBitmap firstTwo = OrdinalBitmap.of(5, new int[]{0, 1});
+        assertEquals(Map.of("관광지", 2), index.countCategories(firstTwo, 10));
+        assertEquals(2, index.countTags(firstTwo, 2).size());
+        assertFalse(index.countTags(firstTwo, 10).containsKey("해변"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.mycompany.goormthonserver.index;
+
+import com.mycompany.goormthonserver.common.util.GeoUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GeoGridIndexTest {
+
+    @Test
+    void radiusQueryMatchesFullScan() {
+        Random random = new Random(42);
+        int size = 5_000;
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            // 제주도 범위
+            latitudes[i] = 33.1 + random.nextDouble() * 0.5;
+            longitudes[i] = 126.1 + random.nextDouble() * 0.9;
+        }
+        GeoGridIndex index = GeoGridIndex.build(latitudes, longitudes, 0.01);
+
+        for (int q = 0; q < 200; q++) {
+            double lat = 33.1 + random.nextDouble() * 0.5;
+            double lng = 126.1 + random.nextDouble() * 0.9;
+            double radius = 0.5 + random.nextDouble() * 10;
+            int limit = 1 + random.nextInt(30);
+
+            int[] expected = IntStream.range(0, size)
+                    .boxed()
+                    .filter(i -> GeoUtils.distanceKm(lat, lng, latitudes[i], longitudes[i]) <= radius)
+                    .sorted(Comparator.<Integer>comparingDouble(
+                                    i -> GeoUtils.distanceKm(lat, lng, latitudes[i], longitudes[i]))
+                            .thenComparingInt(i -> i))
+                    .limit(limit)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            TopK.Hits hits = index.findWithinRadius(lat, lng, radius, limit);
+            assertArrayEquals(expected, hits.ordinals());
+        }
+    }
+
+    @Test
+    void nearestMatchesFullScanWithoutRadius() {
+        Random random = new Random(5);
+        int size = 3_000;
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = 33.1 + random.nextDouble() * 0.5;
+            longitudes[i] = 126.1 + random.nextDouble() * 0.9;
+        }
+        GeoGridIndex index = GeoGridIndex.build(latitudes, longitudes, 0.01);
+
+        // 섬 안, 마라도 남쪽 해상, 아주 먼 곳 (반경 10km 안에 아무것도 없음)
+        double[][] queries = {{33.4, 126.5}, {32.9, 126.27}, {37.5, 127.0}, {-33.9, 151.2}};
+        for (double[] query : queries) {
+            for (IntPredicate filter : new IntPredicate[]{null, i -> i % 7 == 0}) {
+                int k = 1 + random.nextInt(20);
+                int[] expected = IntStream.range(0, size)
+                        .filter(i -> filter == null || filter.test(i))
+                        .boxed()
+                        .sorted(Comparator.<Integer>comparingDouble(
+                                        i -> GeoUtils.distanceKm(query[0], query[1], latitudes[i], longitudes[i]))
+                                .thenComparingInt(i -> i))
+                        .limit(k)
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+
+                assertArrayEquals(expected, index.findNearest(query[0], query[1], k, filter).ordinals());
+            }
+        }
+    }
+
+    @Test
+    void emptyIndexReturnsNothing() {
+        GeoGridIndex index = GeoGridIndex.build(new double[0], new double[0], 0.01);
+        assertEquals(0, index.findWithinRadius(33.4, 126.5, 10, 10).size());
+    }
+}
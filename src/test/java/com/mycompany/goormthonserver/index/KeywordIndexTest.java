@@ -0,0 +1,44 @@
+package com.mycompany.goormthonserver.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KeywordIndexTest {
+
+    private final KeywordIndex index = new KeywordIndex(
+            new String[]{"성산일출봉", "일출랜드", "한라산 국립공원", "우도", "Jeju Folk Village"},
+            new String[]{"일출,오름,경관/포토,부모", null, "등산,자연", "섬,해변", "민속"},
+            new String[]{"바다위에 우뚝 솟아난 수성화산", "", "한국 최고봉", "성산항에서 배로 15분", null});
+
+    @Test
+    void ranksNamePrefixBeforeContainsBeforeOtherFields() {
+        KeywordIndex.Matches matches = index.search("일출");
+
+        assertArrayEquals(new int[]{0, 1}, matches.ordinals());
+        assertArrayEquals(new int[]{KeywordIndex.TIER_NAME_CONTAINS, KeywordIndex.TIER_NAME_PREFIX}, matches.tiers());
+    }
+
+    @Test
+    void matchesTagAndIntroductionOnlyAsLowestTier() {
+        KeywordIndex.Matches matches = index.search("성산");
+
+        assertArrayEquals(new int[]{0, 3}, matches.ordinals());
+        assertArrayEquals(new int[]{KeywordIndex.TIER_NAME_PREFIX, KeywordIndex.TIER_OTHER_FIELD}, matches.tiers());
+    }
+
+    @Test
+    void singleCharacterAndCaseInsensitiveQueries() {
+        assertArrayEquals(new int[]{2}, index.search("한").ordinals());
+        assertArrayEquals(new int[]{4}, index.search("folk").ordinals());
+    }
+
+    @Test
+    void bigramCandidatesAreVerifiedAgainstText() {
+        // "산일" 과 "일출" bigram은 모두 있지만 "산일출"은 0번에만 연속으로 존재
+        assertArrayEquals(new int[]{0}, index.search("산일출").ordinals());
+        assertEquals(0, index.search("없는키워드").size());
+        assertEquals(0, index.search("  ").size());
+    }
+}
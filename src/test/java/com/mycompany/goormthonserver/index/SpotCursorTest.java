@@ -0,0 +1,54 @@
+package com.mycompany.goormthonserver.index;
+
+import org.junit.jupiter.api.Test;
+
+import static com.mycompany.goormthonserver.index.SpotCursor.Source.INDEX;
+import static com.mycompany.goormthonserver.index.SpotCursor.Source.SQL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpotCursorTest {
+
+    @Test
+    void roundTripsExactDistanceAndNameWithSeparators() {
+        SpotCursor cursor = new SpotCursor(SQL, 2, 1.2345678901234567, "카페:제주 1:2", 1532L);
+
+        SpotCursor decoded = SpotCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals(Double.doubleToLongBits(cursor.distance()), Double.doubleToLongBits(decoded.distance()));
+    }
+
+    @Test
+    void blankIsFirstPageAndGarbageIsRejected() {
+        assertNull(SpotCursor.decode(null));
+        assertNull(SpotCursor.decode(" "));
+        assertThrows(IllegalArgumentException.class, () -> SpotCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> SpotCursor.decode("MjoxOjI"));  // "2:1:2"
+        assertThrows(IllegalArgumentException.class, () -> SpotCursor.decode("MToxOjA6MTo"));  // 출처 없는 이전 형식 "1:1:0:1:"
+    }
+
+    @Test
+    void cursorFromOtherSourceIsRejected() {
+        SpotCursor sql = SpotCursor.decode(SpotCursor.ofDistance(SQL, 1.0, 1).encode());
+
+        assertEquals(SQL, sql.source());
+        assertEquals(sql, SpotCursor.requireSource(sql, SQL));
+        assertNull(SpotCursor.requireSource(null, INDEX));
+        assertThrows(IllegalArgumentException.class, () -> SpotCursor.requireSource(sql, INDEX));
+    }
+
+    @Test
+    void ordersByTierDistanceNameThenId() {
+        assertTrue(cursor(0, 9.0, "하", 9).compareTo(cursor(1, 0.0, "가", 1)) < 0);
+        assertTrue(SpotCursor.ofDistance(INDEX, 1.0, 9).compareTo(SpotCursor.ofDistance(INDEX, 2.0, 1)) < 0);
+        assertTrue(cursor(0, 1.0, "가", 9).compareTo(cursor(0, 1.0, "나", 1)) < 0);
+        assertTrue(SpotCursor.ofDistance(INDEX, 1.0, 1).compareTo(SpotCursor.ofDistance(INDEX, 1.0, 2)) < 0);
+    }
+
+    private static SpotCursor cursor(int tier, double distance, String name, long id) {
+        return new SpotCursor(INDEX, tier, distance, name, id);
+    }
+}
@@ -0,0 +1,37 @@
+package com.mycompany.goormthonserver.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class SuggestTrieTest {
+
+    private final SuggestTrie trie = new SuggestTrie(
+            new String[]{"성산일출봉", "성산", "서귀포 매일올레시장", "한라산 국립공원", "과오름", "우도"}, 10);
+
+    @Test
+    void completeSyllablePrefixRanksShorterNamesFirst() {
+        assertArrayEquals(new int[]{1, 0}, trie.suggest("성산", 10));
+    }
+
+    @Test
+    void matchesWhileSyllableIsStillBeingComposed() {
+        assertArrayEquals(new int[]{1, 0}, trie.suggest("성ㅅ", 10));
+        assertArrayEquals(new int[]{1, 0, 2}, trie.suggest("서", 10));
+        assertArrayEquals(new int[]{4}, trie.suggest("고", 10));
+    }
+
+    @Test
+    void matchesInitialConsonants() {
+        assertArrayEquals(new int[]{1, 0}, trie.suggest("ㅅㅅ", 10));
+        assertArrayEquals(new int[]{3}, trie.suggest("ㅎㄹㅅㄱ", 10));
+    }
+
+    @Test
+    void ignoresWhitespaceAndRespectsLimit() {
+        assertArrayEquals(new int[]{3}, trie.suggest("한라산국", 10));
+        assertArrayEquals(new int[]{1}, trie.suggest("ㅅ", 1));
+        assertArrayEquals(new int[0], trie.suggest("제주", 10));
+        assertArrayEquals(new int[0], trie.suggest(" ", 10));
+    }
+}
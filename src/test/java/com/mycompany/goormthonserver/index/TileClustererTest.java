@@ -0,0 +1,104 @@
+package com.mycompany.goormthonserver.index;
+
+import com.mycompany.goormthonserver.common.util.GeoBoundingBox;
+import com.mycompany.goormthonserver.dto.TouristSpotClusterDto;
+import com.mycompany.goormthonserver.dto.TouristSpotLocationDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TileClustererTest {
+
+    // 제주도 전체
+    private static final GeoBoundingBox JEJU = new GeoBoundingBox(33.1, 33.6, 126.1, 127.0);
+
+    @Test
+    void tileCoordinatesMatchSlippyMap() {
+        assertEquals(871, TileClusterer.tileX(126.55, 10));
+        assertEquals(411, TileClusterer.tileY(33.38, 10));
+        assertEquals(0, TileClusterer.tileX(-180.0, 3));
+        assertEquals(7, TileClusterer.tileX(180.0, 3));
+
+        for (int zoom = 0; zoom <= TileClusterer.MAX_ZOOM; zoom++) {
+            int x = TileClusterer.tileX(126.55, zoom);
+            int y = TileClusterer.tileY(33.38, zoom);
+            assertTrue(TileClusterer.tileLongitude(x, zoom) <= 126.55 && 126.55 < TileClusterer.tileLongitude(x + 1, zoom));
+            assertTrue(TileClusterer.tileLatitude(y + 1, zoom) < 33.38 && 33.38 <= TileClusterer.tileLatitude(y, zoom));
+        }
+    }
+
+    @Test
+    void clustersCoverEverySpotOnce() {
+        CatalogSnapshot snapshot = snapshot(2_000);
+        for (int zoom = 0; zoom <= 10; zoom++) {
+            List<TouristSpotClusterDto> clusters = snapshot.clusters(JEJU, zoom);
+            int total = clusters.stream().mapToInt(TouristSpotClusterDto::getCount).sum();
+            assertEquals(2_000, total, "zoom " + zoom);
+            // 줌이 커질수록 칸이 작아져 클러스터 수가 줄지 않는다
+            assertTrue(zoom == 0 || clusters.size() >= snapshot.clusters(JEJU, zoom - 1).size());
+        }
+    }
+
+    @Test
+    void representativeIsNearCentroid() {
+        CatalogSnapshot snapshot = snapshot(500);
+        for (TouristSpotClusterDto cluster : snapshot.clusters(JEJU, 9)) {
+            TouristSpotLocationDto representative = cluster.getRepresentative();
+            // 대표 관광지는 같은 칸(줌 9 기준 약 0.18도) 안에 있다
+            assertTrue(Math.abs(representative.getLatitude() - cluster.getLatitude()) < 0.18);
+            assertTrue(Math.abs(representative.getLongitude() - cluster.getLongitude()) < 0.18);
+            if (cluster.getCount() == 1) {
+                assertEquals(representative.getLatitude(), cluster.getLatitude(), 1e-9);
+                assertEquals(representative.getLongitude(), cluster.getLongitude(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void tilesAreComputedOnce() {
+        Random random = new Random(3);
+        double[] latitudes = new double[300];
+        double[] longitudes = new double[300];
+        for (int i = 0; i < latitudes.length; i++) {
+            latitudes[i] = 33.1 + random.nextDouble() * 0.5;
+            longitudes[i] = 126.1 + random.nextDouble() * 0.9;
+        }
+        GeoGridIndex geoIndex = GeoGridIndex.build(latitudes, longitudes, 0.01);
+        TileClusterer clusterer = new TileClusterer(latitudes, longitudes, geoIndex, 1);
+
+        TileClusterer.Cluster[] first = clusterer.tile(10, 871, 411);
+        assertSame(first, clusterer.tile(10, 871, 411));
+        // 보관 한도를 넘은 타일은 계산만 한다
+        clusterer.tile(10, 872, 411);
+        assertEquals(1, clusterer.cachedTiles());
+    }
+
+    @Test
+    void rejectsViewportTooWideForZoom() {
+        CatalogSnapshot snapshot = snapshot(10);
+        assertThrows(IllegalArgumentException.class,
+                () -> snapshot.clusters(new GeoBoundingBox(-80.0, 80.0, -170.0, 170.0), 12));
+    }
+
+    private static CatalogSnapshot snapshot(int size) {
+        Random random = new Random(11);
+        long[] ids = new long[size];
+        TouristSpotLocationDto[] spots = new TouristSpotLocationDto[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = i + 1;
+            spots[i] = TouristSpotLocationDto.builder()
+                    .externalId("CNTS_" + i)
+                    .name("관광지 " + i)
+                    .latitude(33.15 + random.nextDouble() * 0.4)
+                    .longitude(126.15 + random.nextDouble() * 0.8)
+                    .build();
+        }
+        return new CatalogSnapshot(1L, ids, spots, IndexSettings.DEFAULT);
+    }
+}
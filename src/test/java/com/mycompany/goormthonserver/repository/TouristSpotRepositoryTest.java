@@ -0,0 +1,110 @@
+package com.mycompany.goormthonserver.repository;
+
+import com.mycompany.goormthonserver.common.util.GeoUtils;
+import com.mycompany.goormthonserver.entity.TouristSpot;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotCatalogRow;
+import com.mycompany.goormthonserver.repository.projection.TouristSpotLocationRow;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class TouristSpotRepositoryTest {
+
+    @Autowired
+    private TouristSpotRepository touristSpotRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void backfillFillsOnlyMissingTrigColumns() {
+        TouristSpot missing = touristSpotRepository.save(
+                TouristSpot.create("CNTS_1", "성산일출봉", "서귀포시 성산읍", bd("33.45800000"), bd("126.94250000")));
+        TouristSpot filled = touristSpotRepository.save(
+                TouristSpot.create("CNTS_2", "한라산", "제주시", bd("33.36170000"), bd("126.53560000")));
+        entityManager.flush();
+
+        // 컬럼 추가 전 데이터처럼 미리 계산된 값을 비운다
+        entityManager.createNativeQuery(
+                        "UPDATE tourist_spots SET lat_sin = NULL, lat_cos = NULL, lng_rad = NULL WHERE id = ?")
+                .setParameter(1, missing.getId())
+                .executeUpdate();
+        entityManager.clear();
+        assertNull(touristSpotRepository.findById(missing.getId()).orElseThrow().getLatSin());
+        entityManager.clear();
+
+        int updated = touristSpotRepository.backfillTrigColumns();
+        entityManager.clear();
+
+        assertEquals(1, updated);
+        assertTrigColumns(touristSpotRepository.findById(missing.getId()).orElseThrow(), 33.458, 126.9425);
+        assertTrigColumns(touristSpotRepository.findById(filled.getId()).orElseThrow(), 33.3617, 126.5356);
+        assertEquals(0, touristSpotRepository.backfillTrigColumns());
+    }
+
+    @Test
+    void nearestDistanceMatchesGeoUtilsAndSamePointIsZero() {
+        touristSpotRepository.save(
+                TouristSpot.create("CNTS_1", "제주시청", "제주시", bd("33.49960000"), bd("126.53120000")));
+        touristSpotRepository.save(
+                TouristSpot.create("CNTS_2", "서귀포시청", "서귀포시", bd("33.25410000"), bd("126.56010000")));
+        entityManager.flush();
+
+        double lat = 33.4996;
+        double lng = 126.5312;
+        double radLat = Math.toRadians(lat);
+        List<TouristSpotLocationRow> rows = touristSpotRepository.findNearest(
+                Math.sin(radLat), Math.cos(radLat), Math.toRadians(lng), null, 10);
+
+        assertEquals(2, rows.size());
+        // 같은 좌표는 LEAST(1.0, …) 덕분에 NaN 이 아니라 0 근처
+        assertEquals("CNTS_1", rows.get(0).getExternalId());
+        assertFalse(Double.isNaN(rows.get(0).getDistance()));
+        assertEquals(0.0, rows.get(0).getDistance(), 1e-3);
+        assertEquals("CNTS_2", rows.get(1).getExternalId());
+        assertEquals(GeoUtils.distanceKm(lat, lng, 33.2541, 126.5601), rows.get(1).getDistance(), 1e-9);
+    }
+
+    @Test
+    void catalogRowsSkipInactiveSpotsInIdOrder() {
+        TouristSpot first = touristSpotRepository.save(
+                TouristSpot.create("CNTS_1", "제주시청", "제주시", bd("33.49960000"), bd("126.53120000")));
+        TouristSpot inactive = TouristSpot.create("CNTS_2", "폐쇄된 관광지", "제주시", bd("33.50000000"), bd("126.50000000"));
+        inactive.setActive(false);
+        touristSpotRepository.save(inactive);
+        TouristSpot last = touristSpotRepository.save(
+                TouristSpot.create("CNTS_4", "서귀포시청", "서귀포시", bd("33.25410000"), bd("126.56010000")));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TouristSpotCatalogRow> rows = touristSpotRepository.findCatalogRows();
+
+        assertEquals(List.of(first.getId(), last.getId()), rows.stream().map(TouristSpotCatalogRow::getId).toList());
+        assertEquals("서귀포시청", rows.get(1).getName());
+        assertEquals(0, bd("33.25410000").compareTo(rows.get(1).getLatitude()));
+        assertEquals(List.of("CNTS_4"), touristSpotRepository.findCatalogRowsByExternalIdIn(List.of("CNTS_2", "CNTS_4"))
+                .stream().map(TouristSpotCatalogRow::getExternalId).toList());
+    }
+
+    private static void assertTrigColumns(TouristSpot spot, double latitude, double longitude) {
+        double radLat = Math.toRadians(latitude);
+        assertEquals(Math.sin(radLat), spot.getLatSin(), 1e-12);
+        assertEquals(Math.cos(radLat), spot.getLatCos(), 1e-12);
+        assertEquals(Math.toRadians(longitude), spot.getLngRad(), 1e-12);
+    }
+
+    private static BigDecimal bd(String value) {
+        return new BigDecimal(value);
+    }
+}
@@ -0,0 +1,110 @@
+package com.mycompany.goormthonserver.route;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteOptimizerTest {
+
+    private static final double START_LAT = 33.38;
+    private static final double START_LNG = 126.55;
+
+    @Test
+    void roundTripOnConvexPointsFollowsTheCircle() {
+        // 원 위의 점은 교차 없는 경로가 곧 원 둘레 순서 (2-opt 국소 최적 = 최적)
+        int size = 40;
+        Integer[] shuffled = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+        Collections.shuffle(Arrays.asList(shuffled), new Random(1));
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            double angle = 2 * Math.PI * (shuffled[i] + 1) / (size + 1);
+            latitudes[i] = START_LAT + 0.2 * Math.sin(angle);
+            longitudes[i] = START_LNG + 0.2 * Math.cos(angle);
+        }
+        // 출발지도 같은 원 위 (각도 0)
+        double startLat = START_LAT;
+        double startLng = START_LNG + 0.2;
+
+        RoutePlan plan = new RouteOptimizer(Duration.ofSeconds(5), Integer.MAX_VALUE)
+                .optimize(startLat, startLng, latitudes, longitudes, true);
+
+        assertTrue(plan.converged());
+        int[] positions = Arrays.stream(plan.order()).map(i -> shuffled[i]).toArray();
+        int[] clockwise = IntStream.range(0, size).toArray();
+        int[] counterClockwise = IntStream.range(0, size).map(i -> size - 1 - i).toArray();
+        assertTrue(Arrays.equals(clockwise, positions) || Arrays.equals(counterClockwise, positions),
+                Arrays.toString(positions));
+    }
+
+    @Test
+    void openPathOnALineGoesToNearEndFirst() {
+        // 출발지 동쪽 1, 2, 3 / 서쪽 10, 11 (경도 0.01 단위) → 가까운 동쪽 끝까지 갔다가 서쪽으로
+        double[] offsets = {-11, 2, -10, 1, 3};
+        double[] latitudes = new double[offsets.length];
+        double[] longitudes = new double[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            latitudes[i] = START_LAT;
+            longitudes[i] = START_LNG + offsets[i] * 0.01;
+        }
+
+        RoutePlan plan = new RouteOptimizer(Duration.ofSeconds(5), Integer.MAX_VALUE)
+                .optimize(START_LAT, START_LNG, latitudes, longitudes, false);
+
+        assertArrayEquals(new int[]{3, 1, 4, 2, 0}, plan.order());
+        assertEquals(Arrays.stream(plan.legDistances()).sum(), plan.totalDistanceKm(), 1e-9);
+    }
+
+    @Test
+    void parallelSearchIsNeverWorseThanSingleNearestNeighbourStart() {
+        Random random = new Random(9);
+        int size = 120;
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = 33.2 + random.nextDouble() * 0.4;
+            longitudes[i] = 126.2 + random.nextDouble() * 0.7;
+        }
+
+        RoutePlan serial = new RouteOptimizer(Duration.ofSeconds(5), Integer.MAX_VALUE)
+                .optimize(START_LAT, START_LNG, latitudes, longitudes, false);
+        RoutePlan parallel = new RouteOptimizer(Duration.ofSeconds(5), 1)
+                .optimize(START_LAT, START_LNG, latitudes, longitudes, false);
+
+        assertPermutation(parallel.order(), size);
+        assertTrue(parallel.totalDistanceKm() <= serial.totalDistanceKm() + 1e-9);
+    }
+
+    @Test
+    void exhaustedTimeBudgetStillReturnsCompleteRoute() {
+        Random random = new Random(4);
+        int size = 50;
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = 33.2 + random.nextDouble() * 0.4;
+            longitudes[i] = 126.2 + random.nextDouble() * 0.7;
+        }
+
+        RoutePlan plan = new RouteOptimizer(Duration.ZERO, Integer.MAX_VALUE)
+                .optimize(START_LAT, START_LNG, latitudes, longitudes, true);
+
+        assertFalse(plan.converged());
+        assertPermutation(plan.order(), size);
+        assertEquals(0, new RouteOptimizer(Duration.ZERO, 1).optimize(START_LAT, START_LNG,
+                new double[0], new double[0], false).order().length);
+    }
+
+    private static void assertPermutation(int[] order, int size) {
+        assertArrayEquals(IntStream.range(0, size).toArray(), Arrays.stream(order).sorted().toArray());
+    }
+}
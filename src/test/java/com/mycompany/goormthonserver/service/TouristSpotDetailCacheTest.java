@@ -0,0 +1,74 @@
+package com.mycompany.goormthonserver.service;
+
+import com.mycompany.goormthonserver.entity.TouristSpotChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TouristSpotDetailCacheTest {
+
+    private TouristSpotDetailCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new TouristSpotDetailCache(null, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxWeightBytes", 1_000_000L);
+        ReflectionTestUtils.setField(cache, "expireAfterWriteMinutes", 60L);
+        ReflectionTestUtils.setField(cache, "pubSubEnabled", false);
+        cache.init();
+    }
+
+    private Optional<TouristSpotDetailCache.Entry> load(String externalId) {
+        return cache.get(externalId, key -> {
+            loads.incrementAndGet();
+            return key.startsWith("CNTS_") ? Optional.of(entry(key)) : Optional.empty();
+        });
+    }
+
+    private static TouristSpotDetailCache.Entry entry(String externalId) {
+        return new TouristSpotDetailCache.Entry(null, null, "스크립트", "성산일출봉", externalId,
+                "일출로 284-12", 33.458, 126.942, null, "관광지", null, null, null);
+    }
+
+    @Test
+    void loadsOnceAndComputesDistancePerCall() {
+        assertTrue(load("CNTS_1").isPresent());
+        assertTrue(load("CNTS_1").isPresent());
+        assertEquals(1, loads.get());
+
+        assertEquals(1.5, load("CNTS_1").get().toDto(1.5).getDistance(), 1e-9);
+    }
+
+    @Test
+    void doesNotCacheMissingSpots() {
+        assertTrue(load("unknown").isEmpty());
+        assertTrue(load("unknown").isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidatesOnChangeEvent() {
+        load("CNTS_1");
+        load("CNTS_2");
+
+        cache.onTouristSpotChanged(new TouristSpotChangedEvent("CNTS_1"));
+        load("CNTS_1");
+        load("CNTS_2");
+        assertEquals(3, loads.get());
+
+        // external_id 없는 일괄 변경은 전체 무효화
+        cache.onTouristSpotChanged(new TouristSpotChangedEvent(null));
+        load("CNTS_1");
+        load("CNTS_2");
+        assertEquals(5, loads.get());
+    }
+}
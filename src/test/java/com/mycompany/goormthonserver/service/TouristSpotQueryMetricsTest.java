@@ -0,0 +1,67 @@
+package com.mycompany.goormthonserver.service;
+
+import com.mycompany.goormthonserver.common.dto.CursorPage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 대시보드가 쓰는 지표 이름·태그가 바뀌지 않았는지 확인
+ */
+class TouristSpotQueryMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TouristSpotQueryMetrics metrics = new TouristSpotQueryMetrics(registry);
+
+    @Test
+    void recordsTimerAndResultSizePerQuerySourceAndLocation() {
+        metrics.record("nearby", TouristSpotQueryMetrics.SOURCE_INDEX, true, () -> List.of(1, 2, 3));
+        metrics.record("nearby", TouristSpotQueryMetrics.SOURCE_INDEX, true, () -> List.of(1));
+        metrics.record("nearby", TouristSpotQueryMetrics.SOURCE_SQL, true, () -> List.of());
+
+        Timer indexTimer = registry.get("tourspot.query")
+                .tags("query", "nearby", "source", "index", "location", "true")
+                .timer();
+        DistributionSummary indexResults = registry.get("tourspot.query.results")
+                .tags("query", "nearby", "source", "index", "location", "true")
+                .summary();
+        assertEquals(2, indexTimer.count());
+        assertEquals(2, indexResults.count());
+        assertEquals(4.0, indexResults.totalAmount());
+        assertEquals(3.0, indexResults.max());
+
+        DistributionSummary sqlResults = registry.get("tourspot.query.results")
+                .tags("query", "nearby", "source", "sql", "location", "true")
+                .summary();
+        assertEquals(1, sqlResults.count());
+        assertEquals(0.0, sqlResults.totalAmount());
+        assertEquals(2, registry.find("tourspot.query").timers().size());
+    }
+
+    @Test
+    void pageOptionalAndValueVariantsRecordTheirResultCount() {
+        metrics.recordPage("keyword", TouristSpotQueryMetrics.SOURCE_INDEX, false,
+                () -> new CursorPage<>(List.of("a", "b"), "next"));
+        metrics.recordOptional("detail", TouristSpotQueryMetrics.SOURCE_SQL, false, () -> Optional.of("spot"));
+        metrics.recordOptional("detail", TouristSpotQueryMetrics.SOURCE_SQL, false, Optional::empty);
+        metrics.recordValue("route", TouristSpotQueryMetrics.SOURCE_INDEX, true,
+                (int[] order) -> order.length, () -> new int[]{4, 2, 0, 1, 3});
+
+        assertEquals(2.0, registry.get("tourspot.query.results")
+                .tags("query", "keyword", "source", "index", "location", "false").summary().totalAmount());
+        DistributionSummary detail = registry.get("tourspot.query.results")
+                .tags("query", "detail", "source", "sql", "location", "false").summary();
+        assertEquals(2, detail.count());
+        assertEquals(1.0, detail.totalAmount());
+        assertEquals(5.0, registry.get("tourspot.query.results")
+                .tags("query", "route", "source", "index", "location", "true").summary().totalAmount());
+        assertEquals(1, registry.get("tourspot.query")
+                .tags("query", "route", "source", "index", "location", "true").timer().count());
+    }
+}
@@ -0,0 +1,85 @@
+package com.mycompany.goormthonserver.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * visitjeju.api.requests 타이머 이름과 operation / outcome 태그 확인 (실제 호출 없이 응답 고정)
+ */
+class VisitJejuApiClientMetricsTest {
+
+    private static final String CONTENT_JSON = """
+            {"result": "200", "items": [{"contentsid": "CNTS_1", "title": "성산일출봉"}]}
+            """;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicReference<HttpStatus> status = new AtomicReference<>(HttpStatus.OK);
+    private VisitJejuApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://visitjeju.test")
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(status.get())
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(status.get().is2xxSuccessful() ? CONTENT_JSON : "{}")
+                        .build()))
+                .build();
+        client = new VisitJejuApiClient(webClient, new ObjectMapper(), registry);
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "timeoutMs", 1_000);
+        ReflectionTestUtils.setField(client, "failureRateThreshold", 0.5);
+        ReflectionTestUtils.setField(client, "windowSize", 20);
+        ReflectionTestUtils.setField(client, "minimumCalls", 10);
+        ReflectionTestUtils.setField(client, "openDurationMs", 30_000L);
+        ReflectionTestUtils.setField(client, "halfOpenCalls", 3);
+        ReflectionTestUtils.setField(client, "maxRetries", 0);
+        ReflectionTestUtils.setField(client, "retryBackoffMs", 1L);
+        ReflectionTestUtils.setField(client, "retryBudgetRatio", 0.1);
+        ReflectionTestUtils.setField(client, "minTimeoutMs", 100L);
+        ReflectionTestUtils.setField(client, "timeoutMultiplier", 2.0);
+        client.initResilience();
+    }
+
+    @Test
+    void recordsContentCallsByOutcome() {
+        assertTrue(client.getContentById("CNTS_1").isPresent());
+
+        status.set(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertTrue(client.getContentById("CNTS_2").isEmpty());
+        client.getContentById("CNTS_3");
+
+        assertEquals(1, registry.get("visitjeju.api.requests")
+                .tags("operation", "content", "outcome", "success").timer().count());
+        assertEquals(2, registry.get("visitjeju.api.requests")
+                .tags("operation", "content", "outcome", "server_error").timer().count());
+    }
+
+    @Test
+    void separatesOperationsAndClientErrors() {
+        assertEquals(1, client.searchContents("일출", 1, 10).size());
+
+        status.set(HttpStatus.BAD_REQUEST);
+        assertTrue(client.searchContents("일출", 2, 10).isEmpty());
+
+        assertEquals(1, registry.get("visitjeju.api.requests")
+                .tags("operation", "search", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("visitjeju.api.requests")
+                .tags("operation", "search", "outcome", "client_error").timer().count());
+        assertEquals(0, registry.find("visitjeju.api.requests").tags("operation", "content").timers().size());
+    }
+}
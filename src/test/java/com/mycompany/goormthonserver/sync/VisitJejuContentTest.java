@@ -0,0 +1,70 @@
+package com.mycompany.goormthonserver.sync;
+
+import com.mycompany.goormthonserver.dto.visitjeju.ContentsCode;
+import com.mycompany.goormthonserver.dto.visitjeju.VisitJejuItem;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VisitJejuContentTest {
+
+    private static VisitJejuItem item() {
+        VisitJejuItem item = new VisitJejuItem();
+        item.setContentsid("CNTS_1");
+        item.setTitle(" 성산일출봉 ");
+        item.setAddress("성산리 1");
+        item.setRoadaddress("일출로 284-12");
+        item.setLatitude(33.458);
+        item.setLongitude(126.942);
+        item.setAlltag("일출,오름");
+        ContentsCode code = new ContentsCode();
+        code.setLabel("관광지");
+        item.setContentscd(code);
+        return item;
+    }
+
+    @Test
+    void mapsFieldsAndHashesStably() {
+        VisitJejuContent content = VisitJejuContent.from(item());
+
+        assertEquals("성산일출봉", content.name());
+        assertEquals("일출로 284-12", content.address());
+        assertEquals("33.45800000", content.latitude().toPlainString());
+        assertEquals("관광지", content.category());
+        assertEquals("일출,오름", content.tag());
+        assertEquals(64, content.hash().length());
+        assertEquals(content.hash(), VisitJejuContent.from(item()).hash());
+    }
+
+    @Test
+    void hashChangesWhenAReflectedFieldChanges() {
+        String original = VisitJejuContent.from(item()).hash();
+
+        VisitJejuItem moved = item();
+        moved.setLongitude(126.9421);
+        assertFalse(original.equals(VisitJejuContent.from(moved).hash()));
+
+        // 반영하지 않는 필드(소개글)는 해시에 영향 없음
+        VisitJejuItem reworded = item();
+        reworded.setIntroduction("새 소개글");
+        assertTrue(original.equals(VisitJejuContent.from(reworded).hash()));
+    }
+
+    @Test
+    void skipsItemsWithoutIdNameOrCoordinates() {
+        VisitJejuItem noId = item();
+        noId.setContentsid(" ");
+        assertNull(VisitJejuContent.from(noId));
+
+        VisitJejuItem noName = item();
+        noName.setTitle(null);
+        assertNull(VisitJejuContent.from(noName));
+
+        VisitJejuItem zeroLatitude = item();
+        zeroLatitude.setLatitude(0.0);
+        assertNull(VisitJejuContent.from(zeroLatitude));
+    }
+}